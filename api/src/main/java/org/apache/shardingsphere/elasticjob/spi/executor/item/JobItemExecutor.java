@@ -38,4 +38,12 @@ public interface JobItemExecutor<T extends ElasticJob> {
      * @param shardingContext sharding context
      */
     void process(T elasticJob, JobConfiguration jobConfig, JobRuntimeService jobRuntimeService, ShardingContext shardingContext);
+    
+    /**
+     * Release resources held for job when job is shut down.
+     * 
+     * @param jobName job name
+     */
+    default void shutdown(String jobName) {
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.elasticjob.dataflow.executor;
 
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.spi.executor.item.param.ShardingContext;
 import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowJob;
@@ -25,25 +27,45 @@ import org.apache.shardingsphere.elasticjob.spi.executor.item.param.JobRuntimeSe
 import org.apache.shardingsphere.elasticjob.spi.executor.item.type.ClassedJobItemExecutor;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Dataflow job executor.
+ * 
+ * <p>
+ * Prefetching threads of pipelined streaming are shared by all dataflow jobs and bounded by system variable {@value #PREFETCH_MAX_THREADS},
+ * streaming falls back to fetching and processing alternately when all of them are busy.
+ * </p>
  */
+@Slf4j
 public final class DataflowJobExecutor implements ClassedJobItemExecutor<DataflowJob> {
     
+    static final String PREFETCH_MAX_THREADS = "elasticjob.dataflow.prefetch.max-threads";
+    
+    private static final ExecutorService PREFETCH_EXECUTOR = new ThreadPoolExecutor(0, Integer.getInteger(PREFETCH_MAX_THREADS, Runtime.getRuntime().availableProcessors() * 2), 1L, TimeUnit.MINUTES,
+            new SynchronousQueue<>(), new BasicThreadFactory.Builder().namingPattern("dataflow-prefetch-%s").daemon(true).build());
+    
     @Override
     public void process(final DataflowJob elasticJob, final JobConfiguration jobConfig, final JobRuntimeService jobRuntimeService, final ShardingContext shardingContext) {
         if (Boolean.parseBoolean(jobConfig.getProps().getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false).toString())) {
             streamingExecute(elasticJob, jobConfig, jobRuntimeService, shardingContext);
         } else {
-            oneOffExecute(elasticJob, shardingContext);
+            oneOffExecute(elasticJob, jobConfig, shardingContext);
         }
     }
     
     private void streamingExecute(final DataflowJob elasticJob, final JobConfiguration jobConfig, final JobRuntimeService jobRuntimeService, final ShardingContext shardingContext) {
+        int prefetchDepth = getIntProperty(jobConfig, DataflowJobProperties.STREAM_PREFETCH_DEPTH_KEY, 0);
+        if (prefetchDepth > 0 && pipelinedStreamingExecute(elasticJob, jobConfig, jobRuntimeService, shardingContext, prefetchDepth)) {
+            return;
+        }
         List<Object> data = fetchData(elasticJob, shardingContext);
         while (null != data && !data.isEmpty()) {
-            processData(elasticJob, shardingContext, data);
+            processData(elasticJob, jobConfig, shardingContext, data);
             if (!isEligibleForJobRunning(jobConfig, jobRuntimeService)) {
                 break;
             }
@@ -51,14 +73,40 @@ public final class DataflowJobExecutor implements ClassedJobItemExecutor<Dataflo
         }
     }
     
+    private boolean pipelinedStreamingExecute(final DataflowJob elasticJob, final JobConfiguration jobConfig, final JobRuntimeService jobRuntimeService,
+                                              final ShardingContext shardingContext, final int prefetchDepth) {
+        StreamingDataPrefetcher prefetcher = new StreamingDataPrefetcher(elasticJob, shardingContext, () -> isEligibleForJobRunning(jobConfig, jobRuntimeService), prefetchDepth);
+        try {
+            PREFETCH_EXECUTOR.execute(prefetcher);
+        } catch (final RejectedExecutionException ex) {
+            log.debug("All dataflow prefetching threads are busy, job '{}' fetches and processes alternately.", jobConfig.getJobName());
+            return false;
+        }
+        try {
+            List<Object> data = prefetcher.take();
+            while (null != data) {
+                processData(elasticJob, jobConfig, shardingContext, data);
+                if (!isEligibleForJobRunning(jobConfig, jobRuntimeService)) {
+                    break;
+                }
+                data = prefetcher.take();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            prefetcher.stop();
+        }
+        return true;
+    }
+    
     private boolean isEligibleForJobRunning(final JobConfiguration jobConfig, final JobRuntimeService jobRuntimeService) {
         return !jobRuntimeService.isNeedSharding() && Boolean.parseBoolean(jobConfig.getProps().getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false).toString());
     }
     
-    private void oneOffExecute(final DataflowJob elasticJob, final ShardingContext shardingContext) {
+    private void oneOffExecute(final DataflowJob elasticJob, final JobConfiguration jobConfig, final ShardingContext shardingContext) {
         List<Object> data = fetchData(elasticJob, shardingContext);
         if (null != data && !data.isEmpty()) {
-            processData(elasticJob, shardingContext, data);
+            processData(elasticJob, jobConfig, shardingContext, data);
         }
     }
     
@@ -68,8 +116,19 @@ public final class DataflowJobExecutor implements ClassedJobItemExecutor<Dataflo
     }
     
     @SuppressWarnings("unchecked")
-    private void processData(final DataflowJob elasticJob, final ShardingContext shardingContext, final List<Object> data) {
-        elasticJob.processData(shardingContext, data);
+    private void processData(final DataflowJob elasticJob, final JobConfiguration jobConfig, final ShardingContext shardingContext, final List<Object> data) {
+        int chunkSize = getIntProperty(jobConfig, DataflowJobProperties.PROCESS_CHUNK_SIZE_KEY, 0);
+        if (chunkSize <= 0 || data.size() <= chunkSize) {
+            elasticJob.processData(shardingContext, data);
+            return;
+        }
+        int parallelism = getIntProperty(jobConfig, DataflowJobProperties.PROCESS_PARALLELISM_KEY, Runtime.getRuntime().availableProcessors());
+        new ParallelDataProcessor(elasticJob, shardingContext, data, chunkSize).process(parallelism);
+    }
+    
+    private int getIntProperty(final JobConfiguration jobConfig, final String key, final int defaultValue) {
+        String result = jobConfig.getProps().getProperty(key);
+        return null == result ? defaultValue : Integer.parseInt(result);
     }
     
     @Override
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import com.google.common.collect.Lists;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowJob;
+import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.spi.executor.item.param.ShardingContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parallel data processor.
+ * 
+ * <p>
+ * Splits fetched data into chunks and processes them with at most parallelism threads, the calling thread included.
+ * All chunks are processed even if some of them failed, failures are thrown together afterwards.
+ * Processing threads are shared by all dataflow jobs and bounded by system variable {@value #PROCESS_MAX_THREADS},
+ * the calling thread processes the remaining chunks by itself when all of them are busy.
+ * </p>
+ */
+@Slf4j
+final class ParallelDataProcessor {
+    
+    static final String PROCESS_MAX_THREADS = "elasticjob.dataflow.process.max-threads";
+    
+    private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(0, Integer.getInteger(PROCESS_MAX_THREADS, Runtime.getRuntime().availableProcessors() * 2), 1L, TimeUnit.MINUTES,
+            new SynchronousQueue<>(), new BasicThreadFactory.Builder().namingPattern("dataflow-process-%s").daemon(true).build());
+    
+    @SuppressWarnings("rawtypes")
+    private final DataflowJob elasticJob;
+    
+    private final ShardingContext shardingContext;
+    
+    private final List<List<Object>> chunks;
+    
+    private final AtomicInteger nextChunkIndex = new AtomicInteger();
+    
+    private final Queue<Throwable> causes = new ConcurrentLinkedQueue<>();
+    
+    @SuppressWarnings("rawtypes")
+    ParallelDataProcessor(final DataflowJob elasticJob, final ShardingContext shardingContext, final List<Object> data, final int chunkSize) {
+        this.elasticJob = elasticJob;
+        this.shardingContext = shardingContext;
+        chunks = Lists.partition(data, chunkSize);
+    }
+    
+    /**
+     * Process data.
+     * 
+     * @param parallelism max threads to process chunks
+     */
+    void process(final int parallelism) {
+        int workerCount = Math.min(parallelism, chunks.size());
+        Collection<Future<?>> futures = new ArrayList<>(workerCount);
+        try {
+            for (int i = 1; i < workerCount; i++) {
+                futures.add(EXECUTOR_SERVICE.submit(this::processChunks));
+            }
+        } catch (final RejectedExecutionException ignore) {
+            log.debug("All dataflow processing threads are busy, job '{}' processes remaining chunks in the calling thread.", shardingContext.getJobName());
+        }
+        processChunks();
+        awaitTermination(futures);
+        throwIfFailed();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void processChunks() {
+        int index;
+        while ((index = nextChunkIndex.getAndIncrement()) < chunks.size()) {
+            try {
+                elasticJob.processData(shardingContext, chunks.get(index));
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                causes.add(ex);
+            }
+        }
+    }
+    
+    private void awaitTermination(final Collection<Future<?>> futures) {
+        for (Future<?> each : futures) {
+            try {
+                each.get();
+            } catch (final InterruptedException ex) {
+                nextChunkIndex.set(chunks.size());
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ExecutionException ex) {
+                causes.add(ex.getCause());
+            }
+        }
+    }
+    
+    private void throwIfFailed() {
+        if (causes.isEmpty()) {
+            return;
+        }
+        Iterator<Throwable> iterator = causes.iterator();
+        JobSystemException result = new JobSystemException(String.format("Failed to process %d of %d data chunks.", causes.size(), chunks.size()), iterator.next());
+        while (iterator.hasNext()) {
+            result.addSuppressed(iterator.next());
+        }
+        throw result;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowJob;
+import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.spi.executor.item.param.ShardingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Streaming data prefetcher.
+ * 
+ * <p>
+ * Fetches the next batches into a bounded queue while the current batch is processing,
+ * until fetched data is empty or the job is no longer eligible for running.
+ * The end of fetching is always marked in the queue, so {@link #stop()} can wait for the fetching thread to leave.
+ * </p>
+ */
+final class StreamingDataPrefetcher implements Runnable {
+    
+    private static final List<Object> END = new ArrayList<>(0);
+    
+    private static final long OFFER_TIMEOUT_MILLISECONDS = 100L;
+    
+    @SuppressWarnings("rawtypes")
+    private final DataflowJob elasticJob;
+    
+    private final ShardingContext shardingContext;
+    
+    private final BooleanSupplier eligibleForJobRunning;
+    
+    private final BlockingQueue<List<Object>> queue;
+    
+    private volatile boolean stopped;
+    
+    private volatile boolean abandoned;
+    
+    private volatile Throwable cause;
+    
+    private boolean finished;
+    
+    @SuppressWarnings("rawtypes")
+    StreamingDataPrefetcher(final DataflowJob elasticJob, final ShardingContext shardingContext, final BooleanSupplier eligibleForJobRunning, final int prefetchDepth) {
+        this.elasticJob = elasticJob;
+        this.shardingContext = shardingContext;
+        this.eligibleForJobRunning = eligibleForJobRunning;
+        queue = new ArrayBlockingQueue<>(prefetchDepth);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public void run() {
+        try {
+            while (!stopped) {
+                List<Object> data = elasticJob.fetchData(shardingContext);
+                if (null == data || data.isEmpty() || !offer(data) || !eligibleForJobRunning.getAsBoolean()) {
+                    break;
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            cause = ex;
+        } finally {
+            offer(END);
+        }
+    }
+    
+    private boolean offer(final List<Object> data) {
+        boolean interrupted = false;
+        try {
+            while (!abandoned) {
+                try {
+                    if (queue.offer(data, OFFER_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (final InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            return false;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    /**
+     * Take next fetched batch.
+     * 
+     * @return next fetched batch, null if fetching is finished
+     * @throws InterruptedException interrupted exception
+     */
+    List<Object> take() throws InterruptedException {
+        List<Object> result = queue.take();
+        if (END != result) {
+            return result;
+        }
+        finished = true;
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (null != cause) {
+            throw new JobSystemException(cause);
+        }
+        return null;
+    }
+    
+    /**
+     * Stop fetching and discard batches fetched but not processed.
+     */
+    void stop() {
+        stopped = true;
+        try {
+            while (!finished) {
+                finished = END == queue.take();
+            }
+        } catch (final InterruptedException ex) {
+            abandoned = true;
+            Thread.currentThread().interrupt();
+        }
+    }
+}
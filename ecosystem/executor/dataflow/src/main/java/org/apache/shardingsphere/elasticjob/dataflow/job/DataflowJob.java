@@ -31,6 +31,11 @@ public interface DataflowJob<T> extends ElasticJob {
     
     /**
      * Fetch to be processed data.
+     * 
+     * <p>
+     * With streaming prefetch enabled, this method runs on a prefetching thread rather than the thread calling {@link #processData(ShardingContext, List)},
+     * so thread local variables set here are not visible while processing.
+     * </p>
      *
      * @param shardingContext sharding context
      * @return to be processed data
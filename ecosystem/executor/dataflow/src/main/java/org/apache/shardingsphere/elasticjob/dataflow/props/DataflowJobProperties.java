@@ -26,4 +26,19 @@ public final class DataflowJobProperties {
      * Whether to use stream mode to process dataflow job.
      */
     public static final String STREAM_PROCESS_KEY = "streaming.process";
+    
+    /**
+     * How many batches to fetch ahead while processing in stream mode, 0 means fetching and processing alternately.
+     */
+    public static final String STREAM_PREFETCH_DEPTH_KEY = "streaming.prefetch.depth";
+    
+    /**
+     * Size of chunks to split fetched data into and process in parallel, 0 means processing fetched data as a whole.
+     */
+    public static final String PROCESS_CHUNK_SIZE_KEY = "process.chunk.size";
+    
+    /**
+     * Max threads to process chunks of fetched data, available processors by default.
+     */
+    public static final String PROCESS_PARALLELISM_KEY = "process.parallelism";
 }
@@ -21,19 +21,28 @@ import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.spi.executor.item.param.ShardingContext;
 import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowJob;
 import org.apache.shardingsphere.elasticjob.dataflow.props.DataflowJobProperties;
+import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.spi.executor.item.param.JobRuntimeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -75,6 +84,60 @@ class DataflowJobExecutorTest {
         verify(elasticJob, times(1)).processData(shardingContext, data);
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithPipelinedStreamingExecute() {
+        List<String> data1 = Arrays.asList("DataflowJob1", "DataflowJob2");
+        List<String> data2 = Collections.singletonList("DataflowJob3");
+        when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("true");
+        when(properties.getProperty(DataflowJobProperties.STREAM_PREFETCH_DEPTH_KEY)).thenReturn("2");
+        when(elasticJob.fetchData(shardingContext)).thenReturn(data1, data2, Collections.emptyList());
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        InOrder inOrder = inOrder(elasticJob);
+        inOrder.verify(elasticJob).processData(shardingContext, data1);
+        inOrder.verify(elasticJob).processData(shardingContext, data2);
+        verify(elasticJob, times(3)).fetchData(shardingContext);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithPipelinedStreamingExecuteWhenNeedSharding() {
+        List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2");
+        when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("true");
+        when(properties.getProperty(DataflowJobProperties.STREAM_PREFETCH_DEPTH_KEY)).thenReturn("1");
+        when(elasticJob.fetchData(shardingContext)).thenReturn(data);
+        when(jobRuntimeService.isNeedSharding()).thenReturn(true);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        verify(elasticJob, times(1)).fetchData(shardingContext);
+        verify(elasticJob, times(1)).processData(shardingContext, data);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithPipelinedStreamingExecuteWhenFetchFailure() {
+        when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("true");
+        when(properties.getProperty(DataflowJobProperties.STREAM_PREFETCH_DEPTH_KEY)).thenReturn("1");
+        when(elasticJob.fetchData(shardingContext)).thenThrow(new IllegalStateException("fetch failure"));
+        assertThrows(IllegalStateException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext));
+        verify(elasticJob, never()).processData(any(), any());
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithPipelinedStreamingExecuteWhenProcessFailure() {
+        List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2");
+        when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("true");
+        when(properties.getProperty(DataflowJobProperties.STREAM_PREFETCH_DEPTH_KEY)).thenReturn("1");
+        when(elasticJob.fetchData(shardingContext)).thenReturn(data);
+        doThrow(new IllegalStateException("process failure")).when(elasticJob).processData(shardingContext, data);
+        assertThrows(IllegalStateException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext));
+        verify(elasticJob, times(1)).processData(shardingContext, data);
+    }
+    
     @SuppressWarnings("unchecked")
     @Test
     void assertProcessWithOneOffExecute() {
@@ -86,6 +149,37 @@ class DataflowJobExecutorTest {
         verify(elasticJob, times(1)).processData(shardingContext, data);
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithParallelChunks() {
+        List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2", "DataflowJob3", "DataflowJob4", "DataflowJob5");
+        when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("false");
+        when(properties.getProperty(DataflowJobProperties.PROCESS_CHUNK_SIZE_KEY)).thenReturn("2");
+        when(properties.getProperty(DataflowJobProperties.PROCESS_PARALLELISM_KEY)).thenReturn("2");
+        when(elasticJob.fetchData(shardingContext)).thenReturn(data);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        verify(elasticJob).processData(shardingContext, Arrays.asList("DataflowJob1", "DataflowJob2"));
+        verify(elasticJob).processData(shardingContext, Arrays.asList("DataflowJob3", "DataflowJob4"));
+        verify(elasticJob).processData(shardingContext, Collections.singletonList("DataflowJob5"));
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertProcessWithParallelChunksWhenFailure() {
+        List<String> data = Arrays.asList("DataflowJob1", "DataflowJob2", "DataflowJob3");
+        when(jobConfig.getProps()).thenReturn(properties);
+        when(properties.getOrDefault(DataflowJobProperties.STREAM_PROCESS_KEY, false)).thenReturn("false");
+        when(properties.getProperty(DataflowJobProperties.PROCESS_CHUNK_SIZE_KEY)).thenReturn("1");
+        when(elasticJob.fetchData(shardingContext)).thenReturn(data);
+        lenient().doThrow(new IllegalStateException("process failure")).when(elasticJob).processData(shardingContext, Collections.singletonList("DataflowJob1"));
+        lenient().doThrow(new IllegalStateException("process failure")).when(elasticJob).processData(shardingContext, Collections.singletonList("DataflowJob3"));
+        JobSystemException actual = assertThrows(JobSystemException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext));
+        assertThat(actual.getMessage(), is("Failed to process 2 of 3 data chunks."));
+        assertThat(actual.getSuppressed().length, is(1));
+        verify(elasticJob).processData(shardingContext, Collections.singletonList("DataflowJob2"));
+    }
+    
     @Test
     void assertGetElasticJobClass() {
         assertThat(jobExecutor.getElasticJobClass(), is(DataflowJob.class));
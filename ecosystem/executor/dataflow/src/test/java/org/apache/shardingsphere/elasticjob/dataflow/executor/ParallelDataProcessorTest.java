@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.dataflow.executor;
+
+import org.apache.shardingsphere.elasticjob.dataflow.job.DataflowJob;
+import org.apache.shardingsphere.elasticjob.spi.executor.item.param.ShardingContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ParallelDataProcessorTest {
+    
+    @Mock
+    private DataflowJob<Object> elasticJob;
+    
+    @Mock
+    private ShardingContext shardingContext;
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Test
+    void assertProcessCancelsWorkersWhenInterrupted() throws InterruptedException {
+        AtomicReference<Thread> callingThread = new AtomicReference<>();
+        CountDownLatch workerStarted = new CountDownLatch(1);
+        CountDownLatch workerInterrupted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (Thread.currentThread() == callingThread.get()) {
+                workerStarted.await(1L, TimeUnit.MINUTES);
+                return null;
+            }
+            workerStarted.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (final InterruptedException ex) {
+                workerInterrupted.countDown();
+            }
+            return null;
+        }).when(elasticJob).processData(any(), anyList());
+        AtomicBoolean interruptedAfterProcess = new AtomicBoolean();
+        Thread thread = new Thread(() -> {
+            new ParallelDataProcessor((DataflowJob) elasticJob, shardingContext, Arrays.asList("data1", "data2"), 1).process(2);
+            interruptedAfterProcess.set(Thread.currentThread().isInterrupted());
+        });
+        callingThread.set(thread);
+        thread.start();
+        while (Thread.State.WAITING != thread.getState()) {
+            Thread.sleep(10L);
+        }
+        thread.interrupt();
+        assertTrue(workerInterrupted.await(1L, TimeUnit.MINUTES));
+        thread.join(TimeUnit.MINUTES.toMillis(1L));
+        assertTrue(interruptedAfterProcess.get());
+    }
+}
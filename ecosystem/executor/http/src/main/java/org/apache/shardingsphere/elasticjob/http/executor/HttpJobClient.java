@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.http.executor;
+
+import com.google.common.base.Strings;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.apache.shardingsphere.elasticjob.http.pojo.HttpParam;
+import org.apache.shardingsphere.elasticjob.http.props.HttpJobProperties;
+import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobExecutionException;
+import org.apache.shardingsphere.elasticjob.kernel.infra.json.GsonFactory;
+import org.apache.shardingsphere.elasticjob.spi.executor.item.param.ShardingContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * HTTP job client.
+ * 
+ * <p>
+ * Keeps alive pooled connections of a job across executions,
+ * and parses HTTP parameters again only when content of job properties changed.
+ * Proxy and TLS settings are taken from system properties.
+ * </p>
+ */
+@Slf4j
+final class HttpJobClient implements Closeable {
+    
+    private final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    
+    private final CloseableHttpClient httpClient = HttpClients.custom().useSystemProperties().setConnectionManager(connectionManager).build();
+    
+    private volatile ParsedHttpParam parsedHttpParam;
+    
+    /**
+     * Execute HTTP request.
+     * 
+     * @param jobName job name
+     * @param props job properties
+     * @param shardingContext sharding context
+     */
+    void execute(final String jobName, final Properties props, final ShardingContext shardingContext) {
+        ParsedHttpParam parsed = getParsedHttpParam(props);
+        try (CloseableHttpResponse response = httpClient.execute(createRequest(parsed, shardingContext))) {
+            int responseCode = response.getStatusLine().getStatusCode();
+            HttpEntity entity = response.getEntity();
+            if (isRequestSucceed(responseCode)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("HTTP job execute result : {}", toString(entity));
+                } else {
+                    EntityUtils.consume(entity);
+                }
+            } else {
+                log.warn("HTTP job {} executed with response code {}", jobName, responseCode);
+                log.warn("HTTP job {} executed with response body {}", jobName, toString(entity));
+            }
+        } catch (final IOException ex) {
+            throw new JobExecutionException(ex);
+        }
+    }
+    
+    private ParsedHttpParam getParsedHttpParam(final Properties props) {
+        ParsedHttpParam result = parsedHttpParam;
+        if (null != result && result.props.equals(props)) {
+            return result;
+        }
+        Properties snapshot = new Properties();
+        snapshot.putAll(props);
+        HttpParam httpParam = new HttpParam(props);
+        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(httpParam.getConnectTimeoutMilliseconds())
+                .setConnectionRequestTimeout(httpParam.getConnectTimeoutMilliseconds()).setSocketTimeout(httpParam.getReadTimeoutMilliseconds()).build();
+        connectionManager.setMaxTotal(httpParam.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(httpParam.getMaxConnections());
+        result = new ParsedHttpParam(snapshot, httpParam, requestConfig);
+        parsedHttpParam = result;
+        return result;
+    }
+    
+    private HttpUriRequest createRequest(final ParsedHttpParam parsed, final ShardingContext shardingContext) {
+        HttpParam httpParam = parsed.httpParam;
+        RequestBuilder result = RequestBuilder.create(httpParam.getMethod()).setUri(httpParam.getUrl()).setConfig(parsed.requestConfig);
+        if (!Strings.isNullOrEmpty(httpParam.getContentType())) {
+            result.setHeader("Content-Type", httpParam.getContentType());
+        }
+        result.setHeader(HttpJobProperties.SHARDING_CONTEXT_KEY, GsonFactory.getGson().toJson(shardingContext));
+        if (httpParam.isWriteMethod() && !Strings.isNullOrEmpty(httpParam.getData())) {
+            result.setEntity(new ByteArrayEntity(httpParam.getData().getBytes(StandardCharsets.UTF_8)));
+        }
+        return result.build();
+    }
+    
+    private String toString(final HttpEntity entity) throws IOException {
+        return null == entity ? "" : EntityUtils.toString(entity, StandardCharsets.UTF_8);
+    }
+    
+    private boolean isRequestSucceed(final int httpStatusCode) {
+        return HttpStatus.SC_BAD_REQUEST > httpStatusCode;
+    }
+    
+    @Override
+    public void close() {
+        try {
+            httpClient.close();
+        } catch (final IOException ex) {
+            log.warn("Close HTTP job client failure.", ex);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ParsedHttpParam {
+        
+        private final Properties props;
+        
+        private final HttpParam httpParam;
+        
+        private final RequestConfig requestConfig;
+    }
+}
@@ -45,6 +45,8 @@ public final class HttpParam {
     
     private final int readTimeoutMilliseconds;
     
+    private final int maxConnections;
+    
     public HttpParam(final Properties props) {
         url = props.getProperty(HttpJobProperties.URI_KEY);
         if (Strings.isNullOrEmpty(url)) {
@@ -58,6 +60,8 @@ public final class HttpParam {
         data = props.getProperty(HttpJobProperties.DATA_KEY);
         connectTimeoutMilliseconds = Integer.parseInt(props.getProperty(HttpJobProperties.CONNECT_TIMEOUT_KEY, "3000"));
         readTimeoutMilliseconds = Integer.parseInt(props.getProperty(HttpJobProperties.READ_TIMEOUT_KEY, "5000"));
+        String maxConnectionsValue = props.getProperty(HttpJobProperties.MAX_CONNECTIONS_KEY);
+        maxConnections = Strings.isNullOrEmpty(maxConnectionsValue) ? 100 : Integer.parseInt(maxConnectionsValue);
     }
     
     /**
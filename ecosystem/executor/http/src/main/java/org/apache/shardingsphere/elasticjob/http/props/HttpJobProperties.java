@@ -52,6 +52,11 @@ public final class HttpJobProperties {
      */
     public static final String CONTENT_TYPE_KEY = "http.content.type";
     
+    /**
+     * Max pooled HTTP connections of a job.
+     */
+    public static final String MAX_CONNECTIONS_KEY = "http.max.connections";
+    
     /**
      * HTTP sharding context.
      */
@@ -41,6 +41,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -81,6 +83,7 @@ class HttpJobExecutorTest {
     
     @BeforeEach
     void setUp() {
+        lenient().when(jobConfig.getJobName()).thenReturn("test_job");
         lenient().when(jobConfig.getProps()).thenReturn(properties);
         jobExecutor = new HttpJobExecutor();
     }
@@ -132,6 +135,29 @@ class HttpJobExecutorTest {
         jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
     }
     
+    @Test
+    void assertProcessWithCachedHttpParam() {
+        when(jobConfig.getProps().getProperty(HttpJobProperties.URI_KEY)).thenReturn(getRequestUri("/getName"));
+        when(jobConfig.getProps().getProperty(HttpJobProperties.METHOD_KEY)).thenReturn("GET");
+        when(jobConfig.getProps().getProperty(HttpJobProperties.CONNECT_TIMEOUT_KEY, "3000")).thenReturn("4000");
+        when(jobConfig.getProps().getProperty(HttpJobProperties.READ_TIMEOUT_KEY, "5000")).thenReturn("5000");
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        verify(properties, times(1)).getProperty(HttpJobProperties.URI_KEY);
+    }
+    
+    @Test
+    void assertProcessAfterShutdown() {
+        when(jobConfig.getProps().getProperty(HttpJobProperties.URI_KEY)).thenReturn(getRequestUri("/getName"));
+        when(jobConfig.getProps().getProperty(HttpJobProperties.METHOD_KEY)).thenReturn("GET");
+        when(jobConfig.getProps().getProperty(HttpJobProperties.CONNECT_TIMEOUT_KEY, "3000")).thenReturn("4000");
+        when(jobConfig.getProps().getProperty(HttpJobProperties.READ_TIMEOUT_KEY, "5000")).thenReturn("5000");
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        jobExecutor.shutdown("test_job");
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        verify(properties, times(2)).getProperty(HttpJobProperties.URI_KEY);
+    }
+    
     @Test
     void assertProcessWithIOException() {
         assertThrows(JobExecutionException.class, () -> {
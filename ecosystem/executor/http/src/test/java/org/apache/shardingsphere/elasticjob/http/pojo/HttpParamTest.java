@@ -53,6 +53,16 @@ class HttpParamTest {
         assertThat(actual.getMethod(), is("POST"));
         assertThat(actual.getConnectTimeoutMilliseconds(), is(3000));
         assertThat(actual.getReadTimeoutMilliseconds(), is(5000));
+        assertThat(actual.getMaxConnections(), is(100));
+    }
+    
+    @Test
+    void assertNewWithMaxConnections() {
+        Properties props = new Properties();
+        props.setProperty(HttpJobProperties.URI_KEY, "foo/url");
+        props.setProperty(HttpJobProperties.METHOD_KEY, "POST");
+        props.setProperty(HttpJobProperties.MAX_CONNECTIONS_KEY, "10");
+        assertThat(new HttpParam(props).getMaxConnections(), is(10));
     }
     
     @Test
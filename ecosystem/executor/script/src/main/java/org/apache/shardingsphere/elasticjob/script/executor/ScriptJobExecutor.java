@@ -31,17 +31,28 @@ import org.apache.shardingsphere.elasticjob.kernel.infra.json.GsonFactory;
 import org.apache.shardingsphere.elasticjob.script.props.ScriptJobProperties;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Script job executor.
  */
 public final class ScriptJobExecutor implements TypedJobItemExecutor {
     
+    private final Map<String, ScriptWorkerPool> workerPools = new ConcurrentHashMap<>();
+    
     @Override
     public void process(final ElasticJob elasticJob, final JobConfiguration jobConfig, final JobRuntimeService jobRuntimeService, final ShardingContext shardingContext) {
-        CommandLine commandLine = CommandLine.parse(getScriptCommandLine(jobConfig.getProps()));
-        commandLine.addArgument(GsonFactory.getGson().toJson(shardingContext), false);
+        Properties props = jobConfig.getProps();
+        String scriptCommandLine = getScriptCommandLine(props);
+        String shardingContextJson = GsonFactory.getGson().toJson(shardingContext);
+        if (Boolean.parseBoolean(props.getProperty(ScriptJobProperties.WORKER_MODE_KEY, Boolean.FALSE.toString()))) {
+            getWorkerPool(jobConfig.getJobName(), scriptCommandLine, props).execute(shardingContextJson);
+            return;
+        }
+        CommandLine commandLine = CommandLine.parse(scriptCommandLine);
+        commandLine.addArgument(shardingContextJson, false);
         try {
             new DefaultExecutor().execute(commandLine);
         } catch (final IOException ex) {
@@ -57,6 +68,33 @@ public final class ScriptJobExecutor implements TypedJobItemExecutor {
         return result;
     }
     
+    private ScriptWorkerPool getWorkerPool(final String jobName, final String scriptCommandLine, final Properties props) {
+        int size = Integer.parseInt(props.getProperty(ScriptJobProperties.WORKER_POOL_SIZE_KEY, String.valueOf(Runtime.getRuntime().availableProcessors())));
+        int maxRuns = Integer.parseInt(props.getProperty(ScriptJobProperties.WORKER_MAX_RUNS_KEY, "1000"));
+        long timeoutMilliseconds = Long.parseLong(props.getProperty(ScriptJobProperties.WORKER_TIMEOUT_MILLISECONDS_KEY, "600000"));
+        ScriptWorkerPool result = workerPools.get(jobName);
+        if (null != result && result.isConfiguredWith(scriptCommandLine, size, maxRuns, timeoutMilliseconds)) {
+            return result;
+        }
+        return workerPools.compute(jobName, (key, current) -> {
+            if (null != current) {
+                if (current.isConfiguredWith(scriptCommandLine, size, maxRuns, timeoutMilliseconds)) {
+                    return current;
+                }
+                current.close();
+            }
+            return new ScriptWorkerPool(scriptCommandLine, size, maxRuns, timeoutMilliseconds);
+        });
+    }
+    
+    @Override
+    public void shutdown(final String jobName) {
+        ScriptWorkerPool workerPool = workerPools.remove(jobName);
+        if (null != workerPool) {
+            workerPool.close();
+        }
+    }
+    
     @Override
     public String getType() {
         return "SCRIPT";
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.script.executor;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.exec.CommandLine;
+import org.apache.shardingsphere.elasticjob.kernel.infra.json.GsonFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Script worker.
+ * 
+ * <p>
+ * A long-lived script process speaking a newline-delimited protocol:
+ * it reads one sharding context JSON per line from stdin, and writes one response JSON per line to stdout.
+ * Sharding context JSON never contains line breaks because they are escaped in JSON strings, so responses must not contain them either.
+ * Stdout is read by a dedicated thread, so that a worker not responding in time can be killed.
+ * </p>
+ */
+@Slf4j
+final class ScriptWorker {
+    
+    private static final String END_OF_STREAM = "\n";
+    
+    private final Process process;
+    
+    private final BufferedWriter writer;
+    
+    private final BlockingQueue<String> responseLines = new LinkedBlockingQueue<>();
+    
+    @Getter
+    private int runs;
+    
+    ScriptWorker(final String scriptCommandLine) throws IOException {
+        process = new ProcessBuilder(CommandLine.parse(scriptCommandLine).toStrings()).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        writer = new BufferedWriter(new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8));
+        Thread readerThread = new Thread(this::readResponseLines, "script-worker-reader-" + process.hashCode());
+        readerThread.setDaemon(true);
+        readerThread.start();
+    }
+    
+    private void readResponseLines() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                responseLines.add(line);
+            }
+        } catch (final IOException ex) {
+            log.debug("Read stdout of script worker failure.", ex);
+        } finally {
+            responseLines.add(END_OF_STREAM);
+        }
+    }
+    
+    /**
+     * Send sharding context to worker and wait for response.
+     * 
+     * @param shardingContext sharding context JSON
+     * @param timeoutMilliseconds max milliseconds to wait for response, not positive means waiting until worker responded or exited
+     * @return response of worker
+     * @throws IOException worker exited, timed out or response is broken
+     */
+    Response execute(final String shardingContext, final long timeoutMilliseconds) throws IOException {
+        runs++;
+        writer.write(shardingContext);
+        writer.write('\n');
+        writer.flush();
+        String line = takeResponseLine(timeoutMilliseconds);
+        if (END_OF_STREAM.equals(line)) {
+            throw new IOException("Script worker exited without response.");
+        }
+        Response result = GsonFactory.getGson().fromJson(line, Response.class);
+        if (null == result) {
+            throw new IOException("Script worker responded with empty line.");
+        }
+        return result;
+    }
+    
+    private String takeResponseLine(final long timeoutMilliseconds) throws IOException {
+        String result;
+        try {
+            result = timeoutMilliseconds > 0 ? responseLines.poll(timeoutMilliseconds, TimeUnit.MILLISECONDS) : responseLines.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+            throw new IOException("Interrupted while waiting for script worker response.", ex);
+        }
+        if (null == result) {
+            process.destroyForcibly();
+            throw new IOException(String.format("Script worker did not respond within %d milliseconds.", timeoutMilliseconds));
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether worker process is alive.
+     * 
+     * @return worker process is alive or not
+     */
+    boolean isAlive() {
+        return process.isAlive();
+    }
+    
+    /**
+     * Close stdin of worker and destroy worker process.
+     */
+    void destroy() {
+        try {
+            writer.close();
+        } catch (final IOException ex) {
+            log.debug("Close stdin of script worker failure.", ex);
+        }
+        process.destroy();
+    }
+    
+    /**
+     * Script worker response.
+     */
+    @Getter
+    static final class Response {
+        
+        private boolean success;
+        
+        private String message;
+    }
+}
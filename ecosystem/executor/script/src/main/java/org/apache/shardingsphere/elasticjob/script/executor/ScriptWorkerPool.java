@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.script.executor;
+
+import com.google.gson.JsonParseException;
+import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobSystemException;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Script worker pool of a job.
+ * 
+ * <p>
+ * Workers are recycled after max runs, or when they exited, timed out or broke the protocol.
+ * </p>
+ */
+final class ScriptWorkerPool {
+    
+    private final String scriptCommandLine;
+    
+    private final int size;
+    
+    private final int maxRuns;
+    
+    private final long timeoutMilliseconds;
+    
+    private final Semaphore permits;
+    
+    private final Deque<ScriptWorker> idleWorkers = new LinkedBlockingDeque<>();
+    
+    private final Set<ScriptWorker> workers = ConcurrentHashMap.newKeySet();
+    
+    private volatile boolean closed;
+    
+    ScriptWorkerPool(final String scriptCommandLine, final int size, final int maxRuns, final long timeoutMilliseconds) {
+        this.scriptCommandLine = scriptCommandLine;
+        this.size = Math.max(size, 1);
+        this.maxRuns = maxRuns;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+        permits = new Semaphore(this.size);
+    }
+    
+    /**
+     * Judge whether pool is configured with the settings.
+     * 
+     * @param scriptCommandLine script command line
+     * @param size max worker size
+     * @param maxRuns runs before worker recycled
+     * @param timeoutMilliseconds max milliseconds to wait for response
+     * @return pool is configured with the settings or not
+     */
+    boolean isConfiguredWith(final String scriptCommandLine, final int size, final int maxRuns, final long timeoutMilliseconds) {
+        return this.scriptCommandLine.equals(scriptCommandLine) && this.size == Math.max(size, 1) && this.maxRuns == maxRuns && this.timeoutMilliseconds == timeoutMilliseconds;
+    }
+    
+    /**
+     * Execute sharding context on an idle worker.
+     * 
+     * @param shardingContext sharding context JSON
+     */
+    void execute(final String shardingContext) {
+        try {
+            permits.acquire();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new JobSystemException(ex);
+        }
+        ScriptWorker worker = null;
+        try {
+            worker = borrowWorker();
+            ScriptWorker.Response response = worker.execute(shardingContext, timeoutMilliseconds);
+            if (!response.isSuccess()) {
+                throw new JobSystemException("Execute script failure: %s", response.getMessage());
+            }
+        } catch (final IOException | JsonParseException ex) {
+            if (null != worker) {
+                destroyWorker(worker);
+                worker = null;
+            }
+            throw new JobSystemException("Execute script failure.", ex);
+        } finally {
+            if (null != worker) {
+                returnWorker(worker);
+            }
+            permits.release();
+        }
+    }
+    
+    private ScriptWorker borrowWorker() throws IOException {
+        ScriptWorker result;
+        while (null != (result = idleWorkers.pollFirst())) {
+            if (result.isAlive()) {
+                return result;
+            }
+            destroyWorker(result);
+        }
+        result = new ScriptWorker(scriptCommandLine);
+        workers.add(result);
+        if (closed) {
+            destroyWorker(result);
+            throw new IOException("Script worker pool is closed.");
+        }
+        return result;
+    }
+    
+    private void returnWorker(final ScriptWorker worker) {
+        if (closed || maxRuns > 0 && worker.getRuns() >= maxRuns) {
+            destroyWorker(worker);
+            return;
+        }
+        idleWorkers.offerFirst(worker);
+        if (closed) {
+            destroyWorkers();
+        }
+    }
+    
+    private void destroyWorker(final ScriptWorker worker) {
+        workers.remove(worker);
+        worker.destroy();
+    }
+    
+    /**
+     * Close pool and destroy all workers, executions on workers in use fail.
+     */
+    void close() {
+        closed = true;
+        destroyWorkers();
+    }
+    
+    private void destroyWorkers() {
+        idleWorkers.clear();
+        workers.forEach(this::destroyWorker);
+    }
+}
@@ -26,4 +26,24 @@ public final class ScriptJobProperties {
      * Script command line to be executed.
      */
     public static final String SCRIPT_KEY = "script.command.line";
+    
+    /**
+     * Keep long-lived script worker processes and send sharding context to them through stdin.
+     */
+    public static final String WORKER_MODE_KEY = "script.worker.mode";
+    
+    /**
+     * Max script worker processes of a job.
+     */
+    public static final String WORKER_POOL_SIZE_KEY = "script.worker.pool.size";
+    
+    /**
+     * Runs before a script worker process is recycled, not positive means never.
+     */
+    public static final String WORKER_MAX_RUNS_KEY = "script.worker.max.runs";
+    
+    /**
+     * Max milliseconds to wait for response of a script worker before killing it, not positive means never.
+     */
+    public static final String WORKER_TIMEOUT_MILLISECONDS_KEY = "script.worker.timeout.milliseconds";
 }
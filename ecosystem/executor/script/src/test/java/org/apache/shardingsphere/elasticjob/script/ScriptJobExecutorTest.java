@@ -29,14 +29,22 @@ import org.apache.shardingsphere.elasticjob.script.props.ScriptJobProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +65,9 @@ class ScriptJobExecutorTest {
     @Mock
     private ShardingContext shardingContext;
     
+    @TempDir
+    private Path tempDir;
+    
     private ScriptJobExecutor jobExecutor;
     
     @BeforeEach
@@ -100,6 +111,88 @@ class ScriptJobExecutorTest {
         return "echo script-job";
     }
     
+    @Test
+    void assertProcessWithWorkerMode() throws IOException {
+        Properties props = createWorkerModeProperties(createWorkerScript("while read -r line; do echo '{\"success\":true}'; done"), 1);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        when(jobConfig.getProps()).thenReturn(props);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+    }
+    
+    @Test
+    void assertProcessWithWorkerModeRecycledAfterMaxRuns() throws IOException {
+        Properties props = createWorkerModeProperties(createWorkerScript("read -r line; echo '{\"success\":true}'; read -r line; echo '{\"success\":false,\"message\":\"reused\"}'"), 1);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        when(jobConfig.getProps()).thenReturn(props);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+    }
+    
+    @Test
+    void assertProcessWithWorkerModeFailureResponse() throws IOException {
+        Properties props = createWorkerModeProperties(createWorkerScript("read -r line; echo '{\"success\":true}'; read -r line; echo '{\"success\":false,\"message\":\"reused\"}'"), 0);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        when(jobConfig.getProps()).thenReturn(props);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        JobSystemException actual = assertThrows(JobSystemException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext));
+        assertThat(actual.getMessage(), is("Execute script failure: reused"));
+    }
+    
+    @Test
+    void assertProcessWithWorkerModeExited() throws IOException {
+        Properties props = createWorkerModeProperties(createWorkerScript("exit 1"), 0);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        when(jobConfig.getProps()).thenReturn(props);
+        assertThrows(JobSystemException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext));
+    }
+    
+    @Test
+    void assertProcessWithWorkerModeTimeout() throws IOException {
+        Path marker = tempDir.resolve("timed-out");
+        Properties props = createWorkerModeProperties(createWorkerScript(
+                "if [ -f " + marker + " ]; then while read -r line; do echo '{\"success\":true}'; done; else touch " + marker + "; exec sleep 60; fi"), 0);
+        props.setProperty(ScriptJobProperties.WORKER_TIMEOUT_MILLISECONDS_KEY, "500");
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        when(jobConfig.getProps()).thenReturn(props);
+        JobSystemException actual = assertThrows(JobSystemException.class, () -> jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext));
+        assertThat(actual.getCause().getMessage(), is("Script worker did not respond within 500 milliseconds."));
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+    }
+    
+    @Test
+    void assertShutdownWithWorkerMode() throws IOException, InterruptedException {
+        Path exited = tempDir.resolve("exited");
+        Properties props = createWorkerModeProperties(createWorkerScript(
+                "trap 'touch " + exited + "; exit 0' TERM; while read -r line; do echo '{\"success\":true}'; done; touch " + exited), 0);
+        when(jobConfig.getJobName()).thenReturn("test_job");
+        when(jobConfig.getProps()).thenReturn(props);
+        jobExecutor.process(elasticJob, jobConfig, jobRuntimeService, shardingContext);
+        assertFalse(Files.exists(exited));
+        jobExecutor.shutdown("test_job");
+        long deadline = System.currentTimeMillis() + 10000L;
+        while (!Files.exists(exited) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50L);
+        }
+        assertTrue(Files.exists(exited));
+    }
+    
+    private Properties createWorkerModeProperties(final String scriptCommandLine, final int maxRuns) {
+        Properties result = new Properties();
+        result.setProperty(ScriptJobProperties.SCRIPT_KEY, scriptCommandLine);
+        result.setProperty(ScriptJobProperties.WORKER_MODE_KEY, Boolean.TRUE.toString());
+        result.setProperty(ScriptJobProperties.WORKER_POOL_SIZE_KEY, "1");
+        result.setProperty(ScriptJobProperties.WORKER_MAX_RUNS_KEY, String.valueOf(maxRuns));
+        return result;
+    }
+    
+    private String createWorkerScript(final String content) throws IOException {
+        assumeFalse(OS.isFamilyWindows());
+        Path result = tempDir.resolve("worker.sh");
+        Files.write(result, ("#!/bin/sh\n" + content + "\n").getBytes(StandardCharsets.UTF_8));
+        return "sh " + result;
+    }
+    
     @Test
     void assertGetType() {
         assertThat(jobExecutor.getType(), is("SCRIPT"));
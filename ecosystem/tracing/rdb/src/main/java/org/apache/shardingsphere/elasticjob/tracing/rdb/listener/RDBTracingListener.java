@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.elasticjob.tracing.rdb.listener;
 
+import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobEvent;
 import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobStatusTraceEvent;
 import org.apache.shardingsphere.elasticjob.spi.tracing.listener.TracingListener;
+import org.apache.shardingsphere.elasticjob.tracing.rdb.storage.repository.RDBJobEventBatchWriter;
 import org.apache.shardingsphere.elasticjob.tracing.rdb.storage.repository.RDBJobEventRepository;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * RDB tracing listener.
@@ -32,17 +36,47 @@ public final class RDBTracingListener implements TracingListener {
     
     private final RDBJobEventRepository repository;
     
+    private final RDBJobEventBatchWriter batchWriter;
+    
     public RDBTracingListener(final DataSource dataSource) throws SQLException {
         repository = RDBJobEventRepository.getInstance(dataSource);
+        batchWriter = RDBJobEventBatchWriter.isEnabled() ? RDBJobEventBatchWriter.getInstance(repository) : null;
     }
     
     @Override
     public void listen(final JobExecutionEvent executionEvent) {
-        repository.addJobExecutionEvent(executionEvent);
+        if (null == batchWriter) {
+            repository.addJobExecutionEvent(executionEvent);
+        } else {
+            batchWriter.write(executionEvent);
+        }
     }
     
     @Override
     public void listen(final JobStatusTraceEvent jobStatusTraceEvent) {
-        repository.addJobStatusTraceEvent(jobStatusTraceEvent);
+        if (null == batchWriter) {
+            repository.addJobStatusTraceEvent(jobStatusTraceEvent);
+        } else {
+            batchWriter.write(jobStatusTraceEvent);
+        }
+    }
+    
+    @Override
+    public void listen(final List<JobEvent> jobEvents) {
+        if (null != batchWriter) {
+            TracingListener.super.listen(jobEvents);
+            return;
+        }
+        List<JobExecutionEvent> executionEvents = new ArrayList<>(jobEvents.size());
+        List<JobStatusTraceEvent> statusTraceEvents = new ArrayList<>(jobEvents.size());
+        for (JobEvent each : jobEvents) {
+            if (each instanceof JobExecutionEvent) {
+                executionEvents.add((JobExecutionEvent) each);
+            } else if (each instanceof JobStatusTraceEvent) {
+                statusTraceEvents.add((JobStatusTraceEvent) each);
+            }
+        }
+        repository.addJobExecutionEvents(executionEvents);
+        repository.addJobStatusTraceEvents(statusTraceEvents);
     }
 }
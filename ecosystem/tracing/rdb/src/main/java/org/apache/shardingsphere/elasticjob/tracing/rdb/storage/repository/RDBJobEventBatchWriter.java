@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.tracing.rdb.storage.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.kernel.metrics.JobMetrics;
+import org.apache.shardingsphere.elasticjob.kernel.metrics.TracingStorageWriterStatistics;
+import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobEvent;
+import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobExecutionEvent;
+import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobStatusTraceEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RDB job event batch writer.
+ *
+ * <p>
+ * Enabled by system variable {@value #BATCH_ENABLED}.
+ * Events are put into a bounded queue without blocking, and written by one background thread in JDBC batches,
+ * which are flushed when batch size is reached or flush interval is elapsed.
+ * Events are dropped and counted when the queue is full.
+ * Queue depth, flushed and dropped counts are published through {@link JobMetrics}.
+ * </p>
+ */
+@Slf4j
+public final class RDBJobEventBatchWriter implements TracingStorageWriterStatistics {
+    
+    public static final String BATCH_ENABLED = "elasticjob.tracing.rdb.batch";
+    
+    public static final String BATCH_SIZE = "elasticjob.tracing.rdb.batch.size";
+    
+    public static final String FLUSH_INTERVAL_MILLISECONDS = "elasticjob.tracing.rdb.batch.flush-interval-milliseconds";
+    
+    public static final String QUEUE_CAPACITY = "elasticjob.tracing.rdb.batch.queue-capacity";
+    
+    private static final String STORAGE_TYPE = "RDB";
+    
+    private static final Map<RDBJobEventRepository, RDBJobEventBatchWriter> WRITERS = new ConcurrentHashMap<>();
+    
+    private final RDBJobEventRepository repository;
+    
+    private final BlockingQueue<JobEvent> queue;
+    
+    private final int batchSize;
+    
+    private final long flushIntervalMilliseconds;
+    
+    private final Thread writerThread;
+    
+    private final AtomicLong droppedCount = new AtomicLong();
+    
+    private final AtomicLong flushedBatchCount = new AtomicLong();
+    
+    private final AtomicLong flushedEventCount = new AtomicLong();
+    
+    RDBJobEventBatchWriter(final RDBJobEventRepository repository, final int queueCapacity, final int batchSize, final long flushIntervalMilliseconds) {
+        this.repository = repository;
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMilliseconds = flushIntervalMilliseconds;
+        writerThread = new Thread(this::run, "job-event-batch-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+    
+    /**
+     * Judge batch writer is enabled or not.
+     *
+     * @return batch writer is enabled or not
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(BATCH_ENABLED);
+    }
+    
+    /**
+     * The same repository always return the same batch writer instance.
+     *
+     * @param repository RDB job event repository
+     * @return batch writer instance
+     */
+    public static RDBJobEventBatchWriter getInstance(final RDBJobEventRepository repository) {
+        return WRITERS.computeIfAbsent(repository, key -> {
+            RDBJobEventBatchWriter result = new RDBJobEventBatchWriter(key,
+                    Integer.getInteger(QUEUE_CAPACITY, 10000), Integer.getInteger(BATCH_SIZE, 100), Long.getLong(FLUSH_INTERVAL_MILLISECONDS, 1000L));
+            Runtime.getRuntime().addShutdownHook(new Thread(result::close, "job-event-batch-writer-shutdown-hook"));
+            JobMetrics.registerTracingStorageWriter(STORAGE_TYPE, result);
+            return result;
+        });
+    }
+    
+    /**
+     * Write job execution event.
+     *
+     * @param event job execution event
+     * @return accepted or dropped
+     */
+    public boolean write(final JobExecutionEvent event) {
+        return offer(event);
+    }
+    
+    /**
+     * Write job status trace event.
+     *
+     * @param event job status trace event
+     * @return accepted or dropped
+     */
+    public boolean write(final JobStatusTraceEvent event) {
+        return offer(event);
+    }
+    
+    private boolean offer(final JobEvent event) {
+        if (queue.offer(event)) {
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        return false;
+    }
+    
+    private void run() {
+        List<JobEvent> batch = new ArrayList<>(batchSize);
+        long deadline = System.currentTimeMillis() + flushIntervalMilliseconds;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                JobEvent event = queue.poll(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                if (null != event) {
+                    batch.add(event);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            if (batch.size() >= batchSize || System.currentTimeMillis() >= deadline) {
+                flush(batch);
+                deadline = System.currentTimeMillis() + flushIntervalMilliseconds;
+            }
+        }
+        queue.drainTo(batch);
+        flush(batch);
+    }
+    
+    private void flush(final List<JobEvent> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<JobExecutionEvent> executionEvents = new ArrayList<>(batch.size());
+        List<JobStatusTraceEvent> statusTraceEvents = new ArrayList<>(batch.size());
+        for (JobEvent each : batch) {
+            if (each instanceof JobExecutionEvent) {
+                executionEvents.add((JobExecutionEvent) each);
+            } else {
+                statusTraceEvents.add((JobStatusTraceEvent) each);
+            }
+        }
+        try {
+            repository.addJobExecutionEvents(executionEvents);
+            repository.addJobStatusTraceEvents(statusTraceEvents);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.error("Write job events failure.", ex);
+        }
+        flushedBatchCount.incrementAndGet();
+        flushedEventCount.addAndGet(batch.size());
+        batch.clear();
+    }
+    
+    /**
+     * Flush pending events and stop writing.
+     */
+    public void close() {
+        JobMetrics.unregisterTracingStorageWriter(STORAGE_TYPE, this);
+        writerThread.interrupt();
+        try {
+            writerThread.join(flushIntervalMilliseconds + 5000L);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    @Override
+    public int getQueueDepth() {
+        return queue.size();
+    }
+    
+    @Override
+    public long getFlushedBatchCount() {
+        return flushedBatchCount.get();
+    }
+    
+    @Override
+    public long getFlushedEventCount() {
+        return flushedEventCount.get();
+    }
+    
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
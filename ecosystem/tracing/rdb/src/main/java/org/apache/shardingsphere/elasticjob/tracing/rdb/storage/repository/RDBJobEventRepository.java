@@ -36,10 +36,18 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * RDB job event repository.
@@ -53,6 +61,8 @@ public final class RDBJobEventRepository {
     
     private static final String TASK_ID_STATE_INDEX = "TASK_ID_STATE_INDEX";
     
+    private static final int MAX_CACHED_ORIGINAL_TASK_IDS = 10000;
+    
     private static final Map<DataSource, RDBJobEventRepository> STORAGE_MAP = new ConcurrentHashMap<>();
     
     private final DataSource dataSource;
@@ -61,6 +71,16 @@ public final class RDBJobEventRepository {
     
     private final RDBStorageSQLMapper sqlMapper;
     
+    private final Map<String, String> originalTaskIds = Collections.synchronizedMap(new LinkedHashMap<String, String>(16, 0.75F, true) {
+        
+        private static final long serialVersionUID = -2434815093580286155L;
+        
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHED_ORIGINAL_TASK_IDS;
+        }
+    });
+    
     private RDBJobEventRepository(final DataSource dataSource) throws SQLException {
         this.dataSource = dataSource;
         tracingStorageDatabaseType = getTracingStorageDatabaseType(dataSource);
@@ -197,15 +217,7 @@ public final class RDBJobEventRepository {
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getInsertForJobExecutionLog())) {
-            preparedStatement.setString(1, event.getId());
-            preparedStatement.setString(2, event.getJobName());
-            preparedStatement.setString(3, event.getTaskId());
-            preparedStatement.setString(4, event.getHostname());
-            preparedStatement.setString(5, event.getIp());
-            preparedStatement.setInt(6, event.getShardingItem());
-            preparedStatement.setString(7, event.getSource().toString());
-            preparedStatement.setBoolean(8, event.isSuccess());
-            preparedStatement.setTimestamp(9, new Timestamp(event.getStartTime().getTime()));
+            setInsertParameters(preparedStatement, event);
             preparedStatement.execute();
             result = true;
         } catch (final SQLException ex) {
@@ -222,9 +234,7 @@ public final class RDBJobEventRepository {
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getUpdateForJobExecutionLog())) {
-            preparedStatement.setBoolean(1, event.isSuccess());
-            preparedStatement.setTimestamp(2, new Timestamp(event.getCompleteTime().getTime()));
-            preparedStatement.setString(3, event.getId());
+            setUpdateWhenSuccessParameters(preparedStatement, event);
             if (0 == preparedStatement.executeUpdate()) {
                 return insertJobExecutionEventWhenSuccess(event);
             }
@@ -268,10 +278,7 @@ public final class RDBJobEventRepository {
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getUpdateForJobExecutionLogForFailure())) {
-            preparedStatement.setBoolean(1, event.isSuccess());
-            preparedStatement.setTimestamp(2, new Timestamp(event.getCompleteTime().getTime()));
-            preparedStatement.setString(3, truncateString(event.getFailureCause()));
-            preparedStatement.setString(4, event.getId());
+            setUpdateWhenFailureParameters(preparedStatement, event);
             if (0 == preparedStatement.executeUpdate()) {
                 return insertJobExecutionEventWhenFailure(event);
             }
@@ -310,6 +317,117 @@ public final class RDBJobEventRepository {
         return result;
     }
     
+    private void setInsertParameters(final PreparedStatement preparedStatement, final JobExecutionEvent event) throws SQLException {
+        preparedStatement.setString(1, event.getId());
+        preparedStatement.setString(2, event.getJobName());
+        preparedStatement.setString(3, event.getTaskId());
+        preparedStatement.setString(4, event.getHostname());
+        preparedStatement.setString(5, event.getIp());
+        preparedStatement.setInt(6, event.getShardingItem());
+        preparedStatement.setString(7, event.getSource().toString());
+        preparedStatement.setBoolean(8, event.isSuccess());
+        preparedStatement.setTimestamp(9, new Timestamp(event.getStartTime().getTime()));
+    }
+    
+    private void setUpdateWhenSuccessParameters(final PreparedStatement preparedStatement, final JobExecutionEvent event) throws SQLException {
+        preparedStatement.setBoolean(1, event.isSuccess());
+        preparedStatement.setTimestamp(2, new Timestamp(event.getCompleteTime().getTime()));
+        preparedStatement.setString(3, event.getId());
+    }
+    
+    private void setUpdateWhenFailureParameters(final PreparedStatement preparedStatement, final JobExecutionEvent event) throws SQLException {
+        preparedStatement.setBoolean(1, event.isSuccess());
+        preparedStatement.setTimestamp(2, new Timestamp(event.getCompleteTime().getTime()));
+        preparedStatement.setString(3, truncateString(event.getFailureCause()));
+        preparedStatement.setString(4, event.getId());
+    }
+    
+    /**
+     * Add job execution events in JDBC batches.
+     *
+     * <p>
+     * Start events are inserted before completion events are updated.
+     * Events failed in batch are retried one by one.
+     * </p>
+     *
+     * @param events job execution events
+     * @return add all success or not
+     */
+    public boolean addJobExecutionEvents(final Collection<JobExecutionEvent> events) {
+        List<JobExecutionEvent> startEvents = new ArrayList<>(events.size());
+        List<JobExecutionEvent> successEvents = new ArrayList<>(events.size());
+        List<JobExecutionEvent> failureEvents = new ArrayList<>(events.size());
+        for (JobExecutionEvent each : events) {
+            if (null == each.getCompleteTime()) {
+                startEvents.add(each);
+            } else if (each.isSuccess()) {
+                successEvents.add(each);
+            } else {
+                failureEvents.add(each);
+            }
+        }
+        boolean result = insertJobExecutionEvents(startEvents);
+        result &= updateJobExecutionEvents(successEvents, sqlMapper.getUpdateForJobExecutionLog(), this::setUpdateWhenSuccessParameters,
+                this::insertJobExecutionEventWhenSuccess, this::updateJobExecutionEventWhenSuccess);
+        result &= updateJobExecutionEvents(failureEvents, sqlMapper.getUpdateForJobExecutionLogForFailure(), this::setUpdateWhenFailureParameters,
+                this::insertJobExecutionEventWhenFailure, this::updateJobExecutionEventFailure);
+        return result;
+    }
+    
+    private boolean insertJobExecutionEvents(final List<JobExecutionEvent> events) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getInsertForJobExecutionLog())) {
+            for (JobExecutionEvent each : events) {
+                setInsertParameters(preparedStatement, each);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+            return true;
+        } catch (final SQLException ex) {
+            log.debug("Batch insert job execution events failure, retry one by one: {}", ex.getMessage());
+        }
+        boolean result = true;
+        for (JobExecutionEvent each : events) {
+            result &= insertJobExecutionEvent(each);
+        }
+        return result;
+    }
+    
+    private boolean updateJobExecutionEvents(final List<JobExecutionEvent> events, final String sql, final ParametersSetter parametersSetter,
+                                             final Predicate<JobExecutionEvent> insertWhenAbsent, final Predicate<JobExecutionEvent> updateOneByOne) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        int[] updatedCounts;
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (JobExecutionEvent each : events) {
+                parametersSetter.set(preparedStatement, each);
+                preparedStatement.addBatch();
+            }
+            updatedCounts = preparedStatement.executeBatch();
+        } catch (final SQLException ex) {
+            log.debug("Batch update job execution events failure, retry one by one: {}", ex.getMessage());
+            boolean result = true;
+            for (JobExecutionEvent each : events) {
+                result &= updateOneByOne.test(each);
+            }
+            return result;
+        }
+        boolean result = true;
+        for (int i = 0; i < updatedCounts.length; i++) {
+            if (0 == updatedCounts[i]) {
+                result &= insertWhenAbsent.test(events.get(i));
+            }
+        }
+        return result;
+    }
+    
     private boolean isDuplicateRecord(final SQLException ex) {
         return null != tracingStorageDatabaseType && tracingStorageDatabaseType.getDuplicateRecordErrorCode() == ex.getErrorCode();
     }
@@ -321,24 +439,15 @@ public final class RDBJobEventRepository {
      * @return add success or not
      */
     public boolean addJobStatusTraceEvent(final JobStatusTraceEvent event) {
-        String originalTaskId = event.getOriginalTaskId();
-        if (State.TASK_STAGING != event.getState()) {
-            originalTaskId = getOriginalTaskId(event.getTaskId());
-        }
+        return insertJobStatusTraceEvent(event, getOriginalTaskId(event));
+    }
+    
+    private boolean insertJobStatusTraceEvent(final JobStatusTraceEvent event, final String originalTaskId) {
         boolean result = false;
         try (
                 Connection connection = dataSource.getConnection();
                 PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getInsertForJobStatusTraceLog())) {
-            preparedStatement.setString(1, UUID.randomUUID().toString());
-            preparedStatement.setString(2, event.getJobName());
-            preparedStatement.setString(3, originalTaskId);
-            preparedStatement.setString(4, event.getTaskId());
-            preparedStatement.setString(5, event.getSlaveId());
-            preparedStatement.setString(6, event.getExecutionType().name());
-            preparedStatement.setString(7, event.getShardingItems());
-            preparedStatement.setString(8, event.getState().toString());
-            preparedStatement.setString(9, truncateString(event.getMessage()));
-            preparedStatement.setTimestamp(10, new Timestamp(event.getCreationTime().getTime()));
+            setStatusTraceParameters(preparedStatement, event, originalTaskId);
             preparedStatement.execute();
             result = true;
         } catch (final SQLException ex) {
@@ -348,6 +457,79 @@ public final class RDBJobEventRepository {
         return result;
     }
     
+    /**
+     * Add job status trace events in one JDBC batch.
+     * 
+     * <p>
+     * The batch is executed in one transaction, so no event is inserted twice when it is rolled back and retried one by one.
+     * </p>
+     *
+     * @param events job status trace events
+     * @return add success or not
+     */
+    public boolean addJobStatusTraceEvents(final Collection<JobStatusTraceEvent> events) {
+        if (events.isEmpty()) {
+            return true;
+        }
+        List<String> resolvedOriginalTaskIds = events.stream().map(this::getOriginalTaskId).collect(Collectors.toList());
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sqlMapper.getInsertForJobStatusTraceLog())) {
+                Iterator<String> originalTaskIdIterator = resolvedOriginalTaskIds.iterator();
+                for (JobStatusTraceEvent each : events) {
+                    setStatusTraceParameters(preparedStatement, each, originalTaskIdIterator.next());
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+                connection.commit();
+                return true;
+            } catch (final SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (final SQLException ex) {
+            log.debug("Batch insert job status trace events failure, retry one by one: {}", ex.getMessage());
+        }
+        boolean result = true;
+        Iterator<String> originalTaskIdIterator = resolvedOriginalTaskIds.iterator();
+        for (JobStatusTraceEvent each : events) {
+            result &= insertJobStatusTraceEvent(each, originalTaskIdIterator.next());
+        }
+        return result;
+    }
+    
+    private void setStatusTraceParameters(final PreparedStatement preparedStatement, final JobStatusTraceEvent event, final String originalTaskId) throws SQLException {
+        preparedStatement.setString(1, UUID.randomUUID().toString());
+        preparedStatement.setString(2, event.getJobName());
+        preparedStatement.setString(3, originalTaskId);
+        preparedStatement.setString(4, event.getTaskId());
+        preparedStatement.setString(5, event.getSlaveId());
+        preparedStatement.setString(6, event.getExecutionType().name());
+        preparedStatement.setString(7, event.getShardingItems());
+        preparedStatement.setString(8, event.getState().toString());
+        preparedStatement.setString(9, truncateString(event.getMessage()));
+        preparedStatement.setTimestamp(10, new Timestamp(event.getCreationTime().getTime()));
+    }
+    
+    private String getOriginalTaskId(final JobStatusTraceEvent event) {
+        if (State.TASK_STAGING == event.getState()) {
+            originalTaskIds.put(event.getTaskId(), event.getOriginalTaskId());
+            return event.getOriginalTaskId();
+        }
+        String result = originalTaskIds.get(event.getTaskId());
+        if (null != result) {
+            return result;
+        }
+        result = getOriginalTaskId(event.getTaskId());
+        if (!result.isEmpty()) {
+            originalTaskIds.put(event.getTaskId(), result);
+        }
+        return result;
+    }
+    
     private String getOriginalTaskId(final String taskId) {
         String result = "";
         try (
@@ -369,4 +551,10 @@ public final class RDBJobEventRepository {
     private String truncateString(final String str) {
         return !Strings.isNullOrEmpty(str) && str.length() > 4000 ? str.substring(0, 4000) : str;
     }
+    
+    @FunctionalInterface
+    private interface ParametersSetter {
+        
+        void set(PreparedStatement preparedStatement, JobExecutionEvent event) throws SQLException;
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.tracing.rdb.storage.repository;
+
+import org.apache.shardingsphere.elasticjob.spi.executor.ExecutionType;
+import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobExecutionEvent;
+import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobStatusTraceEvent;
+import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobStatusTraceEvent.State;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RDBJobEventBatchWriterTest {
+    
+    @Mock
+    private RDBJobEventRepository repository;
+    
+    private RDBJobEventBatchWriter batchWriter;
+    
+    @AfterEach
+    void tearDown() {
+        batchWriter.close();
+    }
+    
+    @Test
+    void assertFlushWhenBatchSizeReached() {
+        batchWriter = new RDBJobEventBatchWriter(repository, 10, 2, 60000L);
+        JobExecutionEvent executionEvent = new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        JobStatusTraceEvent statusTraceEvent = new JobStatusTraceEvent("test_job", "fake_task_id", "fake_slave_id", ExecutionType.READY, "0", State.TASK_RUNNING, "message is empty.");
+        assertTrue(batchWriter.write(executionEvent));
+        assertTrue(batchWriter.write(statusTraceEvent));
+        Awaitility.await().atMost(Duration.ofSeconds(5L)).until(() -> 1L == batchWriter.getFlushedBatchCount());
+        verify(repository).addJobExecutionEvents(Collections.singletonList(executionEvent));
+        verify(repository).addJobStatusTraceEvents(Collections.singletonList(statusTraceEvent));
+        assertThat(batchWriter.getFlushedEventCount(), is(2L));
+        assertThat(batchWriter.getQueueDepth(), is(0));
+    }
+    
+    @Test
+    void assertFlushWhenFlushIntervalElapsed() {
+        batchWriter = new RDBJobEventBatchWriter(repository, 10, 100, 50L);
+        assertTrue(batchWriter.write(new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0)));
+        Awaitility.await().atMost(Duration.ofSeconds(5L)).until(() -> 1L == batchWriter.getFlushedEventCount());
+        verify(repository).addJobExecutionEvents(anyCollection());
+    }
+    
+    @Test
+    void assertFlushWhenClose() {
+        batchWriter = new RDBJobEventBatchWriter(repository, 10, 100, 60000L);
+        assertTrue(batchWriter.write(new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0)));
+        batchWriter.close();
+        assertThat(batchWriter.getFlushedEventCount(), is(1L));
+    }
+    
+    @Test
+    void assertDropWhenQueueFull() {
+        batchWriter = new RDBJobEventBatchWriter(repository, 1, 100, 60000L);
+        batchWriter.close();
+        JobStatusTraceEvent statusTraceEvent = new JobStatusTraceEvent("test_job", "fake_task_id", "fake_slave_id", ExecutionType.READY, "0", State.TASK_RUNNING, "message is empty.");
+        assertTrue(batchWriter.write(statusTraceEvent));
+        assertFalse(batchWriter.write(statusTraceEvent));
+        assertThat(batchWriter.getDroppedCount(), is(1L));
+        assertThat(batchWriter.getQueueDepth(), is(1));
+    }
+}
@@ -26,7 +26,11 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Arrays;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.startsWith;
@@ -115,6 +119,41 @@ class RDBJobEventRepositoryTest {
         assertThat(failEvent.getFailureCause(), startsWith("java.lang.RuntimeException: failure"));
     }
     
+    @Test
+    void assertAddJobExecutionEvents() {
+        JobExecutionEvent startEvent = new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        JobExecutionEvent otherStartEvent = new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 1);
+        assertTrue(repository.addJobExecutionEvents(
+                Arrays.asList(startEvent, otherStartEvent, startEvent.executionSuccess(), otherStartEvent.executionFailure("java.lang.RuntimeException: failure"))));
+    }
+    
+    @Test
+    void assertAddJobExecutionEventsWhenStartEventAbsent() {
+        JobExecutionEvent startEvent = new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+        assertTrue(repository.addJobExecutionEvents(Arrays.asList(startEvent.executionSuccess(), startEvent.executionFailure("java.lang.RuntimeException: failure"))));
+    }
+    
+    @Test
+    void assertAddJobStatusTraceEvents() {
+        assertTrue(repository.addJobStatusTraceEvents(Arrays.asList(
+                new JobStatusTraceEvent("test_job", "fake_task_id", "fake_slave_id", ExecutionType.READY, "0", State.TASK_STAGING, "message is empty."),
+                new JobStatusTraceEvent("test_job", "fake_task_id", "fake_slave_id", ExecutionType.READY, "0", State.TASK_RUNNING, "message is empty."))));
+    }
+    
+    @Test
+    void assertAddJobStatusTraceEventsWhenBatchFailure() throws SQLException {
+        assertFalse(repository.addJobStatusTraceEvents(Arrays.asList(
+                new JobStatusTraceEvent("test_job", "batch_task_id", "fake_slave_id", ExecutionType.READY, "0", State.TASK_STAGING, "message is empty."),
+                new JobStatusTraceEvent("test_job", "batch_task_id", null, ExecutionType.READY, "0", State.TASK_RUNNING, "message is empty."))));
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement("SELECT COUNT(*) FROM JOB_STATUS_TRACE_LOG WHERE task_id = 'batch_task_id'");
+                ResultSet resultSet = preparedStatement.executeQuery()) {
+            assertTrue(resultSet.next());
+            assertThat(resultSet.getInt(1), is(1));
+        }
+    }
+    
     @Test
     void assertFindJobExecutionEvent() {
         repository.addJobExecutionEvent(new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0));
@@ -30,6 +30,8 @@ import org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.ExecutorS
 import org.apache.shardingsphere.elasticjob.kernel.infra.env.IpUtils;
 import org.apache.shardingsphere.elasticjob.kernel.infra.exception.ExceptionUtils;
 import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobExecutionEnvironmentException;
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceLoadRecorder;
+import org.apache.shardingsphere.elasticjob.kernel.metrics.JobMetrics;
 import org.apache.shardingsphere.elasticjob.spi.listener.param.ShardingContexts;
 import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobExecutionEvent;
 import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobExecutionEvent.ExecutionSource;
@@ -53,6 +55,8 @@ public final class ElasticJobExecutor {
     
     private final JobFacade jobFacade;
     
+    private final String jobName;
+    
     @SuppressWarnings("rawtypes")
     private final JobItemExecutor jobItemExecutor;
     
@@ -73,6 +77,7 @@ public final class ElasticJobExecutor {
     private ElasticJobExecutor(final ElasticJob elasticJob, final JobConfiguration jobConfig, final JobFacade jobFacade, final JobItemExecutor jobItemExecutor) {
         this.elasticJob = elasticJob;
         this.jobFacade = jobFacade;
+        jobName = jobConfig.getJobName();
         this.jobItemExecutor = jobItemExecutor;
         JobConfiguration loadedJobConfig = jobFacade.loadJobConfiguration(true);
         executorServiceReloader = new ExecutorServiceReloader(loadedJobConfig);
@@ -95,7 +100,10 @@ public final class ElasticJobExecutor {
         }
         ShardingContexts shardingContexts = jobFacade.getShardingContexts();
         jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_STAGING, String.format("Job '%s' execute begin.", jobConfig.getJobName()));
-        if (jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet())) {
+        long misfireCheckStartTime = System.nanoTime();
+        boolean misfired = jobFacade.misfireIfRunning(shardingContexts.getShardingItemParameters().keySet());
+        JobMetrics.recordMisfireCheck(jobConfig.getJobName(), System.nanoTime() - misfireCheckStartTime, misfired);
+        if (misfired) {
             jobFacade.postJobStatusTraceEvent(shardingContexts.getTaskId(), State.TASK_FINISHED, String.format(
                     "Previous job '%s' - shardingItems '%s' is still running, misfired job will start after previous job completed.", jobConfig.getJobName(),
                     shardingContexts.getShardingItemParameters().keySet()));
@@ -131,9 +139,11 @@ public final class ElasticJobExecutor {
         jobFacade.registerJobBegin(shardingContexts);
         String taskId = shardingContexts.getTaskId();
         jobFacade.postJobStatusTraceEvent(taskId, State.TASK_RUNNING, "");
+        long startTime = System.nanoTime();
         try {
             process(jobConfig, shardingContexts, executionSource);
         } finally {
+            JobMetrics.recordJobExecution(jobConfig.getJobName(), executionSource.name(), System.nanoTime() - startTime);
             // TODO Consider increasing the status of job failure, and how to handle the overall loop of job failure
             Collection<Integer> failedItems = new HashSet<>(itemErrorMessages.keySet());
             jobFacade.registerJobCompleted(shardingContexts, failedItems);
@@ -181,14 +191,21 @@ public final class ElasticJobExecutor {
         jobFacade.postJobExecutionEvent(startEvent);
         log.trace("Job '{}' executing, item is: '{}'.", jobConfig.getJobName(), item);
         JobExecutionEvent completeEvent;
+        long startTime = System.nanoTime();
         try {
             jobItemExecutor.process(elasticJob, jobConfig, jobFacade.getJobRuntimeService(), shardingContexts.createShardingContext(item));
+            long duration = System.nanoTime() - startTime;
+            JobMetrics.recordItemExecution(jobConfig.getJobName(), item, true, duration);
+            InstanceLoadRecorder.recordItemExecution(jobConfig.getJobName(), duration);
             completeEvent = startEvent.executionSuccess();
             log.trace("Job '{}' executed, item is: '{}'.", jobConfig.getJobName(), item);
             jobFacade.postJobExecutionEvent(completeEvent);
             // CHECKSTYLE:OFF
         } catch (final Throwable cause) {
             // CHECKSTYLE:ON
+            long duration = System.nanoTime() - startTime;
+            JobMetrics.recordItemExecution(jobConfig.getJobName(), item, false, duration);
+            InstanceLoadRecorder.recordItemExecution(jobConfig.getJobName(), duration);
             completeEvent = startEvent.executionFailure(ExceptionUtils.transform(cause));
             jobFacade.postJobExecutionEvent(completeEvent);
             itemErrorMessages.put(item, ExceptionUtils.transform(cause));
@@ -203,5 +220,6 @@ public final class ElasticJobExecutor {
     public void shutdown() {
         executorServiceReloader.close();
         jobErrorHandlerReloader.close();
+        jobItemExecutor.shutdown(jobName);
     }
 }
@@ -23,6 +23,8 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -36,9 +38,33 @@ public final class ElasticJobExecutorService {
     private final BlockingQueue<Runnable> workQueue;
     
     public ElasticJobExecutorService(final String namingPattern, final int threadSize) {
+        this(namingPattern, threadSize, false);
+    }
+    
+    /**
+     * Create ElasticJob executor service.
+     * 
+     * <p>
+     * Each sharding item gets its own virtual thread when virtual thread is enabled and thread size is not positive,
+     * otherwise thread size caps the concurrency.
+     * When virtual threads are not supported by current JVM, platform threads are used and
+     * a non-positive thread size falls back to twice the number of available processors.
+     * </p>
+     * 
+     * @param namingPattern naming pattern of threads
+     * @param threadSize thread size
+     * @param virtualThread use virtual threads or not
+     */
+    public ElasticJobExecutorService(final String namingPattern, final int threadSize, final boolean virtualThread) {
+        ThreadFactory threadFactory = virtualThread ? VirtualThreadFactoryBuilder.build(namingPattern) : new BasicThreadFactory.Builder().namingPattern(String.join("-", namingPattern, "%s")).build();
+        if (virtualThread && threadSize <= 0 && VirtualThreadFactoryBuilder.isSupported()) {
+            workQueue = new SynchronousQueue<>();
+            threadPoolExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 5L, TimeUnit.MINUTES, workQueue, threadFactory);
+            return;
+        }
+        int poolSize = threadSize > 0 ? threadSize : Runtime.getRuntime().availableProcessors() * 2;
         workQueue = new LinkedBlockingQueue<>();
-        threadPoolExecutor = new ThreadPoolExecutor(
-                threadSize, threadSize, 5L, TimeUnit.MINUTES, workQueue, new BasicThreadFactory.Builder().namingPattern(String.join("-", namingPattern, "%s")).build());
+        threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 5L, TimeUnit.MINUTES, workQueue, threadFactory);
         threadPoolExecutor.allowCoreThreadTimeOut(true);
     }
     
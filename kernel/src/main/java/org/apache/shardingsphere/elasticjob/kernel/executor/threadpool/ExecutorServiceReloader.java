@@ -19,9 +19,14 @@ package org.apache.shardingsphere.elasticjob.kernel.executor.threadpool;
 
 import lombok.Getter;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.type.VirtualThreadJobExecutorThreadPoolSizeProvider;
+import org.apache.shardingsphere.elasticjob.kernel.infra.exception.PropertiesPreconditions;
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceLoadRecorder;
+import org.apache.shardingsphere.elasticjob.kernel.metrics.JobMetrics;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
 import java.io.Closeable;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 
 /**
@@ -31,6 +36,12 @@ public final class ExecutorServiceReloader implements Closeable {
     
     private String jobExecutorThreadPoolSizeProviderType;
     
+    private String maxConcurrency;
+    
+    private String jobName;
+    
+    private ElasticJobExecutorService elasticJobExecutorService;
+    
     @Getter
     private ExecutorService executorService;
     
@@ -44,9 +55,12 @@ public final class ExecutorServiceReloader implements Closeable {
      * @param jobConfig job configuration
      */
     public synchronized void reloadIfNecessary(final JobConfiguration jobConfig) {
-        if (jobExecutorThreadPoolSizeProviderType.equals(jobConfig.getJobExecutorThreadPoolSizeProviderType())) {
+        if (jobExecutorThreadPoolSizeProviderType.equals(jobConfig.getJobExecutorThreadPoolSizeProviderType())
+                && Objects.equals(maxConcurrency, jobConfig.getProps().getProperty(VirtualThreadJobExecutorThreadPoolSizeProvider.MAX_CONCURRENCY_KEY))) {
             return;
         }
+        JobMetrics.unregisterExecutorService(jobName, elasticJobExecutorService);
+        InstanceLoadRecorder.unregisterExecutorService(jobName, elasticJobExecutorService);
         executorService.shutdownNow();
         init(jobConfig);
     }
@@ -54,11 +68,23 @@ public final class ExecutorServiceReloader implements Closeable {
     private void init(final JobConfiguration jobConfig) {
         JobExecutorThreadPoolSizeProvider jobExecutorThreadPoolSizeProvider = TypedSPILoader.getService(JobExecutorThreadPoolSizeProvider.class, jobConfig.getJobExecutorThreadPoolSizeProviderType());
         jobExecutorThreadPoolSizeProviderType = jobExecutorThreadPoolSizeProvider.getType();
-        executorService = new ElasticJobExecutorService("elasticjob-" + jobConfig.getJobName(), jobExecutorThreadPoolSizeProvider.getSize()).createExecutorService();
+        jobName = jobConfig.getJobName();
+        maxConcurrency = jobConfig.getProps().getProperty(VirtualThreadJobExecutorThreadPoolSizeProvider.MAX_CONCURRENCY_KEY);
+        boolean virtualThread = jobExecutorThreadPoolSizeProvider.isVirtualThread();
+        if (virtualThread) {
+            PropertiesPreconditions.checkPositiveInteger(jobConfig.getProps(), VirtualThreadJobExecutorThreadPoolSizeProvider.MAX_CONCURRENCY_KEY);
+        }
+        int threadSize = virtualThread && null != maxConcurrency ? Integer.parseInt(maxConcurrency) : jobExecutorThreadPoolSizeProvider.getSize();
+        elasticJobExecutorService = new ElasticJobExecutorService("elasticjob-" + jobName, threadSize, virtualThread);
+        executorService = elasticJobExecutorService.createExecutorService();
+        JobMetrics.registerExecutorService(jobName, elasticJobExecutorService);
+        InstanceLoadRecorder.registerExecutorService(jobName, elasticJobExecutorService);
     }
     
     @Override
     public void close() {
+        JobMetrics.unregisterExecutorService(jobName, elasticJobExecutorService);
+        InstanceLoadRecorder.unregisterExecutorService(jobName, elasticJobExecutorService);
         executorService.shutdownNow();
     }
 }
@@ -33,6 +33,15 @@ public interface JobExecutorThreadPoolSizeProvider extends TypedSPI {
      */
     int getSize();
     
+    /**
+     * Judge whether to execute sharding items on virtual threads.
+     * 
+     * @return execute sharding items on virtual threads or not
+     */
+    default boolean isVirtualThread() {
+        return false;
+    }
+    
     @Override
     String getType();
 }
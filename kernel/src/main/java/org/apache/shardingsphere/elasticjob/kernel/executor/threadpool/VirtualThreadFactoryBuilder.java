@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.executor.threadpool;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread factory builder.
+ * 
+ * <p>
+ * Virtual threads are looked up reflectively to keep compatible with Java 8,
+ * platform threads are used when the running JVM does not support virtual threads.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+final class VirtualThreadFactoryBuilder {
+    
+    private static final boolean SUPPORTED = isVirtualThreadSupported();
+    
+    private static boolean isVirtualThreadSupported() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (final NoSuchMethodException ignored) {
+            return false;
+        }
+    }
+    
+    /**
+     * Judge whether virtual threads are supported by current JVM.
+     * 
+     * @return virtual threads are supported or not
+     */
+    static boolean isSupported() {
+        return SUPPORTED;
+    }
+    
+    /**
+     * Build thread factory.
+     * 
+     * @param namingPattern naming pattern
+     * @return thread factory
+     */
+    static ThreadFactory build(final String namingPattern) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namingPattern + "-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Virtual threads are not supported by current JVM, fall back to platform threads for '{}'.", namingPattern);
+            return new BasicThreadFactory.Builder().namingPattern(String.join("-", namingPattern, "%s")).build();
+        }
+    }
+}
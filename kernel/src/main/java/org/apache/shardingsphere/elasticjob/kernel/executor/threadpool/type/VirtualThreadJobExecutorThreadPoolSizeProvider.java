@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.type;
+
+import org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.JobExecutorThreadPoolSizeProvider;
+
+/**
+ * Job executor pool size provider with virtual thread per sharding item.
+ * 
+ * <p>
+ * The pool is unbounded, the concurrency of a job can be capped by job property {@value #MAX_CONCURRENCY_KEY}.
+ * Falls back to platform threads bounded by twice the number of available processors when virtual threads are not supported by the running JVM.
+ * </p>
+ */
+public final class VirtualThreadJobExecutorThreadPoolSizeProvider implements JobExecutorThreadPoolSizeProvider {
+    
+    public static final String MAX_CONCURRENCY_KEY = "virtual.thread.max.concurrency";
+    
+    @Override
+    public int getSize() {
+        return 0;
+    }
+    
+    @Override
+    public boolean isVirtualThread() {
+        return true;
+    }
+    
+    @Override
+    public String getType() {
+        return "VIRTUAL_THREAD";
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.config;
 
+import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobConfigurationException;
@@ -26,6 +27,8 @@ import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.kernel.infra.time.TimeService;
 import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Configuration service.
  */
@@ -35,6 +38,8 @@ public final class ConfigurationService {
     
     private final JobNodeStorage jobNodeStorage;
     
+    private final AtomicReference<ParsedJobConfiguration> parsedJobConfig = new AtomicReference<>();
+    
     public ConfigurationService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         timeService = new TimeService();
@@ -43,6 +48,9 @@ public final class ConfigurationService {
     /**
      * Load job configuration.
      * 
+     * <p>Parsed job configuration is reused until the content of configuration node changed,
+     * and a new job configuration instance is returned for each call, so callers can not affect each other.</p>
+     * 
      * @param fromCache load from cache or not
      * @return job configuration
      */
@@ -57,12 +65,21 @@ public final class ConfigurationService {
             result = jobNodeStorage.getJobNodeDataDirectly(ConfigurationNode.ROOT);
         }
         if (result != null) {
-            return YamlEngine.unmarshal(result, JobConfigurationPOJO.class).toJobConfiguration();
+            return parse(result);
         } else {
             throw new JobConfigurationException("JobConfiguration was not found. It maybe has been removed or has not been configured correctly.");
         }
     }
     
+    private JobConfiguration parse(final String yaml) {
+        ParsedJobConfiguration parsed = parsedJobConfig.get();
+        if (null == parsed || !parsed.yaml.equals(yaml)) {
+            parsed = new ParsedJobConfiguration(yaml, YamlEngine.unmarshal(yaml, JobConfigurationPOJO.class));
+            parsedJobConfig.set(parsed);
+        }
+        return parsed.jobConfigPOJO.toJobConfiguration();
+    }
+    
     /**
      * Set up job configuration.
      * 
@@ -107,4 +124,12 @@ public final class ConfigurationService {
                     "Time different between job server and register center exceed '%s' seconds, max time different is '%s' seconds.", timeDiff / 1000, maxTimeDiffSeconds);
         }
     }
+    
+    @RequiredArgsConstructor
+    private static final class ParsedJobConfiguration {
+        
+        private final String yaml;
+        
+        private final JobConfigurationPOJO jobConfigPOJO;
+    }
 }
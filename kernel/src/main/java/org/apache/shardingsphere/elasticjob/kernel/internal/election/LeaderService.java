@@ -24,7 +24,6 @@ import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerService
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
-import org.apache.shardingsphere.elasticjob.kernel.infra.util.BlockUtils;
 
 /**
  * Leader service.
@@ -32,6 +31,8 @@ import org.apache.shardingsphere.elasticjob.kernel.infra.util.BlockUtils;
 @Slf4j
 public final class LeaderService {
     
+    private static final long ELECTING_WAITING_MILLIS = 100L;
+    
     private final String jobName;
     
     private final ServerService serverService;
@@ -64,9 +65,9 @@ public final class LeaderService {
      */
     public boolean isLeaderUntilBlock() {
         while (!hasLeader() && serverService.hasAvailableServers()) {
-            log.info("Leader is electing, waiting for {} ms", 100);
-            BlockUtils.waitingShortTime();
-            if (!JobRegistry.getInstance().isShutdown(jobName) && serverService.isAvailableServer(JobRegistry.getInstance().getJobInstance(jobName).getServerIp())) {
+            log.info("Leader is electing, waiting until leader elected.");
+            boolean elected = jobNodeStorage.waitUntilOrJobNodeRemoved(this::hasLeader, LeaderNode.INSTANCE, ELECTING_WAITING_MILLIS);
+            if (!elected && !JobRegistry.getInstance().isShutdown(jobName) && serverService.isAvailableServer(JobRegistry.getInstance().getJobInstance(jobName).getServerIp())) {
                 electLeader();
             }
         }
@@ -26,6 +26,8 @@ import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
  */
 public final class FailoverNode {
     
+    static final String FAILOVERING = "failovering";
+    
     private static final String FAILOVER = "failover";
     
     private static final String LEADER_ROOT = LeaderNode.ROOT + "/" + FAILOVER;
@@ -38,8 +40,6 @@ public final class FailoverNode {
     
     private static final String EXECUTION_FAILOVER = ShardingNode.ROOT + "/%s/" + FAILOVER;
     
-    private static final String FAILOVERING = "failovering";
-    
     private static final String EXECUTING_FAILOVER = ShardingNode.ROOT + "/%s/" + FAILOVERING;
     
     private final JobNodePath jobNodePath;
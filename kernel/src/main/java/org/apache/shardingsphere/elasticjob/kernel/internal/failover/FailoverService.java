@@ -26,6 +26,7 @@ import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobSchedule
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingNode;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.kernel.metrics.JobMetrics;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
 
@@ -66,6 +67,7 @@ public final class FailoverService {
         if (!isFailoverAssigned(item)) {
             jobNodeStorage.createJobNodeIfNeeded(FailoverNode.getItemsNode(item));
             jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getRunningNode(item));
+            JobMetrics.recordCrashedItem(jobName, item);
         }
     }
     
@@ -76,6 +78,7 @@ public final class FailoverService {
      */
     public void setCrashedFailoverFlagDirectly(final int item) {
         jobNodeStorage.createJobNodeIfNeeded(FailoverNode.getItemsNode(item));
+        JobMetrics.recordCrashedItem(jobName, item);
     }
     
     private boolean isFailoverAssigned(final Integer item) {
@@ -87,7 +90,9 @@ public final class FailoverService {
      */
     public void failoverIfNecessary() {
         if (needFailover()) {
+            long startTime = System.nanoTime();
             jobNodeStorage.executeInLeader(FailoverNode.LATCH, new FailoverLeaderExecutionCallback());
+            JobMetrics.recordFailover(jobName, System.nanoTime() - startTime);
         }
     }
     
@@ -184,8 +189,9 @@ public final class FailoverService {
     public Map<Integer, JobInstance> getAllFailoveringItems() {
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
         Map<Integer, JobInstance> result = new LinkedHashMap<>(shardingTotalCount, 1);
+        Map<String, String> failoveringInstances = jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, FailoverNode.FAILOVERING);
         for (int i = 0; i < shardingTotalCount; i++) {
-            String data = jobNodeStorage.getJobNodeData(FailoverNode.getExecutingFailoverNode(i));
+            String data = failoveringInstances.get(String.valueOf(i));
             if (!Strings.isNullOrEmpty(data)) {
                 result.put(i, new JobInstance(data));
             }
@@ -223,6 +229,7 @@ public final class FailoverService {
             jobNodeStorage.fillEphemeralJobNode(FailoverNode.getExecutionFailoverNode(crashedItem), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
             jobNodeStorage.fillJobNode(FailoverNode.getExecutingFailoverNode(crashedItem), JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId());
             jobNodeStorage.removeJobNodeIfExisted(FailoverNode.getItemsNode(crashedItem));
+            JobMetrics.recordFailoverTakeover(jobName, crashedItem);
             // TODO Instead of using triggerJob, use executor for unified scheduling
             JobScheduleController jobScheduleController = JobRegistry.getInstance().getJobScheduleController(jobName);
             if (null != jobScheduleController) {
@@ -67,6 +67,15 @@ public final class GuaranteeService {
         return true;
     }
     
+    /**
+     * Wait until current sharding items are all register start success.
+     *
+     * @param shardingItems current sharding items
+     */
+    public void waitUntilRegisterStartSuccess(final Collection<Integer> shardingItems) {
+        jobNodeStorage.waitUntil(() -> isRegisterStartSuccess(shardingItems));
+    }
+    
     /**
      * Judge whether job's sharding items are all started.
      *
@@ -110,6 +119,15 @@ public final class GuaranteeService {
         return true;
     }
     
+    /**
+     * Wait until current sharding items are all register complete success.
+     *
+     * @param shardingItems current sharding items
+     */
+    public void waitUntilRegisterCompleteSuccess(final Collection<Integer> shardingItems) {
+        jobNodeStorage.waitUntil(() -> isRegisterCompleteSuccess(shardingItems));
+    }
+    
     /**
      * Judge whether job's sharding items are all completed.
      *
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.instance;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.ElasticJobExecutorService;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Job instance load recorder.
+ * 
+ * <p>
+ * Records live load of local jobs, which is published into instance nodes by {@link InstanceLoadService}.
+ * Item latency is an exponentially weighted moving average, so a single slow item does not swing the sharding.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InstanceLoadRecorder {
+    
+    private static final int LATENCY_SMOOTHING_FACTOR = 5;
+    
+    private static final Map<String, ElasticJobExecutorService> EXECUTOR_SERVICES = new ConcurrentHashMap<>();
+    
+    private static final Map<String, AtomicLong> ITEM_LATENCY_NANOS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register executor service.
+     * 
+     * @param jobName job name
+     * @param executorService executor service
+     */
+    public static void registerExecutorService(final String jobName, final ElasticJobExecutorService executorService) {
+        EXECUTOR_SERVICES.put(jobName, executorService);
+    }
+    
+    /**
+     * Unregister executor service.
+     * 
+     * @param jobName job name
+     * @param executorService executor service
+     */
+    public static void unregisterExecutorService(final String jobName, final ElasticJobExecutorService executorService) {
+        if (null != executorService) {
+            EXECUTOR_SERVICES.remove(jobName, executorService);
+        }
+    }
+    
+    /**
+     * Record execution time of a sharding item.
+     * 
+     * @param jobName job name
+     * @param durationNanos execution duration in nanoseconds
+     */
+    public static void recordItemExecution(final String jobName, final long durationNanos) {
+        ITEM_LATENCY_NANOS.computeIfAbsent(jobName, key -> new AtomicLong()).accumulateAndGet(durationNanos,
+                (average, duration) -> 0L == average ? duration : average + (duration - average) / LATENCY_SMOOTHING_FACTOR);
+    }
+    
+    /**
+     * Remove recorded item latency, so a job registered again with the same name starts over.
+     * 
+     * @param jobName job name
+     */
+    public static void removeItemLatency(final String jobName) {
+        ITEM_LATENCY_NANOS.remove(jobName);
+    }
+    
+    /**
+     * Get active thread count of job executor.
+     * 
+     * @param jobName job name
+     * @return active thread count, {@code null} if the executor is not registered
+     */
+    public static Integer getActiveThreadCount(final String jobName) {
+        ElasticJobExecutorService executorService = EXECUTOR_SERVICES.get(jobName);
+        return null == executorService ? null : executorService.getActiveThreadCount();
+    }
+    
+    /**
+     * Get work queue size of job executor.
+     * 
+     * @param jobName job name
+     * @return work queue size, {@code null} if the executor is not registered
+     */
+    public static Integer getWorkQueueSize(final String jobName) {
+        ElasticJobExecutorService executorService = EXECUTOR_SERVICES.get(jobName);
+        return null == executorService ? null : executorService.getWorkQueueSize();
+    }
+    
+    /**
+     * Get average item latency.
+     * 
+     * @param jobName job name
+     * @return average item latency in milliseconds, {@code null} if no item is executed yet
+     */
+    public static Long getItemLatencyMillis(final String jobName) {
+        AtomicLong result = ITEM_LATENCY_NANOS.get(jobName);
+        return null == result ? null : TimeUnit.NANOSECONDS.toMillis(result.get());
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.instance;
+
+import com.google.common.util.concurrent.AbstractScheduledService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.type.WeightedJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job instance load service.
+ * 
+ * <p>
+ * Publishes capacity and live load of local job instance into its instance node for {@link WeightedJobShardingStrategy}.
+ * Only jobs using weighted sharding strategy are published, and the instance node is only updated when the load changes noticeably.
+ * Weight and report interval are specified by system variables {@value #WEIGHT} and {@value #REPORT_INTERVAL_SECONDS}.
+ * </p>
+ */
+@Slf4j
+public final class InstanceLoadService extends AbstractScheduledService {
+    
+    public static final String WEIGHT = "elasticjob.instance.weight";
+    
+    public static final String REPORT_INTERVAL_SECONDS = "elasticjob.instance.load.report-interval-seconds";
+    
+    private static final int LATENCY_CHANGE_PERCENT = 20;
+    
+    private final String jobName;
+    
+    private final ConfigurationService configService;
+    
+    private final JobNodeStorage jobNodeStorage;
+    
+    private final InstanceNode instanceNode;
+    
+    public InstanceLoadService(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        this.jobName = jobName;
+        configService = new ConfigurationService(regCenter, jobName);
+        jobNodeStorage = new JobNodeStorage(regCenter, jobName);
+        instanceNode = new InstanceNode(jobName);
+    }
+    
+    @Override
+    protected void runOneIteration() {
+        try {
+            publishIfNecessary();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Elastic Job: publish load of job '{}' failure.", jobName, ex);
+        }
+    }
+    
+    private void publishIfNecessary() {
+        JobInstance jobInstance = JobRegistry.getInstance().getJobInstance(jobName);
+        if (null == jobInstance || !isWeightedSharding()) {
+            return;
+        }
+        int weight = Integer.getInteger(WEIGHT, Runtime.getRuntime().availableProcessors());
+        Integer activeThreads = InstanceLoadRecorder.getActiveThreadCount(jobName);
+        Integer queueSize = InstanceLoadRecorder.getWorkQueueSize(jobName);
+        Long itemLatencyMillis = InstanceLoadRecorder.getItemLatencyMillis(jobName);
+        if (Objects.equals(weight, jobInstance.getWeight()) && Objects.equals(activeThreads, jobInstance.getActiveThreads())
+                && Objects.equals(queueSize, jobInstance.getQueueSize()) && !isLatencyChanged(jobInstance.getItemLatencyMillis(), itemLatencyMillis)) {
+            return;
+        }
+        jobInstance.setWeight(weight);
+        jobInstance.setActiveThreads(activeThreads);
+        jobInstance.setQueueSize(queueSize);
+        jobInstance.setItemLatencyMillis(itemLatencyMillis);
+        if (jobNodeStorage.isJobNodeExisted(instanceNode.getLocalInstancePath())) {
+            jobNodeStorage.updateEphemeralJobNode(instanceNode.getLocalInstancePath(), YamlEngine.marshal(jobInstance));
+        }
+    }
+    
+    private boolean isWeightedSharding() {
+        return WeightedJobShardingStrategy.TYPE.equalsIgnoreCase(configService.load(true).getJobShardingStrategyType());
+    }
+    
+    private boolean isLatencyChanged(final Long published, final Long current) {
+        if (null == published || null == current) {
+            return !Objects.equals(published, current);
+        }
+        return Math.abs(current - published) * 100 > Math.max(published, 1L) * LATENCY_CHANGE_PERCENT;
+    }
+    
+    @Override
+    protected Scheduler scheduler() {
+        return Scheduler.newFixedDelaySchedule(0, Long.getLong(REPORT_INTERVAL_SECONDS, 10L), TimeUnit.SECONDS);
+    }
+}
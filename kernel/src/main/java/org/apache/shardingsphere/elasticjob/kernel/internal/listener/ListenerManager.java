@@ -83,5 +83,6 @@ public final class ListenerManager {
         rescheduleListenerManager.start();
         guaranteeListenerManager.start();
         jobNodeStorage.addConnectionStateListener(regCenterConnectionStateListener);
+        jobNodeStorage.addJobNodeChangedNotifier();
     }
 }
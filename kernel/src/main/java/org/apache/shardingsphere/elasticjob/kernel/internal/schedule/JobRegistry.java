@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceLoadRecorder;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerNotifierManager;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
@@ -174,6 +175,7 @@ public final class JobRegistry {
         jobInstanceMap.remove(jobName);
         jobRunningMap.remove(jobName);
         currentShardingTotalCountMap.remove(jobName);
+        InstanceLoadRecorder.removeItemLatency(jobName);
     }
     
     /**
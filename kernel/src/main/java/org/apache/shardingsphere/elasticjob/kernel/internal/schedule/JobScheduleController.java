@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobSystemException;
 import org.quartz.CronScheduleBuilder;
@@ -37,7 +38,7 @@ import java.util.TimeZone;
 /**
  * Job schedule controller.
  */
-@RequiredArgsConstructor
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class JobScheduleController {
     
     private final Scheduler scheduler;
@@ -46,6 +47,16 @@ public final class JobScheduleController {
     
     private final String triggerIdentity;
     
+    private final SharedScheduler sharedScheduler;
+    
+    public JobScheduleController(final Scheduler scheduler, final JobDetail jobDetail, final String triggerIdentity) {
+        this(scheduler, jobDetail, triggerIdentity, null);
+    }
+    
+    public JobScheduleController(final SharedScheduler sharedScheduler, final JobDetail jobDetail, final String triggerIdentity) {
+        this(sharedScheduler.getScheduler(), jobDetail, triggerIdentity, sharedScheduler);
+    }
+    
     /**
      * Schedule job.
      * 
@@ -72,7 +83,7 @@ public final class JobScheduleController {
     public synchronized void rescheduleJob(final String cron, final String timeZone) {
         try {
             CronTrigger trigger = (CronTrigger) scheduler.getTrigger(TriggerKey.triggerKey(triggerIdentity));
-            if (!scheduler.isShutdown() && null != trigger && !cron.equals(trigger.getCronExpression())) {
+            if (!isShutdown() && null != trigger && !cron.equals(trigger.getCronExpression())) {
                 scheduler.rescheduleJob(TriggerKey.triggerKey(triggerIdentity), createCronTrigger(cron, timeZone));
             }
         } catch (final SchedulerException ex) {
@@ -86,7 +97,7 @@ public final class JobScheduleController {
     public synchronized void rescheduleJob() {
         try {
             SimpleTrigger trigger = (SimpleTrigger) scheduler.getTrigger(TriggerKey.triggerKey(triggerIdentity));
-            if (!scheduler.isShutdown() && null != trigger) {
+            if (!isShutdown() && null != trigger) {
                 scheduler.rescheduleJob(TriggerKey.triggerKey(triggerIdentity), createOneOffTrigger());
             }
         } catch (final SchedulerException ex) {
@@ -120,7 +131,7 @@ public final class JobScheduleController {
      */
     public synchronized boolean isPaused() {
         try {
-            return !scheduler.isShutdown() && Trigger.TriggerState.PAUSED == scheduler.getTriggerState(new TriggerKey(triggerIdentity));
+            return !isShutdown() && Trigger.TriggerState.PAUSED == scheduler.getTriggerState(new TriggerKey(triggerIdentity));
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
         }
@@ -131,8 +142,12 @@ public final class JobScheduleController {
      */
     public synchronized void pauseJob() {
         try {
-            if (!scheduler.isShutdown()) {
-                scheduler.pauseAll();
+            if (!isShutdown()) {
+                if (null != sharedScheduler) {
+                    scheduler.pauseJob(jobDetail.getKey());
+                } else {
+                    scheduler.pauseAll();
+                }
             }
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
@@ -144,8 +159,12 @@ public final class JobScheduleController {
      */
     public synchronized void resumeJob() {
         try {
-            if (!scheduler.isShutdown()) {
-                scheduler.resumeAll();
+            if (!isShutdown()) {
+                if (null != sharedScheduler) {
+                    scheduler.resumeJob(jobDetail.getKey());
+                } else {
+                    scheduler.resumeAll();
+                }
             }
         } catch (final SchedulerException ex) {
             throw new JobSystemException(ex);
@@ -157,7 +176,7 @@ public final class JobScheduleController {
      */
     public synchronized void triggerJob() {
         try {
-            if (scheduler.isShutdown()) {
+            if (isShutdown()) {
                 return;
             }
             if (!scheduler.checkExists(jobDetail.getKey())) {
@@ -189,6 +208,10 @@ public final class JobScheduleController {
      * @param isCleanShutdown if wait jobs complete
      */
     public synchronized void shutdown(final boolean isCleanShutdown) {
+        if (null != sharedScheduler) {
+            sharedScheduler.unregisterJob(triggerIdentity, jobDetail.getKey(), isCleanShutdown);
+            return;
+        }
         try {
             if (!scheduler.isShutdown()) {
                 scheduler.shutdown(isCleanShutdown);
@@ -197,4 +220,8 @@ public final class JobScheduleController {
             throw new JobSystemException(ex);
         }
     }
+    
+    private boolean isShutdown() throws SchedulerException {
+        return null != sharedScheduler ? !sharedScheduler.isRegistered(triggerIdentity) : scheduler.isShutdown();
+    }
 }
@@ -151,12 +151,20 @@ public final class JobScheduler {
     }
     
     private JobScheduleController createJobScheduleController() {
-        JobScheduleController result = new JobScheduleController(createScheduler(), createJobDetail(), getJobConfig().getJobName());
+        JobScheduleController result = SharedScheduler.isEnabled()
+                ? new JobScheduleController(createSharedScheduler(), createJobDetail(), getJobConfig().getJobName())
+                : new JobScheduleController(createScheduler(), createJobDetail(), getJobConfig().getJobName());
         JobRegistry.getInstance().registerJob(getJobConfig().getJobName(), result);
         registerStartUpInfo();
         return result;
     }
     
+    private SharedScheduler createSharedScheduler() {
+        SharedScheduler result = SharedScheduler.getInstance();
+        result.registerJob(getJobConfig().getJobName(), schedulerFacade.newJobTriggerListener());
+        return result;
+    }
+    
     private Scheduler createScheduler() {
         Scheduler result;
         try {
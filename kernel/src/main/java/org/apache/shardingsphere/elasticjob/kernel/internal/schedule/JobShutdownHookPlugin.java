@@ -60,6 +60,10 @@ public final class JobShutdownHookPlugin implements SchedulerPlugin {
     
     @Override
     public void shutdown() {
+        releaseJobInstance(jobName);
+    }
+    
+    static void releaseJobInstance(final String jobName) {
         CoordinatorRegistryCenter regCenter = JobRegistry.getInstance().getRegCenter(jobName);
         if (null == regCenter) {
             return;
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
 
 import lombok.Setter;
 import org.apache.shardingsphere.elasticjob.kernel.executor.ElasticJobExecutor;
+import org.quartz.DisallowConcurrentExecution;
 import org.quartz.InterruptableJob;
 import org.quartz.JobExecutionContext;
 import org.quartz.UnableToInterruptJobException;
@@ -27,7 +28,13 @@ import java.util.Objects;
 
 /**
  * Lite job.
+ * 
+ * <p>
+ * Concurrent execution is disallowed, so a trigger of a job is blocked while its previous execution is still running,
+ * even if job is fired by shared scheduler with multiple threads.
+ * </p>
  */
+@DisallowConcurrentExecution
 @Setter
 public final class LiteJob implements InterruptableJob {
     
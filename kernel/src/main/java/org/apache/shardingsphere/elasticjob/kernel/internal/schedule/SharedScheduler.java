@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.kernel.infra.util.BlockUtils;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.TriggerListener;
+import org.quartz.impl.StdSchedulerFactory;
+import org.quartz.impl.matchers.KeyMatcher;
+import org.quartz.listeners.TriggerListenerSupport;
+import org.quartz.simpl.SimpleThreadPool;
+
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared scheduler.
+ * 
+ * <p>
+ * Enabled by system variable {@value #SHARED_SCHEDULER_ENABLED}.
+ * All jobs in current process are fired by one quartz scheduler and dispatched into a bounded worker pool,
+ * instead of one quartz scheduler thread and one worker thread per job.
+ * </p>
+ */
+@Slf4j
+public final class SharedScheduler {
+    
+    public static final String SHARED_SCHEDULER_ENABLED = "elasticjob.scheduler.shared";
+    
+    public static final String SHARED_SCHEDULER_THREAD_COUNT = "elasticjob.scheduler.shared.thread-count";
+    
+    public static final String SHARED_SCHEDULER_MISFIRE_THRESHOLD = "elasticjob.scheduler.shared.misfire-threshold-milliseconds";
+    
+    private static final long DEFAULT_MISFIRE_THRESHOLD_MILLISECONDS = 5000L;
+    
+    private static final String INSTANCE_NAME = "ElasticJobSharedScheduler";
+    
+    private static final String TRIGGER_LISTENER_NAME_PREFIX = "JobTriggerListener-";
+    
+    private static volatile SharedScheduler instance;
+    
+    private final String instanceName;
+    
+    @Getter
+    private final Scheduler scheduler;
+    
+    private final Set<String> jobNames = ConcurrentHashMap.newKeySet();
+    
+    private SharedScheduler() {
+        this(INSTANCE_NAME);
+        registerShutdownHook();
+    }
+    
+    SharedScheduler(final String instanceName) {
+        this.instanceName = instanceName;
+        scheduler = createScheduler();
+    }
+    
+    /**
+     * Judge shared scheduler is enabled or not.
+     * 
+     * @return shared scheduler is enabled or not
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean(SHARED_SCHEDULER_ENABLED);
+    }
+    
+    /**
+     * Get instance of shared scheduler.
+     * 
+     * @return instance of shared scheduler
+     */
+    public static SharedScheduler getInstance() {
+        if (null == instance) {
+            synchronized (SharedScheduler.class) {
+                if (null == instance) {
+                    instance = new SharedScheduler();
+                }
+            }
+        }
+        return instance;
+    }
+    
+    private Scheduler createScheduler() {
+        try {
+            StdSchedulerFactory factory = new StdSchedulerFactory();
+            factory.initialize(getQuartzProps());
+            return factory.getScheduler();
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    private Properties getQuartzProps() {
+        Properties result = new Properties();
+        result.put("org.quartz.threadPool.class", SimpleThreadPool.class.getName());
+        result.put("org.quartz.threadPool.threadCount", String.valueOf(Integer.getInteger(SHARED_SCHEDULER_THREAD_COUNT, Runtime.getRuntime().availableProcessors() * 2)));
+        result.put("org.quartz.scheduler.instanceName", instanceName);
+        result.put("org.quartz.jobStore.misfireThreshold", String.valueOf(Long.getLong(SHARED_SCHEDULER_MISFIRE_THRESHOLD, DEFAULT_MISFIRE_THRESHOLD_MILLISECONDS)));
+        result.put("org.quartz.scheduler.interruptJobsOnShutdown", Boolean.TRUE.toString());
+        return result;
+    }
+    
+    private void registerShutdownHook() {
+        Runtime.getRuntime().addShutdownHook(new Thread("Quartz Shutdown-Hook " + instanceName) {
+            
+            @Override
+            public void run() {
+                log.info("Shutting down Quartz... {}", instanceName);
+                for (String each : jobNames) {
+                    JobScheduleController scheduleController = JobRegistry.getInstance().getJobScheduleController(each);
+                    if (null != scheduleController) {
+                        scheduleController.shutdown(true);
+                    }
+                }
+                shutdown();
+            }
+        });
+    }
+    
+    /**
+     * Shutdown shared scheduler.
+     */
+    void shutdown() {
+        try {
+            scheduler.shutdown(true);
+        } catch (final SchedulerException ex) {
+            log.warn("Shutdown {} failure.", instanceName, ex);
+        }
+    }
+    
+    /**
+     * Register job into shared scheduler.
+     * 
+     * @param jobName job name
+     * @param triggerListener trigger listener of job
+     */
+    public void registerJob(final String jobName, final TriggerListener triggerListener) {
+        try {
+            TriggerListener jobScopedTriggerListener = new JobScopedTriggerListener(TRIGGER_LISTENER_NAME_PREFIX + jobName, triggerListener);
+            scheduler.getListenerManager().addTriggerListener(jobScopedTriggerListener, KeyMatcher.keyEquals(TriggerKey.triggerKey(jobName)));
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+        jobNames.add(jobName);
+    }
+    
+    /**
+     * Judge job is registered or not.
+     * 
+     * @param jobName job name
+     * @return job is registered or not
+     */
+    public boolean isRegistered(final String jobName) {
+        return jobNames.contains(jobName) && !isSchedulerShutdown();
+    }
+    
+    private boolean isSchedulerShutdown() {
+        try {
+            return scheduler.isShutdown();
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+    }
+    
+    /**
+     * Unregister job from shared scheduler.
+     * 
+     * <p>Only triggers of the job are removed, shared scheduler keeps running for other jobs.</p>
+     * 
+     * @param jobName job name
+     * @param jobKey job key
+     * @param isCleanShutdown if wait job complete
+     */
+    public void unregisterJob(final String jobName, final JobKey jobKey, final boolean isCleanShutdown) {
+        if (!jobNames.remove(jobName)) {
+            return;
+        }
+        try {
+            if (isCleanShutdown) {
+                waitUntilJobCompleted(jobKey);
+            } else {
+                scheduler.interrupt(jobKey);
+            }
+            scheduler.deleteJob(jobKey);
+            scheduler.getListenerManager().removeTriggerListener(TRIGGER_LISTENER_NAME_PREFIX + jobName);
+        } catch (final SchedulerException ex) {
+            throw new JobSystemException(ex);
+        }
+        JobShutdownHookPlugin.releaseJobInstance(jobName);
+    }
+    
+    private void waitUntilJobCompleted(final JobKey jobKey) throws SchedulerException {
+        while (scheduler.getCurrentlyExecutingJobs().stream().anyMatch(each -> jobKey.equals(each.getJobDetail().getKey()))) {
+            BlockUtils.waitingShortTime();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class JobScopedTriggerListener extends TriggerListenerSupport {
+        
+        private final String name;
+        
+        private final TriggerListener delegate;
+        
+        @Override
+        public String getName() {
+            return name;
+        }
+        
+        @Override
+        public void triggerMisfired(final Trigger trigger) {
+            delegate.triggerMisfired(trigger);
+        }
+    }
+}
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.server;
 
 import com.google.common.base.Strings;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.shardingsphere.elasticjob.kernel.infra.util.BlockUtils;
 import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceNode;
 import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
@@ -35,6 +34,8 @@ import java.util.stream.Collectors;
  */
 public final class ServerService {
     
+    private static final long SERVER_STATUS_WAITING_MILLIS = 1000L;
+    
     private final String jobName;
     
     private final JobNodeStorage jobNodeStorage;
@@ -100,8 +101,8 @@ public final class ServerService {
      */
     public boolean isEnableServer(final String ip) {
         String serverStatus = jobNodeStorage.getJobNodeData(serverNode.getServerNode(ip));
-        for (int i = 0; Strings.isNullOrEmpty(serverStatus) && i < 10; i++) {
-            BlockUtils.waitingShortTime();
+        if (Strings.isNullOrEmpty(serverStatus)) {
+            jobNodeStorage.waitUntil(() -> !Strings.isNullOrEmpty(jobNodeStorage.getJobNodeData(serverNode.getServerNode(ip))), SERVER_STATUS_WAITING_MILLIS);
             serverStatus = jobNodeStorage.getJobNodeData(serverNode.getServerNode(ip));
         }
         return ServerStatus.ENABLED.name().equals(serverStatus);
@@ -18,11 +18,15 @@
 package org.apache.shardingsphere.elasticjob.kernel.internal.setup;
 
 import org.apache.shardingsphere.elasticjob.spi.listener.ElasticJobListener;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.election.LeaderService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceLoadService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerManager;
 import org.apache.shardingsphere.elasticjob.kernel.internal.reconcile.ReconcileService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.type.WeightedJobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 
 import java.util.Collection;
@@ -32,16 +36,22 @@ import java.util.Collection;
  */
 public final class SetUpFacade {
     
+    private final ConfigurationService configService;
+    
     private final LeaderService leaderService;
     
     private final ServerService serverService;
     
     private final InstanceService instanceService;
     
+    private final InstanceLoadService instanceLoadService;
+    
     private final ReconcileService reconcileService;
     
     private final ListenerManager listenerManager;
     
+    private final JobNodeStorage jobNodeStorage;
+    
     /**
      * JobName.
      */
@@ -53,11 +63,14 @@ public final class SetUpFacade {
     private final CoordinatorRegistryCenter regCenter;
     
     public SetUpFacade(final CoordinatorRegistryCenter regCenter, final String jobName, final Collection<ElasticJobListener> elasticJobListeners) {
+        configService = new ConfigurationService(regCenter, jobName);
         leaderService = new LeaderService(regCenter, jobName);
         serverService = new ServerService(regCenter, jobName);
         instanceService = new InstanceService(regCenter, jobName);
+        instanceLoadService = new InstanceLoadService(regCenter, jobName);
         reconcileService = new ReconcileService(regCenter, jobName);
         listenerManager = new ListenerManager(regCenter, jobName, elasticJobListeners);
+        jobNodeStorage = new JobNodeStorage(regCenter, jobName);
         this.jobName = jobName;
         this.regCenter = regCenter;
     }
@@ -75,17 +88,28 @@ public final class SetUpFacade {
         if (!reconcileService.isRunning()) {
             reconcileService.startAsync();
         }
+        if (isWeightedSharding() && !instanceLoadService.isRunning()) {
+            instanceLoadService.startAsync();
+        }
         serverService.removeOfflineServers();
     }
     
+    private boolean isWeightedSharding() {
+        return WeightedJobShardingStrategy.TYPE.equalsIgnoreCase(configService.load(true).getJobShardingStrategyType());
+    }
+    
     /**
      * Tear down.
      */
     public void tearDown() {
         regCenter.removeConnStateListener("/" + this.jobName);
         regCenter.removeDataListeners("/" + this.jobName);
+        jobNodeStorage.removeJobNodeChangedNotifier();
         if (reconcileService.isRunning()) {
             reconcileService.stopAsync();
         }
+        if (instanceLoadService.isRunning()) {
+            instanceLoadService.stopAsync();
+        }
     }
 }
@@ -30,6 +30,8 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Execution service.
@@ -60,12 +62,11 @@ public final class ExecutionService {
             return;
         }
         String jobInstanceId = JobRegistry.getInstance().getJobInstance(jobName).getJobInstanceId();
-        for (int each : shardingContexts.getShardingItemParameters().keySet()) {
-            if (jobConfig.isFailover()) {
-                jobNodeStorage.fillJobNode(ShardingNode.getRunningNode(each), jobInstanceId);
-            } else {
-                jobNodeStorage.fillEphemeralJobNode(ShardingNode.getRunningNode(each), jobInstanceId);
-            }
+        List<String> runningNodes = shardingContexts.getShardingItemParameters().keySet().stream().map(ShardingNode::getRunningNode).collect(Collectors.toList());
+        if (jobConfig.isFailover()) {
+            jobNodeStorage.fillJobNodes(runningNodes, jobInstanceId);
+        } else {
+            jobNodeStorage.fillEphemeralJobNodes(runningNodes, jobInstanceId);
         }
     }
     
@@ -80,11 +81,8 @@ public final class ExecutionService {
         if (!configService.load(true).isMonitorExecution()) {
             return;
         }
-        for (int each : shardingContexts.getShardingItemParameters().keySet()) {
-            if (!failedItems.contains(each)) {
-                jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getRunningNode(each));
-            }
-        }
+        jobNodeStorage.removeJobNodesIfExisted(shardingContexts.getShardingItemParameters().keySet().stream()
+                .filter(each -> !failedItems.contains(each)).map(ShardingNode::getRunningNode).collect(Collectors.toList()));
     }
     
     /**
@@ -100,9 +98,7 @@ public final class ExecutionService {
      * @param items sharding items which need to be cleared
      */
     public void clearRunningInfo(final List<Integer> items) {
-        for (int each : items) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getRunningNode(each));
-        }
+        jobNodeStorage.removeJobNodesIfExisted(filterItems(items, ShardingNode.RUNNING_APPENDIX, true).stream().map(ShardingNode::getRunningNode).collect(Collectors.toList()));
     }
     
     /**
@@ -150,8 +146,9 @@ public final class ExecutionService {
     public Map<Integer, JobInstance> getAllRunningItems() {
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
         Map<Integer, JobInstance> result = new LinkedHashMap<>(shardingTotalCount, 1);
+        Map<String, String> runningInstances = jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, ShardingNode.RUNNING_APPENDIX);
         for (int i = 0; i < shardingTotalCount; i++) {
-            String data = jobNodeStorage.getJobNodeData(ShardingNode.getRunningNode(i));
+            String data = runningInstances.get(String.valueOf(i));
             if (!Strings.isNullOrEmpty(data)) {
                 result.put(i, new JobInstance(data));
             }
@@ -179,9 +176,7 @@ public final class ExecutionService {
      * @param items sharding items need to be set misfire flag
      */
     public void setMisfire(final Collection<Integer> items) {
-        for (int each : items) {
-            jobNodeStorage.createJobNodeIfNeeded(ShardingNode.getMisfireNode(each));
-        }
+        jobNodeStorage.createJobNodesIfNeeded(filterItems(items, ShardingNode.MISFIRE_APPENDIX, false).stream().map(ShardingNode::getMisfireNode).collect(Collectors.toList()));
     }
     
     /**
@@ -191,13 +186,7 @@ public final class ExecutionService {
      * @return misfired job sharding items
      */
     public List<Integer> getMisfiredJobItems(final Collection<Integer> items) {
-        List<Integer> result = new ArrayList<>(items.size());
-        for (int each : items) {
-            if (jobNodeStorage.isJobNodeExisted(ShardingNode.getMisfireNode(each))) {
-                result.add(each);
-            }
-        }
-        return result;
+        return filterItems(items, ShardingNode.MISFIRE_APPENDIX, true);
     }
     
     /**
@@ -206,9 +195,12 @@ public final class ExecutionService {
      * @param items sharding items need to be cleared
      */
     public void clearMisfire(final Collection<Integer> items) {
-        for (int each : items) {
-            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getMisfireNode(each));
-        }
+        jobNodeStorage.removeJobNodesIfExisted(filterItems(items, ShardingNode.MISFIRE_APPENDIX, true).stream().map(ShardingNode::getMisfireNode).collect(Collectors.toList()));
+    }
+    
+    private List<Integer> filterItems(final Collection<Integer> items, final String leafName, final boolean existed) {
+        Set<String> existedItems = jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, leafName).keySet();
+        return items.stream().filter(each -> existed == existedItems.contains(String.valueOf(each))).collect(Collectors.toList());
     }
     
     /**
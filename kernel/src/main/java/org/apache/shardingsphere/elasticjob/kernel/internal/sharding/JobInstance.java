@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
 
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -27,8 +26,11 @@ import java.lang.management.ManagementFactory;
 
 /**
  * Job instance.
+ * 
+ * <p>
+ * Load fields are reported by the job instance itself and are {@code null} until they are published.
+ * </p>
  */
-@AllArgsConstructor
 @Getter
 @Setter
 @EqualsAndHashCode(of = "jobInstanceId")
@@ -42,6 +44,14 @@ public final class JobInstance {
     
     private String serverIp;
     
+    private Integer weight;
+    
+    private Integer activeThreads;
+    
+    private Integer queueSize;
+    
+    private Long itemLatencyMillis;
+    
     public JobInstance() {
         this(IpUtils.getIp() + DELIMITER + ManagementFactory.getRuntimeMXBean().getName().split("@")[0]);
     }
@@ -53,4 +63,10 @@ public final class JobInstance {
     public JobInstance(final String jobInstanceId, final String labels) {
         this(jobInstanceId, labels, IpUtils.getIp());
     }
+    
+    public JobInstance(final String jobInstanceId, final String labels, final String serverIp) {
+        this.jobInstanceId = jobInstanceId;
+        this.labels = labels;
+        this.serverIp = serverIp;
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerNotifierManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resharding debouncer.
+ * 
+ * <p>
+ * Coalesces resharding requests which arrive within a quiet period into one resharding,
+ * which is delayed at most the max delay after the first request, so rolling deployments do not cause resharding storms.
+ * Quiet period and max delay are specified by system variables {@value #QUIET_PERIOD_MILLISECONDS} and {@value #MAX_DELAY_MILLISECONDS},
+ * requests are handled at once if quiet period is not positive.
+ * The shared scheduler only keeps time, delayed resharding runs on the listener notify executor of the job.
+ * </p>
+ */
+@Slf4j
+final class ReshardingDebouncer {
+    
+    public static final String QUIET_PERIOD_MILLISECONDS = "elasticjob.sharding.debounce.quiet-period-milliseconds";
+    
+    public static final String MAX_DELAY_MILLISECONDS = "elasticjob.sharding.debounce.max-delay-milliseconds";
+    
+    private static final ScheduledExecutorService SCHEDULER = createScheduler();
+    
+    private final String jobName;
+    
+    private final long quietPeriodMillis;
+    
+    private final long maxDelayMillis;
+    
+    private final Runnable reshardingAction;
+    
+    private long firstRequestTime;
+    
+    private long generation;
+    
+    private ScheduledFuture<?> pendingResharding;
+    
+    ReshardingDebouncer(final String jobName, final Runnable reshardingAction) {
+        this(jobName, Long.getLong(QUIET_PERIOD_MILLISECONDS, 0L), Long.getLong(MAX_DELAY_MILLISECONDS, 30000L), reshardingAction);
+    }
+    
+    ReshardingDebouncer(final String jobName, final long quietPeriodMillis, final long maxDelayMillis, final Runnable reshardingAction) {
+        this.jobName = jobName;
+        this.quietPeriodMillis = quietPeriodMillis;
+        this.maxDelayMillis = Math.max(maxDelayMillis, quietPeriodMillis);
+        this.reshardingAction = reshardingAction;
+    }
+    
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, new BasicThreadFactory.Builder().namingPattern("resharding-debouncer-%s").daemon(true).build());
+        result.setRemoveOnCancelPolicy(true);
+        return result;
+    }
+    
+    /**
+     * Request resharding.
+     */
+    void request() {
+        if (quietPeriodMillis <= 0L) {
+            reshardingAction.run();
+            return;
+        }
+        schedule();
+    }
+    
+    private synchronized void schedule() {
+        long now = System.currentTimeMillis();
+        if (null == pendingResharding) {
+            firstRequestTime = now;
+        } else {
+            pendingResharding.cancel(false);
+        }
+        long delay = Math.min(quietPeriodMillis, Math.max(0L, firstRequestTime + maxDelayMillis - now));
+        long currentGeneration = ++generation;
+        pendingResharding = SCHEDULER.schedule(() -> fire(currentGeneration), delay, TimeUnit.MILLISECONDS);
+    }
+    
+    private void fire(final long expectedGeneration) {
+        synchronized (this) {
+            if (expectedGeneration != generation) {
+                return;
+            }
+            pendingResharding = null;
+        }
+        Executor executor = ListenerNotifierManager.getInstance().getJobNotifyExecutor(jobName);
+        if (null == executor) {
+            log.debug("Elastic Job: listener notify executor of job '{}' is removed, skip resharding.", jobName);
+            return;
+        }
+        try {
+            executor.execute(this::runReshardingAction);
+        } catch (final RejectedExecutionException ignore) {
+            log.debug("Elastic Job: listener notify executor of job '{}' is shutdown, skip resharding.", jobName);
+        }
+    }
+    
+    private void runReshardingAction() {
+        try {
+            reshardingAction.run();
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Elastic Job: set resharding flag of job '{}' failure.", jobName, ex);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Sharding assignment, which encodes job instances of all sharding items into one node.
+ * 
+ * <p>
+ * Enabled by job property {@value #COMPACT_KEY}.
+ * The content is made up of three lines: the version, the table of job instance IDs separated by comma,
+ * and continuous ranges of sharding items with index of job instance in the table separated by comma, such as:
+ * </p>
+ * <pre>
+ * 1700000000000
+ * 192.168.1.1@-@1001,192.168.1.2@-@1002
+ * 0-4:0,5-8:1,9:0
+ * </pre>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class ShardingAssignment {
+    
+    public static final String COMPACT_KEY = "sharding.assignment.compact";
+    
+    private static final String LINE_SEPARATOR = "\n";
+    
+    private static final String ELEMENT_SEPARATOR = ",";
+    
+    private static final String RANGE_SEPARATOR = "-";
+    
+    private static final String INDEX_SEPARATOR = ":";
+    
+    private final long version;
+    
+    /**
+     * Job instance IDs keyed by sharding item.
+     */
+    private final Map<Integer, String> shardingInstances;
+    
+    /**
+     * Encode sharding results.
+     * 
+     * @param version version of sharding assignment
+     * @param shardingResults sharding results
+     * @return encoded sharding assignment
+     */
+    public static String encode(final long version, final Map<JobInstance, List<Integer>> shardingResults) {
+        List<String> jobInstanceIds = new ArrayList<>(shardingResults.size());
+        SortedMap<Integer, Integer> indexes = new TreeMap<>();
+        for (Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
+            for (int each : entry.getValue()) {
+                indexes.put(each, jobInstanceIds.size());
+            }
+            jobInstanceIds.add(entry.getKey().getJobInstanceId());
+        }
+        StringBuilder result = new StringBuilder().append(version).append(LINE_SEPARATOR).append(String.join(ELEMENT_SEPARATOR, jobInstanceIds)).append(LINE_SEPARATOR);
+        int start = -1;
+        int end = -1;
+        int index = -1;
+        for (Entry<Integer, Integer> entry : indexes.entrySet()) {
+            if (entry.getKey() == end + 1 && entry.getValue() == index) {
+                end = entry.getKey();
+                continue;
+            }
+            appendRange(result, start, end, index);
+            start = entry.getKey();
+            end = entry.getKey();
+            index = entry.getValue();
+        }
+        appendRange(result, start, end, index);
+        return result.toString();
+    }
+    
+    private static void appendRange(final StringBuilder builder, final int start, final int end, final int index) {
+        if (start < 0) {
+            return;
+        }
+        if (builder.charAt(builder.length() - 1) != LINE_SEPARATOR.charAt(0)) {
+            builder.append(ELEMENT_SEPARATOR);
+        }
+        builder.append(start);
+        if (end > start) {
+            builder.append(RANGE_SEPARATOR).append(end);
+        }
+        builder.append(INDEX_SEPARATOR).append(index);
+    }
+    
+    /**
+     * Decode sharding assignment.
+     * 
+     * @param content encoded sharding assignment
+     * @return sharding assignment
+     */
+    public static ShardingAssignment decode(final String content) {
+        String[] lines = content.split(LINE_SEPARATOR, -1);
+        String[] jobInstanceIds = lines[1].isEmpty() ? new String[0] : lines[1].split(ELEMENT_SEPARATOR);
+        Map<Integer, String> shardingInstances = new HashMap<>();
+        if (lines.length > 2 && !lines[2].isEmpty()) {
+            for (String each : lines[2].split(ELEMENT_SEPARATOR)) {
+                int indexPosition = each.indexOf(INDEX_SEPARATOR);
+                int rangePosition = each.indexOf(RANGE_SEPARATOR);
+                int start = Integer.parseInt(each.substring(0, rangePosition < 0 ? indexPosition : rangePosition));
+                int end = rangePosition < 0 ? start : Integer.parseInt(each.substring(rangePosition + 1, indexPosition));
+                String jobInstanceId = jobInstanceIds[Integer.parseInt(each.substring(indexPosition + 1))];
+                for (int i = start; i <= end; i++) {
+                    shardingInstances.put(i, jobInstanceId);
+                }
+            }
+        }
+        return new ShardingAssignment(Long.parseLong(lines[0]), Collections.unmodifiableMap(shardingInstances));
+    }
+    
+    /**
+     * Decode version of sharding assignment only.
+     * 
+     * @param content encoded sharding assignment
+     * @return version of sharding assignment
+     */
+    public static long decodeVersion(final String content) {
+        int lineEnd = content.indexOf(LINE_SEPARATOR);
+        return Long.parseLong(lineEnd < 0 ? content : content.substring(0, lineEnd));
+    }
+}
@@ -50,6 +50,8 @@ public final class ShardingListenerManager extends AbstractListenerManager {
     
     private final ConfigurationService configService;
     
+    private final ReshardingDebouncer reshardingDebouncer;
+    
     public ShardingListenerManager(final CoordinatorRegistryCenter regCenter, final String jobName) {
         super(regCenter, jobName);
         this.jobName = jobName;
@@ -59,6 +61,13 @@ public final class ShardingListenerManager extends AbstractListenerManager {
         shardingService = new ShardingService(regCenter, jobName);
         jobNodePath = new JobNodePath(jobName);
         configService = new ConfigurationService(regCenter, jobName);
+        reshardingDebouncer = new ReshardingDebouncer(jobName, this::setReshardingFlagIfRunning);
+    }
+    
+    private void setReshardingFlagIfRunning() {
+        if (!JobRegistry.getInstance().isShutdown(jobName)) {
+            shardingService.setReshardingFlag();
+        }
     }
     
     @Override
@@ -86,7 +95,7 @@ public final class ShardingListenerManager extends AbstractListenerManager {
         @Override
         public void onChange(final DataChangedEvent event) {
             if (!JobRegistry.getInstance().isShutdown(jobName) && (isInstanceChange(event.getType(), event.getKey()) || isServerChange(event.getKey())) && !(isStaticSharding() && hasShardingInfo())) {
-                shardingService.setReshardingFlag();
+                reshardingDebouncer.request();
             }
         }
         
@@ -27,15 +27,19 @@ public final class ShardingNode {
     
     public static final String ROOT = "sharding";
     
-    private static final String INSTANCE_APPENDIX = "instance";
+    static final String ASSIGNMENT = "assignment";
     
-    private static final String INSTANCE = ROOT + "/%s/" + INSTANCE_APPENDIX;
+    static final String INSTANCE_APPENDIX = "instance";
+    
+    static final String RUNNING_APPENDIX = "running";
     
-    private static final String RUNNING_APPENDIX = "running";
+    static final String MISFIRE_APPENDIX = "misfire";
+    
+    private static final String INSTANCE = ROOT + "/%s/" + INSTANCE_APPENDIX;
     
     private static final String RUNNING = ROOT + "/%s/" + RUNNING_APPENDIX;
     
-    private static final String MISFIRE = ROOT + "/%s/misfire";
+    private static final String MISFIRE = ROOT + "/%s/" + MISFIRE_APPENDIX;
     
     private static final String DISABLED = ROOT + "/%s/disabled";
     
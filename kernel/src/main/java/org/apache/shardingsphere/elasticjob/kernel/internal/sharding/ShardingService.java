@@ -19,8 +19,8 @@ package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
-import org.apache.shardingsphere.elasticjob.kernel.infra.util.BlockUtils;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.JobShardingStrategy;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.StickyJobShardingStrategy;
 import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
 import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.election.LeaderService;
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry
 import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.kernel.metrics.JobMetrics;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -37,10 +38,13 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * Sharding service.
@@ -66,6 +70,8 @@ public final class ShardingService {
     
     private final JobNodePath jobNodePath;
     
+    private volatile ShardingAssignment shardingAssignment;
+    
     public ShardingService(final CoordinatorRegistryCenter regCenter, final String jobName) {
         this.jobName = jobName;
         jobNodeStorage = new JobNodeStorage(regCenter, jobName);
@@ -110,8 +116,10 @@ public final class ShardingService {
         if (!isNeedSharding() || availableJobInstances.isEmpty()) {
             return;
         }
+        long startTime = System.nanoTime();
         if (!leaderService.isLeaderUntilBlock()) {
             blockUntilShardingCompleted();
+            JobMetrics.recordSharding(jobName, false, System.nanoTime() - startTime);
             return;
         }
         waitingOtherShardingItemCompleted();
@@ -119,26 +127,53 @@ public final class ShardingService {
         int shardingTotalCount = jobConfig.getShardingTotalCount();
         log.debug("Job '{}' sharding begin.", jobName);
         jobNodeStorage.fillEphemeralJobNode(ShardingNode.PROCESSING, "");
-        resetShardingInfo(shardingTotalCount);
         JobShardingStrategy jobShardingStrategy = TypedSPILoader.getService(JobShardingStrategy.class, jobConfig.getJobShardingStrategyType());
-        jobNodeStorage.executeInTransaction(getShardingResultTransactionOperations(jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount)));
+        Map<JobInstance, List<Integer>> shardingResults = jobShardingStrategy instanceof StickyJobShardingStrategy
+                ? ((StickyJobShardingStrategy) jobShardingStrategy).sharding(availableJobInstances, jobName, shardingTotalCount, getShardingInstances())
+                : jobShardingStrategy.sharding(availableJobInstances, jobName, shardingTotalCount);
+        if (Boolean.parseBoolean(jobConfig.getProps().getProperty(ShardingAssignment.COMPACT_KEY, Boolean.FALSE.toString()))) {
+            resetCompactShardingInfo(shardingTotalCount);
+            jobNodeStorage.executeInTransaction(getCompactShardingResultTransactionOperations(shardingResults));
+        } else {
+            resetShardingInfo(shardingTotalCount);
+            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.ASSIGNMENT);
+            jobNodeStorage.executeInTransaction(getShardingResultTransactionOperations(shardingResults));
+        }
+        JobMetrics.recordSharding(jobName, true, System.nanoTime() - startTime);
         log.debug("Job '{}' sharding complete.", jobName);
     }
     
     private void blockUntilShardingCompleted() {
         while (!leaderService.isLeaderUntilBlock() && (jobNodeStorage.isJobNodeExisted(ShardingNode.NECESSARY) || jobNodeStorage.isJobNodeExisted(ShardingNode.PROCESSING))) {
-            log.debug("Job '{}' sleep short time until sharding completed.", jobName);
-            BlockUtils.waitingShortTime();
+            log.debug("Job '{}' wait until sharding completed.", jobName);
+            jobNodeStorage.waitUntil(() -> !jobNodeStorage.isJobNodeExisted(ShardingNode.NECESSARY) && !jobNodeStorage.isJobNodeExisted(ShardingNode.PROCESSING));
         }
     }
     
     private void waitingOtherShardingItemCompleted() {
         while (executionService.hasRunningItems()) {
-            log.debug("Job '{}' sleep short time until other job completed.", jobName);
-            BlockUtils.waitingShortTime();
+            log.debug("Job '{}' wait until other job completed.", jobName);
+            jobNodeStorage.waitUntil(() -> !executionService.hasRunningItems());
         }
     }
     
+    private Map<Integer, String> getShardingInstances() {
+        String assignment = jobNodeStorage.getJobNodeData(ShardingNode.ASSIGNMENT);
+        if (null != assignment) {
+            ShardingAssignment result = shardingAssignment;
+            if (null == result || result.getVersion() != ShardingAssignment.decodeVersion(assignment)) {
+                result = ShardingAssignment.decode(assignment);
+                shardingAssignment = result;
+            }
+            return result.getShardingInstances();
+        }
+        Map<Integer, String> result = new HashMap<>();
+        for (Entry<String, String> entry : jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, ShardingNode.INSTANCE_APPENDIX).entrySet()) {
+            result.put(Integer.parseInt(entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+    
     private void resetShardingInfo(final int shardingTotalCount) {
         for (int i = 0; i < shardingTotalCount; i++) {
             jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getInstanceNode(i));
@@ -152,6 +187,35 @@ public final class ShardingService {
         }
     }
     
+    private void resetCompactShardingInfo(final int shardingTotalCount) {
+        for (String each : jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, ShardingNode.INSTANCE_APPENDIX).keySet()) {
+            jobNodeStorage.removeJobNodeIfExisted(ShardingNode.getInstanceNode(Integer.parseInt(each)));
+        }
+        Set<String> existedItems = new HashSet<>(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT));
+        for (int i = 0; i < shardingTotalCount; i++) {
+            if (!existedItems.contains(String.valueOf(i))) {
+                jobNodeStorage.createJobNodeIfNeeded(ShardingNode.ROOT + "/" + i);
+            }
+        }
+        for (String each : existedItems) {
+            if (Integer.parseInt(each) >= shardingTotalCount) {
+                jobNodeStorage.removeJobNodeIfExisted(ShardingNode.ROOT + "/" + each);
+            }
+        }
+    }
+    
+    private List<TransactionOperation> getCompactShardingResultTransactionOperations(final Map<JobInstance, List<Integer>> shardingResults) {
+        String previousAssignment = jobNodeStorage.getJobNodeDataDirectly(ShardingNode.ASSIGNMENT);
+        long version = null == previousAssignment ? System.currentTimeMillis() : ShardingAssignment.decodeVersion(previousAssignment) + 1;
+        String key = jobNodePath.getFullPath(ShardingNode.ASSIGNMENT);
+        String value = ShardingAssignment.encode(version, shardingResults);
+        List<TransactionOperation> result = new ArrayList<>(3);
+        result.add(null == previousAssignment ? TransactionOperation.opAdd(key, value) : TransactionOperation.opUpdate(key, value));
+        result.add(TransactionOperation.opDelete(jobNodePath.getFullPath(ShardingNode.NECESSARY)));
+        result.add(TransactionOperation.opDelete(jobNodePath.getFullPath(ShardingNode.PROCESSING)));
+        return result;
+    }
+    
     private List<TransactionOperation> getShardingResultTransactionOperations(final Map<JobInstance, List<Integer>> shardingResults) {
         List<TransactionOperation> result = new ArrayList<>(shardingResults.size() + 2);
         for (Entry<JobInstance, List<Integer>> entry : shardingResults.entrySet()) {
@@ -179,8 +243,9 @@ public final class ShardingService {
         }
         List<Integer> result = new LinkedList<>();
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
+        Map<Integer, String> shardingInstances = getShardingInstances();
         for (int i = 0; i < shardingTotalCount; i++) {
-            if (jobInstance.getJobInstanceId().equals(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
+            if (jobInstance.getJobInstanceId().equals(shardingInstances.get(i))) {
                 result.add(i);
             }
         }
@@ -200,8 +265,9 @@ public final class ShardingService {
         }
         List<Integer> result = new LinkedList<>();
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
+        Map<Integer, String> shardingInstances = getShardingInstances();
         for (int i = 0; i < shardingTotalCount; i++) {
-            if (isRunningItem(i) && jobInstanceId.equals(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
+            if (jobInstanceId.equals(shardingInstances.get(i)) && isRunningItem(i)) {
                 result.add(i);
             }
         }
@@ -230,10 +296,11 @@ public final class ShardingService {
      * @return has sharding info in offline servers or not
      */
     public boolean hasShardingInfoInOfflineServers() {
-        List<String> onlineInstances = jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT);
+        Set<String> onlineInstances = new HashSet<>(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT));
         int shardingTotalCount = configService.load(true).getShardingTotalCount();
+        Map<Integer, String> shardingInstances = getShardingInstances();
         for (int i = 0; i < shardingTotalCount; i++) {
-            if (!onlineInstances.contains(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(i)))) {
+            if (!onlineInstances.contains(shardingInstances.get(i))) {
                 return true;
             }
         }
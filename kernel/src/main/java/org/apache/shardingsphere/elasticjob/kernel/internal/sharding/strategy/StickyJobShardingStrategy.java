@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Job sharding strategy which takes previous sharding result as input.
+ */
+public interface StickyJobShardingStrategy extends JobShardingStrategy {
+    
+    /**
+     * Sharding job with previous sharding result.
+     * 
+     * @param jobInstances all job instances which participate in sharding
+     * @param jobName job name
+     * @param shardingTotalCount sharding total count
+     * @param previousShardingResult job instance ID of each previously assigned sharding item
+     * @return sharding result
+     */
+    Map<JobInstance, List<Integer>> sharding(List<JobInstance> jobInstances, String jobName, int shardingTotalCount, Map<Integer, String> previousShardingResult);
+    
+    @Override
+    default Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        return sharding(jobInstances, jobName, shardingTotalCount, Collections.emptyMap());
+    }
+}
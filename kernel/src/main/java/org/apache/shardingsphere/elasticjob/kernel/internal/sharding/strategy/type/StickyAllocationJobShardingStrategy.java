@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.type;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.StickyJobShardingStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Sharding strategy which keeps sharding items on their previous job instances as much as possible.
+ * 
+ * <p>
+ * Each job instance is assigned average count of sharding items, the redundant ones go to the job instances which kept most items.
+ * Items of departed job instances and items over the average count are moved to job instances under the average count,
+ * so only the minimum number of items are moved when job instances join or leave.
+ * For example, if 3 job servers were 1=[0,1,2], 2=[3,4,5], 3=[6,7,8] and job server 4 joins, the result is 1=[0,1,2], 2=[3,4], 3=[6,7], 4=[5,8].
+ * </p>
+ */
+public final class StickyAllocationJobShardingStrategy implements StickyJobShardingStrategy {
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount, final Map<Integer, String> previousShardingResult) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, List<Integer>> keptItems = new LinkedHashMap<>(jobInstances.size(), 1);
+        for (JobInstance each : jobInstances) {
+            keptItems.put(each.getJobInstanceId(), new ArrayList<>());
+        }
+        SortedSet<Integer> unassignedItems = new TreeSet<>();
+        for (int i = 0; i < shardingTotalCount; i++) {
+            List<Integer> items = keptItems.get(previousShardingResult.get(i));
+            if (null == items) {
+                unassignedItems.add(i);
+            } else {
+                items.add(i);
+            }
+        }
+        Map<String, Integer> capacities = getCapacities(jobInstances, shardingTotalCount, keptItems);
+        for (Map.Entry<String, List<Integer>> entry : keptItems.entrySet()) {
+            List<Integer> items = entry.getValue();
+            while (items.size() > capacities.get(entry.getKey())) {
+                unassignedItems.add(items.remove(items.size() - 1));
+            }
+        }
+        Iterator<Integer> unassignedItemIterator = unassignedItems.iterator();
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        for (JobInstance each : jobInstances) {
+            List<Integer> items = keptItems.get(each.getJobInstanceId());
+            while (items.size() < capacities.get(each.getJobInstanceId()) && unassignedItemIterator.hasNext()) {
+                items.add(unassignedItemIterator.next());
+            }
+            Collections.sort(items);
+            result.put(each, items);
+        }
+        return result;
+    }
+    
+    private Map<String, Integer> getCapacities(final List<JobInstance> jobInstances, final int shardingTotalCount, final Map<String, List<Integer>> keptItems) {
+        List<String> jobInstanceIds = new ArrayList<>(keptItems.keySet());
+        jobInstanceIds.sort(Comparator.comparingInt((String each) -> keptItems.get(each).size()).reversed());
+        Map<String, Integer> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        int aliquant = shardingTotalCount % jobInstances.size();
+        for (int i = 0; i < jobInstanceIds.size(); i++) {
+            result.put(jobInstanceIds.get(i), shardingTotalCount / jobInstances.size() + (i < aliquant ? 1 : 0));
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return "STICKY";
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.type;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.JobShardingStrategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sharding strategy which allocates sharding items in proportion to load-aware weights reported by job instances.
+ * 
+ * <p>
+ * Effective weight of a job instance is its reported weight, which defaults to the average weight of other job instances if not reported.
+ * It is multiplied by the ratio of average item latency to its own item latency, bounded between {@value #MIN_LATENCY_FACTOR} and {@value #MAX_LATENCY_FACTOR},
+ * and divided by {@code 1 + queueSize / weight} to back off from job instances with pending work.
+ * Items are allocated by largest remainder and remain continuous ranges in order of job instances.
+ * For example, if 3 job servers have weight 4, 4 and 8 and the total sharding count is 8, each job server is divided into: 1=[0,1], 2=[2,3], 3=[4,5,6,7].
+ * </p>
+ */
+public final class WeightedJobShardingStrategy implements JobShardingStrategy {
+    
+    public static final String TYPE = "WEIGHTED";
+    
+    private static final double MIN_LATENCY_FACTOR = 0.5D;
+    
+    private static final double MAX_LATENCY_FACTOR = 2D;
+    
+    @Override
+    public Map<JobInstance, List<Integer>> sharding(final List<JobInstance> jobInstances, final String jobName, final int shardingTotalCount) {
+        if (jobInstances.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        int[] itemCounts = getItemCounts(getEffectiveWeights(jobInstances), shardingTotalCount);
+        Map<JobInstance, List<Integer>> result = new LinkedHashMap<>(jobInstances.size(), 1);
+        int item = 0;
+        for (int i = 0; i < jobInstances.size(); i++) {
+            List<Integer> shardingItems = new ArrayList<>(itemCounts[i]);
+            for (int j = 0; j < itemCounts[i]; j++) {
+                shardingItems.add(item++);
+            }
+            result.put(jobInstances.get(i), shardingItems);
+        }
+        return result;
+    }
+    
+    private double[] getEffectiveWeights(final List<JobInstance> jobInstances) {
+        double defaultWeight = jobInstances.stream().map(JobInstance::getWeight).filter(Objects::nonNull).filter(each -> each > 0).mapToInt(Integer::intValue).average().orElse(1D);
+        double averageLatency = jobInstances.stream().map(JobInstance::getItemLatencyMillis).filter(Objects::nonNull).filter(each -> each > 0L).mapToLong(Long::longValue).average().orElse(0D);
+        double[] result = new double[jobInstances.size()];
+        for (int i = 0; i < jobInstances.size(); i++) {
+            JobInstance jobInstance = jobInstances.get(i);
+            double weight = null == jobInstance.getWeight() || jobInstance.getWeight() <= 0 ? defaultWeight : jobInstance.getWeight();
+            double latencyFactor = null == jobInstance.getItemLatencyMillis() || jobInstance.getItemLatencyMillis() <= 0L
+                    ? 1D
+                    : Math.max(MIN_LATENCY_FACTOR, Math.min(MAX_LATENCY_FACTOR, averageLatency / jobInstance.getItemLatencyMillis()));
+            double queueSize = null == jobInstance.getQueueSize() ? 0D : Math.max(0, jobInstance.getQueueSize());
+            result[i] = weight * latencyFactor / (1D + queueSize / weight);
+        }
+        return result;
+    }
+    
+    private int[] getItemCounts(final double[] weights, final int shardingTotalCount) {
+        double totalWeight = 0D;
+        for (double each : weights) {
+            totalWeight += each;
+        }
+        int[] result = new int[weights.length];
+        double[] remainders = new double[weights.length];
+        int allocated = 0;
+        for (int i = 0; i < weights.length; i++) {
+            double quota = shardingTotalCount * weights[i] / totalWeight;
+            result[i] = (int) quota;
+            remainders[i] = quota - result[i];
+            allocated += result[i];
+        }
+        List<Integer> indexes = new ArrayList<>(weights.length);
+        for (int i = 0; i < weights.length; i++) {
+            indexes.add(i);
+        }
+        indexes.sort(Comparator.comparingDouble((Integer each) -> remainders[each]).reversed());
+        for (int i = 0; i < shardingTotalCount - allocated; i++) {
+            result[indexes.get(i % weights.length)]++;
+        }
+        return result;
+    }
+    
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
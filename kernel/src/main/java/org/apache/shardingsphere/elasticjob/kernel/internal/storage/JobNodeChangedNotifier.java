@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.storage;
+
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Job node changed notifier, which wakes up threads waiting for job nodes to change.
+ * 
+ * <p>
+ * It is notified in the event thread of registry center directly, so waiters are woken up even if job notify executor is busy.
+ * </p>
+ */
+final class JobNodeChangedNotifier implements DataChangedEventListener {
+    
+    private static final Map<CoordinatorRegistryCenter, Map<String, JobNodeChangedNotifier>> INSTANCES = new ConcurrentHashMap<>();
+    
+    private final Map<String, Long> removedVersions = new HashMap<>();
+    
+    private long version;
+    
+    /**
+     * Get job node changed notifier.
+     * 
+     * @param regCenter registry center
+     * @param jobName job name
+     * @return job node changed notifier
+     */
+    static JobNodeChangedNotifier getInstance(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        return INSTANCES.computeIfAbsent(regCenter, key -> new ConcurrentHashMap<>()).computeIfAbsent(jobName, key -> new JobNodeChangedNotifier());
+    }
+    
+    /**
+     * Remove job node changed notifier and wake up threads waiting on it.
+     * 
+     * @param regCenter registry center
+     * @param jobName job name
+     */
+    static void removeInstance(final CoordinatorRegistryCenter regCenter, final String jobName) {
+        INSTANCES.computeIfPresent(regCenter, (key, notifiers) -> {
+            Optional.ofNullable(notifiers.remove(jobName)).ifPresent(JobNodeChangedNotifier::wakeUp);
+            return notifiers.isEmpty() ? null : notifiers;
+        });
+    }
+    
+    @Override
+    public synchronized void onChange(final DataChangedEvent event) {
+        if (Type.DELETED == event.getType()) {
+            removedVersions.computeIfPresent(event.getKey(), (key, removedVersion) -> removedVersion + 1L);
+        }
+        wakeUp();
+    }
+    
+    private synchronized void wakeUp() {
+        version++;
+        notifyAll();
+    }
+    
+    /**
+     * Get version, which increases when any job node changed.
+     * 
+     * @return version
+     */
+    synchronized long getVersion() {
+        return version;
+    }
+    
+    /**
+     * Get removed version of node, which increases when the node removed.
+     * 
+     * @param path full path of node
+     * @return removed version
+     */
+    synchronized long getRemovedVersion(final String path) {
+        return removedVersions.computeIfAbsent(path, key -> 0L);
+    }
+    
+    /**
+     * Wait until version changed or timeout.
+     * 
+     * @param lastVersion last version
+     * @param timeoutMillis timeout in milliseconds
+     * @throws InterruptedException interrupted exception
+     */
+    synchronized void awaitChange(final long lastVersion, final long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (version == lastVersion && remaining > 0L) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+    }
+}
@@ -39,6 +39,8 @@ public final class JobNodePath {
     
     private static final String SHARDING_NODE = "sharding";
     
+    private static final String SHARDING_ASSIGNMENT_NODE = "assignment";
+    
     private final String jobName;
     
     /**
@@ -107,6 +109,15 @@ public final class JobNodePath {
         return String.format("%s/%s", getInstancesNodePath(), instanceId);
     }
     
+    /**
+     * Get sharding assignment node path.
+     *
+     * @return sharding assignment node path
+     */
+    public String getShardingAssignmentNodePath() {
+        return String.format("/%s/%s", jobName, SHARDING_ASSIGNMENT_NODE);
+    }
+    
     /**
      * Get sharding node path.
      *
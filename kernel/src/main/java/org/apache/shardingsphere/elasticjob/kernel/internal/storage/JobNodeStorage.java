@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.storage;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerNotifierManager;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
@@ -26,14 +27,22 @@ import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedE
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 
 /**
  * Job node storage.
  */
+@Slf4j
 public final class JobNodeStorage {
     
+    private static final long MAX_WAITING_MILLIS = 1000L;
+    
     private final CoordinatorRegistryCenter regCenter;
     
     private final String jobName;
@@ -95,6 +104,17 @@ public final class JobNodeStorage {
         return regCenter.getChildrenKeys(jobNodePath.getFullPath(node));
     }
     
+    /**
+     * Get data of leaf node under each child of job node.
+     * 
+     * @param node node
+     * @param leafName name of leaf node under each child
+     * @return data of leaf nodes keyed by child name
+     */
+    public Map<String, String> getJobNodeChildrenData(final String node, final String leafName) {
+        return regCenter.getChildrenData(jobNodePath.getFullPath(node), leafName);
+    }
+    
     /**
      * Get job root node data.
      *
@@ -117,6 +137,19 @@ public final class JobNodeStorage {
         }
     }
     
+    /**
+     * Create job nodes if needed in one transaction.
+     * 
+     * <p>Create job nodes one by one if transaction failed, which means some of them existed already.</p>
+     * 
+     * @param nodes nodes
+     */
+    public void createJobNodesIfNeeded(final Collection<String> nodes) {
+        if (!tryExecuteInTransaction(nodes, each -> TransactionOperation.opAdd(jobNodePath.getFullPath(each), ""))) {
+            nodes.forEach(this::createJobNodeIfNeeded);
+        }
+    }
+    
     /**
      * Remove job node if existed.
      * 
@@ -128,6 +161,19 @@ public final class JobNodeStorage {
         }
     }
     
+    /**
+     * Remove job nodes if existed in one transaction.
+     * 
+     * <p>Remove job nodes one by one if transaction failed, which means some of them not existed.</p>
+     * 
+     * @param nodes nodes
+     */
+    public void removeJobNodesIfExisted(final Collection<String> nodes) {
+        if (!tryExecuteInTransaction(nodes, each -> TransactionOperation.opDelete(jobNodePath.getFullPath(each)))) {
+            nodes.forEach(this::removeJobNodeIfExisted);
+        }
+    }
+    
     /**
      * Fill job node.
      *
@@ -138,6 +184,20 @@ public final class JobNodeStorage {
         regCenter.persist(jobNodePath.getFullPath(node), value.toString());
     }
     
+    /**
+     * Fill job nodes in one transaction.
+     * 
+     * <p>Fill job nodes one by one if transaction failed, which means some of them existed already.</p>
+     *
+     * @param nodes nodes
+     * @param value data of job nodes
+     */
+    public void fillJobNodes(final Collection<String> nodes, final Object value) {
+        if (!tryExecuteInTransaction(nodes, each -> TransactionOperation.opAdd(jobNodePath.getFullPath(each), value.toString()))) {
+            nodes.forEach(each -> fillJobNode(each, value));
+        }
+    }
+    
     /**
      * Fill ephemeral job node.
      * 
@@ -148,6 +208,20 @@ public final class JobNodeStorage {
         regCenter.persistEphemeral(jobNodePath.getFullPath(node), value.toString());
     }
     
+    /**
+     * Fill ephemeral job nodes in one transaction.
+     * 
+     * <p>Fill ephemeral job nodes one by one if transaction failed, which means some of them existed already.</p>
+     * 
+     * @param nodes nodes
+     * @param value data of job nodes
+     */
+    public void fillEphemeralJobNodes(final Collection<String> nodes, final Object value) {
+        if (!tryExecuteInTransaction(nodes, each -> TransactionOperation.opAddEphemeral(jobNodePath.getFullPath(each), value.toString()))) {
+            nodes.forEach(each -> fillEphemeralJobNode(each, value));
+        }
+    }
+    
     /**
      * Update job node.
      * 
@@ -158,6 +232,16 @@ public final class JobNodeStorage {
         regCenter.update(jobNodePath.getFullPath(node), value.toString());
     }
     
+    /**
+     * Update ephemeral job node, which stays ephemeral after updated.
+     * 
+     * @param node node
+     * @param value data of job node
+     */
+    public void updateEphemeralJobNode(final String node, final Object value) {
+        regCenter.updateEphemeral(jobNodePath.getFullPath(node), value.toString());
+    }
+    
     /**
      * Replace data.
      * 
@@ -195,6 +279,26 @@ public final class JobNodeStorage {
         }
     }
     
+    private boolean tryExecuteInTransaction(final Collection<String> nodes, final Function<String, TransactionOperation> operationFunction) {
+        if (nodes.isEmpty()) {
+            return true;
+        }
+        List<TransactionOperation> transactionOperations = new ArrayList<>(nodes.size() + 1);
+        transactionOperations.add(TransactionOperation.opCheckExists("/" + jobName));
+        for (String each : nodes) {
+            transactionOperations.add(operationFunction.apply(each));
+        }
+        try {
+            regCenter.executeInTransaction(transactionOperations);
+            return true;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.debug("Job '{}' execute operations in transaction failure, cause: {}", jobName, ex.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Execute in leader server.
      * 
@@ -224,6 +328,82 @@ public final class JobNodeStorage {
         regCenter.watch("/" + jobName, listener, executor);
     }
     
+    /**
+     * Add job node changed notifier, which wakes up threads waiting for job nodes to change.
+     */
+    public void addJobNodeChangedNotifier() {
+        regCenter.watch("/" + jobName, JobNodeChangedNotifier.getInstance(regCenter, jobName), null);
+    }
+    
+    /**
+     * Remove job node changed notifier, threads waiting for job nodes to change are woken up.
+     */
+    public void removeJobNodeChangedNotifier() {
+        JobNodeChangedNotifier.removeInstance(regCenter, jobName);
+    }
+    
+    /**
+     * Wait until condition satisfied, or at most {@value #MAX_WAITING_MILLIS} milliseconds in case of missed changes.
+     * 
+     * @param condition condition to be satisfied
+     * @return condition is satisfied or not
+     */
+    public boolean waitUntil(final BooleanSupplier condition) {
+        return waitUntil(condition, MAX_WAITING_MILLIS);
+    }
+    
+    /**
+     * Wait until condition satisfied or timeout.
+     * 
+     * <p>
+     * Condition is evaluated again only when job nodes changed, instead of polling registry center.
+     * </p>
+     * 
+     * @param condition condition to be satisfied
+     * @param timeoutMillis timeout in milliseconds
+     * @return condition is satisfied or not
+     */
+    public boolean waitUntil(final BooleanSupplier condition, final long timeoutMillis) {
+        JobNodeChangedNotifier notifier = JobNodeChangedNotifier.getInstance(regCenter, jobName);
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (true) {
+            long version = notifier.getVersion();
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0L) {
+                return false;
+            }
+            try {
+                notifier.awaitChange(version, remaining);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return condition.getAsBoolean();
+            }
+        }
+    }
+    
+    /**
+     * Wait until condition satisfied or job node removed, or at most the timeout.
+     * 
+     * @param condition condition to be satisfied
+     * @param node node to be watched for removal
+     * @param timeoutMillis timeout in milliseconds
+     * @return condition is satisfied or not
+     */
+    public boolean waitUntilOrJobNodeRemoved(final BooleanSupplier condition, final String node, final long timeoutMillis) {
+        JobNodeChangedNotifier notifier = JobNodeChangedNotifier.getInstance(regCenter, jobName);
+        String path = jobNodePath.getFullPath(node);
+        long removedVersion = notifier.getRemovedVersion(path);
+        AtomicBoolean satisfied = new AtomicBoolean();
+        waitUntil(() -> {
+            satisfied.set(condition.getAsBoolean());
+            return satisfied.get() || removedVersion != notifier.getRemovedVersion(path);
+        }, timeoutMillis);
+        return satisfied.get();
+    }
+    
     /**
      * Get registry center time.
      * 
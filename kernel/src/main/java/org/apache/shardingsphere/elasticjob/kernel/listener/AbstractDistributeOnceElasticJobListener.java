@@ -18,7 +18,6 @@
 package org.apache.shardingsphere.elasticjob.kernel.listener;
 
 import lombok.Setter;
-import org.apache.shardingsphere.elasticjob.kernel.infra.util.BlockUtils;
 import org.apache.shardingsphere.elasticjob.kernel.infra.time.TimeService;
 import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobSystemException;
 import org.apache.shardingsphere.elasticjob.spi.listener.ElasticJobListener;
@@ -58,7 +57,7 @@ public abstract class AbstractDistributeOnceElasticJobListener implements Elasti
         }
         guaranteeService.registerStart(shardingItems);
         while (!guaranteeService.isRegisterStartSuccess(shardingItems)) {
-            BlockUtils.waitingShortTime();
+            guaranteeService.waitUntilRegisterStartSuccess(shardingItems);
         }
         if (guaranteeService.isAllStarted()) {
             guaranteeService.executeInLeaderForLastStarted(this, shardingContexts);
@@ -86,7 +85,7 @@ public abstract class AbstractDistributeOnceElasticJobListener implements Elasti
         }
         guaranteeService.registerComplete(shardingItems);
         while (!guaranteeService.isRegisterCompleteSuccess(shardingItems)) {
-            BlockUtils.waitingShortTime();
+            guaranteeService.waitUntilRegisterCompleteSuccess(shardingItems);
         }
         if (guaranteeService.isAllCompleted()) {
             guaranteeService.executeInLeaderForLastCompleted(this, shardingContexts);
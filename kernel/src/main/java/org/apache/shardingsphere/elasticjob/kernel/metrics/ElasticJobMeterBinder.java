@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * ElasticJob meter binder.
+ * 
+ * <p>
+ * Publishes timers, counters and gauges of job scheduling, execution and coordination to the bound meter registry.
+ * Only one meter registry is bound at a time, use a composite meter registry to publish to several backends.
+ * </p>
+ */
+public final class ElasticJobMeterBinder implements MeterBinder, AutoCloseable {
+    
+    private volatile MeterRegistry meterRegistry;
+    
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        meterRegistry = registry;
+        JobMetrics.bind(registry);
+    }
+    
+    @Override
+    public void close() {
+        if (null != meterRegistry) {
+            JobMetrics.unbind(meterRegistry);
+        }
+    }
+}
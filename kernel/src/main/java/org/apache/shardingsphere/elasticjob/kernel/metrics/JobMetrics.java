@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.ElasticJobExecutorService;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Job metrics.
+ * 
+ * <p>
+ * Every record method is a no-op until a meter registry is bound through {@link ElasticJobMeterBinder},
+ * so micrometer is only required on the class path when metrics are actually published.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class JobMetrics {
+    
+    private static final Map<String, ElasticJobExecutorService> EXECUTOR_SERVICES = new HashMap<>();
+    
+    private static final Map<String, TracingStorageWriterStatistics> TRACING_STORAGE_WRITERS = new HashMap<>();
+    
+    private static AtomicInteger tracingQueueSize;
+    
+    private static volatile MicrometerJobMetricsRecorder recorder;
+    
+    static synchronized void bind(final MeterRegistry meterRegistry) {
+        if (null != recorder) {
+            recorder.close();
+        }
+        recorder = new MicrometerJobMetricsRecorder(meterRegistry);
+        EXECUTOR_SERVICES.forEach(recorder::bindExecutorService);
+        if (null != tracingQueueSize) {
+            recorder.bindTracingQueue(tracingQueueSize);
+        }
+        TRACING_STORAGE_WRITERS.forEach(recorder::bindTracingStorageWriter);
+    }
+    
+    static synchronized void unbind(final MeterRegistry meterRegistry) {
+        if (null != recorder && recorder.getMeterRegistry() == meterRegistry) {
+            recorder.close();
+            recorder = null;
+        }
+    }
+    
+    /**
+     * Judge whether a meter registry is bound.
+     * 
+     * @return meter registry is bound or not
+     */
+    public static boolean isEnabled() {
+        return null != recorder;
+    }
+    
+    /**
+     * Register executor service.
+     * 
+     * @param jobName job name
+     * @param executorService executor service
+     */
+    public static synchronized void registerExecutorService(final String jobName, final ElasticJobExecutorService executorService) {
+        EXECUTOR_SERVICES.put(jobName, executorService);
+        if (null != recorder) {
+            recorder.bindExecutorService(jobName, executorService);
+        }
+    }
+    
+    /**
+     * Unregister executor service.
+     * 
+     * @param jobName job name
+     * @param executorService executor service
+     */
+    public static synchronized void unregisterExecutorService(final String jobName, final ElasticJobExecutorService executorService) {
+        if (EXECUTOR_SERVICES.remove(jobName, executorService) && null != recorder) {
+            recorder.unbindExecutorService(jobName);
+        }
+    }
+    
+    /**
+     * Register tracing queue.
+     * 
+     * @param queueSize count of events waiting in queues of tracing event buses
+     */
+    public static synchronized void registerTracingQueue(final AtomicInteger queueSize) {
+        tracingQueueSize = queueSize;
+        if (null != recorder) {
+            recorder.bindTracingQueue(queueSize);
+        }
+    }
+    
+    /**
+     * Register tracing storage writer.
+     * 
+     * @param storageType tracing storage type
+     * @param statistics statistics of tracing storage writer
+     */
+    public static synchronized void registerTracingStorageWriter(final String storageType, final TracingStorageWriterStatistics statistics) {
+        TRACING_STORAGE_WRITERS.put(storageType, statistics);
+        if (null != recorder) {
+            recorder.bindTracingStorageWriter(storageType, statistics);
+        }
+    }
+    
+    /**
+     * Unregister tracing storage writer.
+     * 
+     * @param storageType tracing storage type
+     * @param statistics statistics of tracing storage writer
+     */
+    public static synchronized void unregisterTracingStorageWriter(final String storageType, final TracingStorageWriterStatistics statistics) {
+        if (TRACING_STORAGE_WRITERS.remove(storageType, statistics) && null != recorder) {
+            recorder.unbindTracingStorageWriter(storageType);
+        }
+    }
+    
+    /**
+     * Record misfire check.
+     * 
+     * @param jobName job name
+     * @param durationNanos duration in nanoseconds
+     * @param misfired misfired or not
+     */
+    public static void recordMisfireCheck(final String jobName, final long durationNanos, final boolean misfired) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordMisfireCheck(jobName, durationNanos, misfired);
+        }
+    }
+    
+    /**
+     * Record job execution.
+     * 
+     * @param jobName job name
+     * @param executionSource execution source
+     * @param durationNanos duration in nanoseconds
+     */
+    public static void recordJobExecution(final String jobName, final String executionSource, final long durationNanos) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordJobExecution(jobName, executionSource, durationNanos);
+        }
+    }
+    
+    /**
+     * Record sharding item execution.
+     * 
+     * @param jobName job name
+     * @param item sharding item
+     * @param success success or not
+     * @param durationNanos duration in nanoseconds
+     */
+    public static void recordItemExecution(final String jobName, final int item, final boolean success, final long durationNanos) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordItemExecution(jobName, item, success, durationNanos);
+        }
+    }
+    
+    /**
+     * Record sharding.
+     * 
+     * @param jobName job name
+     * @param leader whether sharding was performed by leader or waited for by follower
+     * @param durationNanos duration in nanoseconds
+     */
+    public static void recordSharding(final String jobName, final boolean leader, final long durationNanos) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordSharding(jobName, leader, durationNanos);
+        }
+    }
+    
+    /**
+     * Record failover.
+     * 
+     * @param jobName job name
+     * @param durationNanos duration in nanoseconds
+     */
+    public static void recordFailover(final String jobName, final long durationNanos) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordFailover(jobName, durationNanos);
+        }
+    }
+    
+    /**
+     * Record crashed sharding item marked for failover.
+     * 
+     * @param jobName job name
+     * @param item crashed sharding item
+     */
+    public static void recordCrashedItem(final String jobName, final int item) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordCrashedItem(jobName, item);
+        }
+    }
+    
+    /**
+     * Record sharding item taken over by failover.
+     * 
+     * @param jobName job name
+     * @param item sharding item
+     */
+    public static void recordFailoverTakeover(final String jobName, final int item) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordFailoverTakeover(jobName, item);
+        }
+    }
+    
+    /**
+     * Record tracing event.
+     * 
+     * @param jobName job name
+     * @param eventType event type
+     */
+    public static void recordTracingEvent(final String jobName, final String eventType) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordTracingEvent(jobName, eventType);
+        }
+    }
+    
+    /**
+     * Record tracing event dropped.
+     * 
+     * @param jobName job name
+     * @param eventType event type
+     */
+    public static void recordTracingEventDropped(final String jobName, final String eventType) {
+        MicrometerJobMetricsRecorder current = recorder;
+        if (null != current) {
+            current.recordTracingEventDropped(jobName, eventType);
+        }
+    }
+}
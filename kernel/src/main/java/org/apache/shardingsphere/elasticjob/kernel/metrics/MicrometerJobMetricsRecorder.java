@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.ElasticJobExecutorService;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Micrometer job metrics recorder.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+final class MicrometerJobMetricsRecorder {
+    
+    static final String MISFIRE_CHECK_TIMER = "elasticjob.job.misfire.check";
+    
+    static final String MISFIRE_COUNTER = "elasticjob.job.misfire";
+    
+    static final String JOB_EXECUTION_TIMER = "elasticjob.job.execution";
+    
+    static final String ITEM_EXECUTION_TIMER = "elasticjob.job.item.execution";
+    
+    static final String SHARDING_TIMER = "elasticjob.job.sharding";
+    
+    static final String FAILOVER_TIMER = "elasticjob.job.failover";
+    
+    static final String CRASHED_ITEM_COUNTER = "elasticjob.job.failover.crashed";
+    
+    static final String FAILOVER_TAKEOVER_COUNTER = "elasticjob.job.failover.takeover";
+    
+    static final String EXECUTOR_ACTIVE_THREADS_GAUGE = "elasticjob.executor.active.threads";
+    
+    static final String EXECUTOR_QUEUE_SIZE_GAUGE = "elasticjob.executor.queue.size";
+    
+    static final String TRACING_QUEUE_SIZE_GAUGE = "elasticjob.tracing.queue.size";
+    
+    static final String TRACING_EVENT_COUNTER = "elasticjob.tracing.event";
+    
+    static final String TRACING_EVENT_DROPPED_COUNTER = "elasticjob.tracing.event.dropped";
+    
+    static final String TRACING_STORAGE_QUEUE_SIZE_GAUGE = "elasticjob.tracing.storage.queue.size";
+    
+    static final String TRACING_STORAGE_BATCH_COUNTER = "elasticjob.tracing.storage.batch";
+    
+    static final String TRACING_STORAGE_EVENT_COUNTER = "elasticjob.tracing.storage.event";
+    
+    static final String TRACING_STORAGE_EVENT_DROPPED_COUNTER = "elasticjob.tracing.storage.event.dropped";
+    
+    private static final String JOB_TAG = "job";
+    
+    private static final String ITEM_TAG = "item";
+    
+    private static final String SOURCE_TAG = "source";
+    
+    private static final String RESULT_TAG = "result";
+    
+    private static final String ROLE_TAG = "role";
+    
+    private static final String TYPE_TAG = "type";
+    
+    private static final String STORAGE_TAG = "storage";
+    
+    @Getter(AccessLevel.PACKAGE)
+    private final MeterRegistry meterRegistry;
+    
+    private final Map<String, Collection<Meter>> executorServiceMeters = new ConcurrentHashMap<>();
+    
+    private final Map<String, Collection<Meter>> tracingStorageWriterMeters = new ConcurrentHashMap<>();
+    
+    private volatile Meter tracingQueueSizeMeter;
+    
+    void bindExecutorService(final String jobName, final ElasticJobExecutorService executorService) {
+        unbindExecutorService(jobName);
+        executorServiceMeters.put(jobName, Arrays.asList(
+                Gauge.builder(EXECUTOR_ACTIVE_THREADS_GAUGE, executorService, ElasticJobExecutorService::getActiveThreadCount).tag(JOB_TAG, jobName).register(meterRegistry),
+                Gauge.builder(EXECUTOR_QUEUE_SIZE_GAUGE, executorService, ElasticJobExecutorService::getWorkQueueSize).tag(JOB_TAG, jobName).register(meterRegistry)));
+    }
+    
+    void unbindExecutorService(final String jobName) {
+        executorServiceMeters.getOrDefault(jobName, Collections.emptyList()).forEach(meterRegistry::remove);
+        executorServiceMeters.remove(jobName);
+    }
+    
+    void bindTracingQueue(final AtomicInteger queueSize) {
+        if (null != tracingQueueSizeMeter) {
+            meterRegistry.remove(tracingQueueSizeMeter);
+        }
+        tracingQueueSizeMeter = Gauge.builder(TRACING_QUEUE_SIZE_GAUGE, queueSize, AtomicInteger::get).register(meterRegistry);
+    }
+    
+    void bindTracingStorageWriter(final String storageType, final TracingStorageWriterStatistics statistics) {
+        unbindTracingStorageWriter(storageType);
+        tracingStorageWriterMeters.put(storageType, Arrays.asList(
+                Gauge.builder(TRACING_STORAGE_QUEUE_SIZE_GAUGE, statistics, TracingStorageWriterStatistics::getQueueDepth).tag(STORAGE_TAG, storageType).register(meterRegistry),
+                FunctionCounter.builder(TRACING_STORAGE_BATCH_COUNTER, statistics, TracingStorageWriterStatistics::getFlushedBatchCount).tag(STORAGE_TAG, storageType).register(meterRegistry),
+                FunctionCounter.builder(TRACING_STORAGE_EVENT_COUNTER, statistics, TracingStorageWriterStatistics::getFlushedEventCount).tag(STORAGE_TAG, storageType).register(meterRegistry),
+                FunctionCounter.builder(TRACING_STORAGE_EVENT_DROPPED_COUNTER, statistics, TracingStorageWriterStatistics::getDroppedCount).tag(STORAGE_TAG, storageType).register(meterRegistry)));
+    }
+    
+    void unbindTracingStorageWriter(final String storageType) {
+        tracingStorageWriterMeters.getOrDefault(storageType, Collections.emptyList()).forEach(meterRegistry::remove);
+        tracingStorageWriterMeters.remove(storageType);
+    }
+    
+    void recordMisfireCheck(final String jobName, final long durationNanos, final boolean misfired) {
+        Timer.builder(MISFIRE_CHECK_TIMER).tag(JOB_TAG, jobName).register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+        if (misfired) {
+            Counter.builder(MISFIRE_COUNTER).tag(JOB_TAG, jobName).register(meterRegistry).increment();
+        }
+    }
+    
+    void recordJobExecution(final String jobName, final String executionSource, final long durationNanos) {
+        Timer.builder(JOB_EXECUTION_TIMER).tag(JOB_TAG, jobName).tag(SOURCE_TAG, executionSource).register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    void recordItemExecution(final String jobName, final int item, final boolean success, final long durationNanos) {
+        Timer.builder(ITEM_EXECUTION_TIMER).tag(JOB_TAG, jobName).tag(ITEM_TAG, String.valueOf(item)).tag(RESULT_TAG, success ? "success" : "failure")
+                .register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    void recordSharding(final String jobName, final boolean leader, final long durationNanos) {
+        Timer.builder(SHARDING_TIMER).tag(JOB_TAG, jobName).tag(ROLE_TAG, leader ? "leader" : "follower").register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    void recordFailover(final String jobName, final long durationNanos) {
+        Timer.builder(FAILOVER_TIMER).tag(JOB_TAG, jobName).register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    void recordCrashedItem(final String jobName, final int item) {
+        Counter.builder(CRASHED_ITEM_COUNTER).tag(JOB_TAG, jobName).tag(ITEM_TAG, String.valueOf(item)).register(meterRegistry).increment();
+    }
+    
+    void recordFailoverTakeover(final String jobName, final int item) {
+        Counter.builder(FAILOVER_TAKEOVER_COUNTER).tag(JOB_TAG, jobName).tag(ITEM_TAG, String.valueOf(item)).register(meterRegistry).increment();
+    }
+    
+    void recordTracingEvent(final String jobName, final String eventType) {
+        Counter.builder(TRACING_EVENT_COUNTER).tag(JOB_TAG, jobName).tag(TYPE_TAG, eventType).register(meterRegistry).increment();
+    }
+    
+    void recordTracingEventDropped(final String jobName, final String eventType) {
+        Counter.builder(TRACING_EVENT_DROPPED_COUNTER).tag(JOB_TAG, jobName).tag(TYPE_TAG, eventType).register(meterRegistry).increment();
+    }
+    
+    void close() {
+        executorServiceMeters.keySet().forEach(this::unbindExecutorService);
+        tracingStorageWriterMeters.keySet().forEach(this::unbindTracingStorageWriter);
+        if (null != tracingQueueSizeMeter) {
+            meterRegistry.remove(tracingQueueSizeMeter);
+        }
+    }
+}
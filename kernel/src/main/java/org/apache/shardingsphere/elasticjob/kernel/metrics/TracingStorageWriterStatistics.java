@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.metrics;
+
+/**
+ * Statistics of tracing storage writer, which writes tracing events to storage asynchronously.
+ */
+public interface TracingStorageWriterStatistics {
+    
+    /**
+     * Get count of events waiting in queue.
+     *
+     * @return queue depth
+     */
+    int getQueueDepth();
+    
+    /**
+     * Get count of flushed batches.
+     *
+     * @return flushed batch count
+     */
+    long getFlushedBatchCount();
+    
+    /**
+     * Get count of flushed events.
+     *
+     * @return flushed event count
+     */
+    long getFlushedEventCount();
+    
+    /**
+     * Get count of events dropped because queue is full.
+     *
+     * @return dropped count
+     */
+    long getDroppedCount();
+}
@@ -17,44 +17,92 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.tracing.event;
 
-import com.google.common.eventbus.AsyncEventBus;
-import com.google.common.eventbus.EventBus;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.kernel.metrics.JobMetrics;
 import org.apache.shardingsphere.elasticjob.kernel.tracing.config.TracingConfiguration;
 import org.apache.shardingsphere.elasticjob.spi.tracing.exception.TracingConfigurationException;
+import org.apache.shardingsphere.elasticjob.spi.tracing.listener.TracingListener;
 import org.apache.shardingsphere.elasticjob.spi.tracing.listener.TracingListenerFactory;
 import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobEvent;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Job tracing event bus.
+ * 
+ * <p>
+ * Events are put into a bounded queue of the bus, which is handled by {@link TracingOverflowPolicy} when full,
+ * and dispatched to tracing listener in batches by at most one thread of a shared pool at a time.
+ * Capacity, overflow policy and batch size are specified by system variables
+ * {@value #QUEUE_CAPACITY}, {@value #OVERFLOW_POLICY} and {@value #BATCH_SIZE}.
+ * </p>
  */
 @Slf4j
 public final class JobTracingEventBus {
     
+    public static final String QUEUE_CAPACITY = "elasticjob.tracing.event.queue-capacity";
+    
+    public static final String OVERFLOW_POLICY = "elasticjob.tracing.event.overflow-policy";
+    
+    public static final String BATCH_SIZE = "elasticjob.tracing.event.batch-size";
+    
     private static final ExecutorService EXECUTOR_SERVICE;
     
-    private final EventBus eventBus;
+    private static final AtomicInteger QUEUE_SIZE = new AtomicInteger();
+    
+    private final BlockingQueue<JobEvent> queue;
+    
+    private final int capacity;
+    
+    private final TracingOverflowPolicy overflowPolicy;
+    
+    private final int batchSize;
+    
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    
+    private final AtomicLong droppedCount = new AtomicLong();
+    
+    private TracingListener tracingListener;
     
     private volatile boolean isRegistered;
     
     static {
         EXECUTOR_SERVICE = createExecutorService(Runtime.getRuntime().availableProcessors() * 2);
+        JobMetrics.registerTracingQueue(QUEUE_SIZE);
     }
     
     public JobTracingEventBus() {
-        eventBus = null;
+        queue = null;
+        capacity = 0;
+        overflowPolicy = TracingOverflowPolicy.DROP_NEWEST;
+        batchSize = 0;
     }
     
     public JobTracingEventBus(final TracingConfiguration<?> tracingConfig) {
-        eventBus = new AsyncEventBus(EXECUTOR_SERVICE);
+        this(tracingConfig, Integer.getInteger(QUEUE_CAPACITY, 10000),
+                TracingOverflowPolicy.valueOf(System.getProperty(OVERFLOW_POLICY, TracingOverflowPolicy.DROP_NEWEST.name()).toUpperCase()), Integer.getInteger(BATCH_SIZE, 100));
+    }
+    
+    JobTracingEventBus(final TracingConfiguration<?> tracingConfig, final int capacity, final TracingOverflowPolicy overflowPolicy, final int batchSize) {
+        queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
         register(tracingConfig);
     }
     
@@ -62,7 +110,7 @@ public final class JobTracingEventBus {
         ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(threadSize, threadSize, 5L, TimeUnit.MINUTES,
                 new LinkedBlockingQueue<>(), new BasicThreadFactory.Builder().namingPattern(String.join("-", "job-event", "%s")).build());
         threadPoolExecutor.allowCoreThreadTimeOut(true);
-        return MoreExecutors.listeningDecorator(MoreExecutors.getExitingExecutorService(threadPoolExecutor));
+        return MoreExecutors.getExitingExecutorService(threadPoolExecutor);
     }
     
     @SuppressWarnings("unchecked")
@@ -71,8 +119,7 @@ public final class JobTracingEventBus {
             if (null == tracingConfig.getTracingStorageConfiguration()) {
                 throw new TracingConfigurationException(String.format("Can not find executor service handler type '%s'.", tracingConfig.getType()));
             }
-            eventBus.register(
-                    TypedSPILoader.getService(TracingListenerFactory.class, tracingConfig.getType()).create(tracingConfig.getTracingStorageConfiguration().getStorage()));
+            tracingListener = TypedSPILoader.getService(TracingListenerFactory.class, tracingConfig.getType()).create(tracingConfig.getTracingStorageConfiguration().getStorage());
             isRegistered = true;
         } catch (final TracingConfigurationException ex) {
             log.error("Elastic job: create tracing listener failure, error is: ", ex);
@@ -85,8 +132,106 @@ public final class JobTracingEventBus {
      * @param event job event
      */
     public void post(final JobEvent event) {
-        if (isRegistered && !EXECUTOR_SERVICE.isShutdown()) {
-            eventBus.post(event);
+        if (!isRegistered || EXECUTOR_SERVICE.isShutdown()) {
+            return;
+        }
+        if (offer(event)) {
+            QUEUE_SIZE.incrementAndGet();
+            JobMetrics.recordTracingEvent(event.getJobName(), event.getClass().getSimpleName());
+            dispatchIfNecessary();
+        } else {
+            drop(event);
+        }
+    }
+    
+    private boolean offer(final JobEvent event) {
+        switch (overflowPolicy) {
+            case BLOCK:
+                try {
+                    queue.put(event);
+                    return true;
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            case DROP_OLDEST:
+                while (!queue.offer(event)) {
+                    JobEvent oldest = queue.poll();
+                    if (null != oldest) {
+                        QUEUE_SIZE.decrementAndGet();
+                        drop(oldest);
+                    }
+                }
+                return true;
+            case SAMPLE:
+                return isSampled() && queue.offer(event);
+            default:
+                return queue.offer(event);
+        }
+    }
+    
+    private boolean isSampled() {
+        int half = capacity / 2;
+        int size = queue.size();
+        return size < half || ThreadLocalRandom.current().nextInt(capacity - half) >= size - half;
+    }
+    
+    private void drop(final JobEvent event) {
+        if (1L == droppedCount.incrementAndGet()) {
+            log.warn("Elastic job: tracing event queue is full, events are dropped by overflow policy '{}' from now on. "
+                    + "Increase system variable '{}' or set system variable '{}' to 'BLOCK' to keep all events.", overflowPolicy, QUEUE_CAPACITY, OVERFLOW_POLICY);
         }
+        JobMetrics.recordTracingEventDropped(event.getJobName(), event.getClass().getSimpleName());
+    }
+    
+    private void dispatchIfNecessary() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            EXECUTOR_SERVICE.execute(this::dispatch);
+        } catch (final RejectedExecutionException ex) {
+            dispatching.set(false);
+        }
+    }
+    
+    private void dispatch() {
+        while (true) {
+            List<JobEvent> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+            queue.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                dispatching.set(false);
+                if (queue.isEmpty() || !dispatching.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            QUEUE_SIZE.addAndGet(-batch.size());
+            try {
+                tracingListener.listen(batch);
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                log.error("Elastic job: dispatch tracing events failure, error is: ", ex);
+            }
+        }
+    }
+    
+    /**
+     * Get count of events waiting in queue.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return null == queue ? 0 : queue.size();
+    }
+    
+    /**
+     * Get count of events dropped by overflow policy.
+     *
+     * @return dropped count
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.tracing.event;
+
+/**
+ * Tracing overflow policy, which decides what to do when queue of tracing event bus is full.
+ */
+public enum TracingOverflowPolicy {
+    
+    /**
+     * Block posting thread until queue has space.
+     */
+    BLOCK,
+    
+    /**
+     * Drop the oldest event in queue to accept the new one.
+     */
+    DROP_OLDEST,
+    
+    /**
+     * Drop the new event.
+     */
+    DROP_NEWEST,
+    
+    /**
+     * Accept new events with a probability decreasing from 1 to 0 once queue is half full.
+     */
+    SAMPLE
+}
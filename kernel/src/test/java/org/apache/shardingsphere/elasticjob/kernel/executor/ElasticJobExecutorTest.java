@@ -239,6 +239,12 @@ class ElasticJobExecutorTest {
         return new ShardingContexts("fake_task_id", "test_job", 1, "", map);
     }
     
+    @Test
+    void assertShutdown() {
+        elasticJobExecutor.shutdown();
+        verify(jobItemExecutor).shutdown("test_job");
+    }
+    
     private ShardingContexts createMultipleShardingContexts() {
         Map<Integer, String> map = new HashMap<>(2, 1);
         map.put(0, "A");
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.elasticjob.kernel.executor.threadpool;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -27,6 +28,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class ElasticJobExecutorServiceTest {
     
@@ -57,6 +60,65 @@ class ElasticJobExecutorServiceTest {
         hasExecuted = true;
     }
     
+    @Test
+    void assertCreateUnboundedVirtualThreadExecutorService() {
+        assumeTrue(VirtualThreadFactoryBuilder.isSupported());
+        ElasticJobExecutorService executorServiceObject = new ElasticJobExecutorService("virtual-executor-service-test", 0, true);
+        ExecutorService executorService = executorServiceObject.createExecutorService();
+        CountDownLatch latch = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            executorService.submit(() -> awaitQuietly(latch));
+        }
+        Awaitility.await().atMost(1L, TimeUnit.MINUTES).untilAsserted(() -> {
+            assertThat(executorServiceObject.getActiveThreadCount(), is(3));
+            assertThat(executorServiceObject.getWorkQueueSize(), is(0));
+        });
+        latch.countDown();
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertCreateVirtualThreadExecutorServiceWithoutVirtualThreadSupport() {
+        assumeFalse(VirtualThreadFactoryBuilder.isSupported());
+        int expectedPoolSize = Runtime.getRuntime().availableProcessors() * 2;
+        ElasticJobExecutorService executorServiceObject = new ElasticJobExecutorService("virtual-executor-service-test", 0, true);
+        ExecutorService executorService = executorServiceObject.createExecutorService();
+        CountDownLatch latch = new CountDownLatch(1);
+        for (int i = 0; i <= expectedPoolSize; i++) {
+            executorService.submit(() -> awaitQuietly(latch));
+        }
+        Awaitility.await().atMost(1L, TimeUnit.MINUTES).untilAsserted(() -> {
+            assertThat(executorServiceObject.getActiveThreadCount(), is(expectedPoolSize));
+            assertThat(executorServiceObject.getWorkQueueSize(), is(1));
+        });
+        latch.countDown();
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertCreateCappedVirtualThreadExecutorService() {
+        ElasticJobExecutorService executorServiceObject = new ElasticJobExecutorService("virtual-executor-service-test", 2, true);
+        ExecutorService executorService = executorServiceObject.createExecutorService();
+        CountDownLatch latch = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            executorService.submit(() -> awaitQuietly(latch));
+        }
+        Awaitility.await().atMost(1L, TimeUnit.MINUTES).untilAsserted(() -> {
+            assertThat(executorServiceObject.getActiveThreadCount(), is(2));
+            assertThat(executorServiceObject.getWorkQueueSize(), is(1));
+        });
+        latch.countDown();
+        executorService.shutdownNow();
+    }
+    
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
     static class FooTask implements Runnable {
         
         @Override
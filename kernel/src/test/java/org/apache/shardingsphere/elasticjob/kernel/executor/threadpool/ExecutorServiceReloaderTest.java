@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.elasticjob.kernel.executor.threadpool;
 
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.type.VirtualThreadJobExecutorThreadPoolSizeProvider;
 import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +31,8 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -64,6 +67,34 @@ class ExecutorServiceReloaderTest {
         actual.shutdown();
     }
     
+    @Test
+    void assertReloadWhenMaxConcurrencyChanged() {
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("job", 1).jobExecutorThreadPoolSizeProviderType("VIRTUAL_THREAD").build();
+        try (ExecutorServiceReloader executorServiceReloader = new ExecutorServiceReloader(jobConfig)) {
+            ExecutorService expected = executorServiceReloader.getExecutorService();
+            executorServiceReloader.reloadIfNecessary(JobConfiguration.newBuilder("job", 1).jobExecutorThreadPoolSizeProviderType("VIRTUAL_THREAD")
+                    .setProperty(VirtualThreadJobExecutorThreadPoolSizeProvider.MAX_CONCURRENCY_KEY, "2").build());
+            assertTrue(expected.isShutdown());
+            assertFalse(executorServiceReloader.getExecutorService().isShutdown());
+        }
+    }
+    
+    @Test
+    void assertInitializeWithInvalidMaxConcurrency() {
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("job", 1).jobExecutorThreadPoolSizeProviderType("VIRTUAL_THREAD")
+                .setProperty(VirtualThreadJobExecutorThreadPoolSizeProvider.MAX_CONCURRENCY_KEY, "unbounded").build();
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new ExecutorServiceReloader(jobConfig));
+        assertThat(actual.getMessage(), is("The property `virtual.thread.max.concurrency` should be integer."));
+    }
+    
+    @Test
+    void assertInitializeWithNonPositiveMaxConcurrency() {
+        JobConfiguration jobConfig = JobConfiguration.newBuilder("job", 1).jobExecutorThreadPoolSizeProviderType("VIRTUAL_THREAD")
+                .setProperty(VirtualThreadJobExecutorThreadPoolSizeProvider.MAX_CONCURRENCY_KEY, "0").build();
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new ExecutorServiceReloader(jobConfig));
+        assertThat(actual.getMessage(), is("The property `virtual.thread.max.concurrency` should be positive."));
+    }
+    
     @Test
     void assertUnnecessaryToReload() {
         JobConfiguration jobConfig = JobConfiguration.newBuilder("job", 1).jobExecutorThreadPoolSizeProviderType("CPU").build();
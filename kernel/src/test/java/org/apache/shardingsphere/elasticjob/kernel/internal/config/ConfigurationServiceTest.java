@@ -31,8 +31,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
@@ -69,6 +72,38 @@ class ConfigurationServiceTest {
         assertThat(actual.getShardingTotalCount(), is(3));
     }
     
+    @Test
+    void assertLoadFromCacheWithUnchangedConfiguration() {
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(YamlConstants.getJobYaml());
+        JobConfiguration expected = configService.load(true);
+        AtomicReference<?> parsedJobConfig = (AtomicReference<?>) ReflectionUtils.getFieldValue(configService, "parsedJobConfig");
+        Object parsed = parsedJobConfig.get();
+        JobConfiguration actual = configService.load(true);
+        assertThat(parsedJobConfig.get(), sameInstance(parsed));
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.getCron(), is(expected.getCron()));
+    }
+    
+    @Test
+    void assertLoadFromCacheNotAffectedByModifiedConfiguration() {
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(YamlConstants.getJobYaml());
+        JobConfiguration modified = configService.load(true);
+        modified.getProps().setProperty("foo", "bar");
+        modified.getJobListenerTypes().add("foo");
+        JobConfiguration actual = configService.load(true);
+        assertThat(actual.getProps().getProperty("foo"), is((String) null));
+        assertThat(actual.getJobListenerTypes().contains("foo"), is(false));
+    }
+    
+    @Test
+    void assertLoadFromCacheWithChangedConfiguration() {
+        when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(YamlConstants.getJobYaml(), YamlConstants.getJobYaml(-1));
+        JobConfiguration expected = configService.load(true);
+        JobConfiguration actual = configService.load(true);
+        assertThat(actual, not(sameInstance(expected)));
+        assertThat(actual.getMaxTimeDiffSeconds(), is(-1));
+    }
+    
     @Test
     void assertLoadFromCacheButNull() {
         when(jobNodeStorage.getJobNodeData(ConfigurationNode.ROOT)).thenReturn(null);
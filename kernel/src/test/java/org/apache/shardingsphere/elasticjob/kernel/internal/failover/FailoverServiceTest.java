@@ -35,12 +35,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -253,8 +253,10 @@ class FailoverServiceTest {
     void assertGetAllFailoveringItems() {
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).build());
         String jobInstanceId = "127.0.0.1@-@1";
-        when(jobNodeStorage.getJobNodeData("sharding/0/failovering")).thenReturn(jobInstanceId);
-        lenient().when(jobNodeStorage.getJobNodeData("sharding/2/failovering")).thenReturn(jobInstanceId);
+        Map<String, String> failoveringInstances = new HashMap<>(2, 1);
+        failoveringInstances.put("0", jobInstanceId);
+        failoveringInstances.put("2", jobInstanceId);
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "failovering")).thenReturn(failoveringInstances);
         Map<Integer, JobInstance> actual = failoverService.getAllFailoveringItems();
         assertThat(actual.size(), is(2));
         assertThat(actual.get(0), is(new JobInstance(jobInstanceId)));
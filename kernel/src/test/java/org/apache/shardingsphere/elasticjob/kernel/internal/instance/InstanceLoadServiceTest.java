@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.instance;
+
+import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
+import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InstanceLoadServiceTest {
+    
+    @Mock
+    private ConfigurationService configService;
+    
+    @Mock
+    private JobNodeStorage jobNodeStorage;
+    
+    private JobInstance jobInstance;
+    
+    private InstanceLoadService instanceLoadService;
+    
+    @BeforeEach
+    void setUp() {
+        System.setProperty(InstanceLoadService.WEIGHT, "8");
+        jobInstance = new JobInstance("127.0.0.1@-@0", null, "127.0.0.1");
+        JobRegistry.getInstance().addJobInstance("test_job", jobInstance);
+        instanceLoadService = new InstanceLoadService(null, "test_job");
+        ReflectionUtils.setFieldValue(instanceLoadService, "configService", configService);
+        ReflectionUtils.setFieldValue(instanceLoadService, "jobNodeStorage", jobNodeStorage);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(InstanceLoadService.WEIGHT);
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
+    @Test
+    void assertNotPublishWithoutWeightedSharding() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        instanceLoadService.runOneIteration();
+        verify(jobNodeStorage, never()).updateEphemeralJobNode("instances/127.0.0.1@-@0", YamlEngine.marshal(jobInstance));
+        assertThat(jobInstance.getWeight(), is((Integer) null));
+    }
+    
+    @Test
+    void assertPublishOnlyWhenLoadChanged() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").jobShardingStrategyType("WEIGHTED").build());
+        when(jobNodeStorage.isJobNodeExisted("instances/127.0.0.1@-@0")).thenReturn(true);
+        instanceLoadService.runOneIteration();
+        instanceLoadService.runOneIteration();
+        assertThat(jobInstance.getWeight(), is(8));
+        verify(jobNodeStorage, times(1)).updateEphemeralJobNode("instances/127.0.0.1@-@0", YamlEngine.marshal(jobInstance));
+    }
+    
+    @Test
+    void assertNotPublishWhenInstanceNodeAbsent() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").jobShardingStrategyType("WEIGHTED").build());
+        instanceLoadService.runOneIteration();
+        assertThat(jobInstance.getWeight(), is(8));
+        verify(jobNodeStorage, never()).updateEphemeralJobNode("instances/127.0.0.1@-@0", YamlEngine.marshal(jobInstance));
+    }
+}
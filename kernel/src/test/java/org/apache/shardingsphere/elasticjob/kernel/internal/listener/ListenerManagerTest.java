@@ -97,5 +97,6 @@ class ListenerManagerTest {
         verify(rescheduleListenerManager).start();
         verify(guaranteeListenerManager).start();
         verify(jobNodeStorage).addConnectionStateListener(regCenterConnectionStateListener);
+        verify(jobNodeStorage).addJobNodeChangedNotifier();
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
 
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceLoadRecorder;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -80,9 +82,11 @@ class JobRegistryTest {
         CoordinatorRegistryCenter regCenter = mock(CoordinatorRegistryCenter.class);
         JobRegistry.getInstance().registerRegistryCenter("test_job_for_shutdown", regCenter);
         JobRegistry.getInstance().registerJob("test_job_for_shutdown", jobScheduleController);
+        InstanceLoadRecorder.recordItemExecution("test_job_for_shutdown", 1000000L);
         JobRegistry.getInstance().shutdown("test_job_for_shutdown");
         verify(jobScheduleController).shutdown();
         verify(regCenter).evictCacheData("/test_job_for_shutdown");
+        assertNull(InstanceLoadRecorder.getItemLatencyMillis("test_job_for_shutdown"));
     }
     
     @Test
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.schedule;
+
+import org.apache.shardingsphere.elasticjob.kernel.executor.ElasticJobExecutor;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerKey;
+import org.quartz.listeners.TriggerListenerSupport;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class SharedSchedulerTest {
+    
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+    
+    private SharedScheduler sharedScheduler;
+    
+    @BeforeEach
+    void setUp() {
+        sharedScheduler = new SharedScheduler("SharedSchedulerTest-" + SEQUENCE.incrementAndGet());
+    }
+    
+    @AfterEach
+    void tearDown() {
+        sharedScheduler.shutdown();
+    }
+    
+    @Test
+    void assertIsNotEnabledByDefault() {
+        assertFalse(SharedScheduler.isEnabled());
+    }
+    
+    @Test
+    void assertScheduleJobsInSharedScheduler() throws SchedulerException {
+        JobScheduleController fooController = createJobScheduleController("shared_foo_job", JobBuilder.newJob(LiteJob.class).withIdentity("shared_foo_job").build());
+        JobScheduleController barController = createJobScheduleController("shared_bar_job", JobBuilder.newJob(LiteJob.class).withIdentity("shared_bar_job").build());
+        fooController.scheduleJob("0/30 * * * * ?", null);
+        barController.scheduleJob("0/30 * * * * ?", null);
+        fooController.pauseJob();
+        assertTrue(fooController.isPaused());
+        assertFalse(barController.isPaused());
+        fooController.resumeJob();
+        assertFalse(fooController.isPaused());
+        fooController.shutdown();
+        assertFalse(sharedScheduler.isRegistered("shared_foo_job"));
+        assertFalse(sharedScheduler.getScheduler().checkExists(JobKey.jobKey("shared_foo_job")));
+        assertTrue(sharedScheduler.isRegistered("shared_bar_job"));
+        assertThat(sharedScheduler.getScheduler().isStarted(), is(true));
+        assertTrue(sharedScheduler.getScheduler().checkExists(TriggerKey.triggerKey("shared_bar_job")));
+        barController.shutdown();
+        assertFalse(sharedScheduler.getScheduler().checkExists(JobKey.jobKey("shared_bar_job")));
+    }
+    
+    @Test
+    void assertOverlappingTriggersOfOneJobNotExecutedConcurrently() {
+        AtomicInteger executions = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ElasticJobExecutor jobExecutor = mock(ElasticJobExecutor.class);
+        doAnswer(invocation -> {
+            executions.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            release.await(5L, TimeUnit.SECONDS);
+            running.decrementAndGet();
+            return null;
+        }).when(jobExecutor).execute();
+        JobDetail jobDetail = JobBuilder.newJob(LiteJob.class).withIdentity("shared_overlapping_job").build();
+        jobDetail.getJobDataMap().put("jobExecutor", jobExecutor);
+        JobScheduleController controller = createJobScheduleController("shared_overlapping_job", jobDetail);
+        controller.scheduleJob("0 0 0 1 1 ? 2099", null);
+        controller.triggerJob();
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> 1 == executions.get());
+        controller.triggerJob();
+        Awaitility.await().during(300L, TimeUnit.MILLISECONDS).atMost(1L, TimeUnit.SECONDS).until(() -> 1 == executions.get());
+        release.countDown();
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> 2 == executions.get() && 0 == running.get());
+        assertThat(maxRunning.get(), is(1));
+        controller.shutdown();
+    }
+    
+    private JobScheduleController createJobScheduleController(final String jobName, final JobDetail jobDetail) {
+        sharedScheduler.registerJob(jobName, new TriggerListenerSupport() {
+            
+            @Override
+            public String getName() {
+                return jobName;
+            }
+        });
+        return new JobScheduleController(sharedScheduler, jobDetail, jobName);
+    }
+}
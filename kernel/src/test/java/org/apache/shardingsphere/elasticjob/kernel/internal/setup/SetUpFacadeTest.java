@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.internal.setup;
 
+import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
 import org.apache.shardingsphere.elasticjob.kernel.internal.election.LeaderService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceLoadService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.instance.InstanceService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerManager;
 import org.apache.shardingsphere.elasticjob.kernel.internal.reconcile.ReconcileService;
 import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobRegistry;
 import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,12 +38,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class SetUpFacadeTest {
     
+    @Mock
+    private ConfigurationService configService;
+    
     @Mock
     private LeaderService leaderService;
     
@@ -49,12 +57,18 @@ class SetUpFacadeTest {
     @Mock
     private InstanceService instanceService;
     
+    @Mock
+    private InstanceLoadService instanceLoadService;
+    
     @Mock
     private ReconcileService reconcileService;
     
     @Mock
     private ListenerManager listenerManager;
     
+    @Mock
+    private JobNodeStorage jobNodeStorage;
+    
     @Mock
     private CoordinatorRegistryCenter regCenter;
     
@@ -64,27 +78,42 @@ class SetUpFacadeTest {
     void setUp() {
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance("127.0.0.1@-@0"));
         setUpFacade = new SetUpFacade(regCenter, "test_job", Collections.emptyList());
+        ReflectionUtils.setFieldValue(setUpFacade, "configService", configService);
         ReflectionUtils.setFieldValue(setUpFacade, "leaderService", leaderService);
         ReflectionUtils.setFieldValue(setUpFacade, "serverService", serverService);
         ReflectionUtils.setFieldValue(setUpFacade, "instanceService", instanceService);
+        ReflectionUtils.setFieldValue(setUpFacade, "instanceLoadService", instanceLoadService);
         ReflectionUtils.setFieldValue(setUpFacade, "reconcileService", reconcileService);
         ReflectionUtils.setFieldValue(setUpFacade, "listenerManager", listenerManager);
+        ReflectionUtils.setFieldValue(setUpFacade, "jobNodeStorage", jobNodeStorage);
     }
     
     @Test
     void assertRegisterStartUpInfo() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).build());
         setUpFacade.registerStartUpInfo(true);
         verify(listenerManager).startAllListeners();
         verify(leaderService).electLeader();
         verify(serverService).persistOnline(true);
+        verify(instanceLoadService, never()).startAsync();
+    }
+    
+    @Test
+    void assertRegisterStartUpInfoWithWeightedSharding() {
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).jobShardingStrategyType("WEIGHTED").build());
+        setUpFacade.registerStartUpInfo(true);
+        verify(instanceLoadService).startAsync();
     }
     
     @Test
     void assertTearDown() {
         when(reconcileService.isRunning()).thenReturn(true);
+        when(instanceLoadService.isRunning()).thenReturn(true);
         setUpFacade.tearDown();
         verify(reconcileService).stopAsync();
+        verify(instanceLoadService).stopAsync();
         verify(regCenter).removeDataListeners("/test_job");
         verify(regCenter).removeConnStateListener("/test_job");
+        verify(jobNodeStorage).removeJobNodeChangedNotifier();
     }
 }
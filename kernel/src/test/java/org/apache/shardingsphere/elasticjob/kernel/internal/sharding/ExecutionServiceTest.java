@@ -40,7 +40,6 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,7 +70,7 @@ class ExecutionServiceTest {
     void assertRegisterJobBeginWithoutMonitorExecution() {
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(false).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage, times(0)).fillEphemeralJobNode(any(), any());
+        verify(jobNodeStorage, times(0)).fillEphemeralJobNodes(any(), any());
         assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -81,9 +80,7 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance(jobInstanceId));
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(true).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/0/running", jobInstanceId);
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/1/running", jobInstanceId);
-        verify(jobNodeStorage).fillEphemeralJobNode("sharding/2/running", jobInstanceId);
+        verify(jobNodeStorage).fillEphemeralJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"), jobInstanceId);
         assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -93,9 +90,7 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().addJobInstance("test_job", new JobInstance(jobInstanceId));
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").failover(true).build());
         executionService.registerJobBegin(getShardingContext());
-        verify(jobNodeStorage).fillJobNode("sharding/0/running", jobInstanceId);
-        verify(jobNodeStorage).fillJobNode("sharding/1/running", jobInstanceId);
-        verify(jobNodeStorage).fillJobNode("sharding/2/running", jobInstanceId);
+        verify(jobNodeStorage).fillJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"), jobInstanceId);
         assertTrue(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -104,8 +99,8 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().setJobRunning("test_job", true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(false).build());
         executionService.registerJobCompleted(new ShardingContexts("fake_task_id", "test_job", 10, "", Collections.emptyMap()), Collections.emptySet());
-        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted(any());
-        verify(jobNodeStorage, times(0)).createJobNodeIfNeeded(any());
+        verify(jobNodeStorage, times(0)).removeJobNodesIfExisted(any());
+        verify(jobNodeStorage, times(0)).createJobNodesIfNeeded(any());
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -114,9 +109,7 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().setJobRunning("test_job", true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(true).build());
         executionService.registerJobCompleted(getShardingContext(), Collections.emptySet());
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"));
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
@@ -125,26 +118,23 @@ class ExecutionServiceTest {
         JobRegistry.getInstance().setJobRunning("test_job", true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(true).build());
         executionService.registerJobCompleted(getShardingContext(), Arrays.asList(1));
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage, times(0)).removeJobNodeIfExisted("sharding/1/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/2/running"));
         assertFalse(JobRegistry.getInstance().isJobRunning("test_job"));
     }
     
     @Test
     void assertClearAllRunningInfo() {
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").monitorExecution(false).build());
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "running")).thenReturn(createItemsData("0", "1", "2"));
         executionService.clearAllRunningInfo();
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running", "sharding/2/running"));
     }
     
     @Test
     void assertClearRunningInfo() {
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "running")).thenReturn(createItemsData("1", "2"));
         executionService.clearRunningInfo(Arrays.asList(0, 1));
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/running");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/running");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Collections.singletonList("sharding/1/running"));
     }
     
     @Test
@@ -191,8 +181,10 @@ class ExecutionServiceTest {
     void assertGetAllRunningItems() {
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).build());
         String jobInstanceId = "127.0.0.1@-@1";
-        when(jobNodeStorage.getJobNodeData("sharding/0/running")).thenReturn(jobInstanceId);
-        lenient().when(jobNodeStorage.getJobNodeData("sharding/2/running")).thenReturn(jobInstanceId);
+        Map<String, String> runningInstances = new HashMap<>(2, 1);
+        runningInstances.put("0", jobInstanceId);
+        runningInstances.put("2", jobInstanceId);
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "running")).thenReturn(runningInstances);
         Map<Integer, JobInstance> actual = executionService.getAllRunningItems();
         assertThat(actual.size(), is(2));
         assertThat(actual.get(0), is(new JobInstance(jobInstanceId)));
@@ -218,26 +210,22 @@ class ExecutionServiceTest {
     
     @Test
     void assertSetMisfire() {
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "misfire")).thenReturn(createItemsData("1"));
         executionService.setMisfire(Arrays.asList(0, 1, 2));
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/0/misfire");
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/1/misfire");
-        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/2/misfire");
+        verify(jobNodeStorage).createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/2/misfire"));
     }
     
     @Test
     void assertGetMisfiredJobItems() {
-        when(jobNodeStorage.isJobNodeExisted("sharding/0/misfire")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/1/misfire")).thenReturn(true);
-        when(jobNodeStorage.isJobNodeExisted("sharding/2/misfire")).thenReturn(false);
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "misfire")).thenReturn(createItemsData("0", "1"));
         assertThat(executionService.getMisfiredJobItems(Arrays.asList(0, 1, 2)), is(Arrays.asList(0, 1)));
     }
     
     @Test
     void assertClearMisfire() {
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "misfire")).thenReturn(createItemsData("0", "2"));
         executionService.clearMisfire(Arrays.asList(0, 1, 2));
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/misfire");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/1/misfire");
-        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/2/misfire");
+        verify(jobNodeStorage).removeJobNodesIfExisted(Arrays.asList("sharding/0/misfire", "sharding/2/misfire"));
     }
     
     @Test
@@ -248,6 +236,14 @@ class ExecutionServiceTest {
         assertThat(executionService.getDisabledItems(Arrays.asList(0, 1, 2)), is(Arrays.asList(0, 1)));
     }
     
+    private Map<String, String> createItemsData(final String... items) {
+        Map<String, String> result = new HashMap<>(items.length, 1);
+        for (String each : items) {
+            result.put(each, "");
+        }
+        return result;
+    }
+    
     private ShardingContexts getShardingContext() {
         Map<Integer, String> map = new HashMap<>(3, 1);
         map.put(0, "");
@@ -43,4 +43,18 @@ class JobInstanceTest {
         assertThat(actual.getServerIp(), is(IpUtils.getIp()));
         assertThat(actual.getLabels(), is("labels"));
     }
+    
+    @Test
+    void assertYamlConvertWithLoad() {
+        JobInstance jobInstance = new JobInstance("id");
+        jobInstance.setWeight(8);
+        jobInstance.setActiveThreads(2);
+        jobInstance.setQueueSize(1);
+        jobInstance.setItemLatencyMillis(100L);
+        JobInstance actual = YamlEngine.unmarshal(YamlEngine.marshal(jobInstance), JobInstance.class);
+        assertThat(actual.getWeight(), is(8));
+        assertThat(actual.getActiveThreads(), is(2));
+        assertThat(actual.getQueueSize(), is(1));
+        assertThat(actual.getItemLatencyMillis(), is(100L));
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.listener.ListenerNotifierManager;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReshardingDebouncerTest {
+    
+    private final AtomicInteger reshardingCount = new AtomicInteger();
+    
+    @BeforeEach
+    void setUp() {
+        ListenerNotifierManager.getInstance().registerJobNotifyExecutor("test_job");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        ListenerNotifierManager.getInstance().removeJobNotifyExecutor("test_job");
+    }
+    
+    @Test
+    void assertRequestWithoutQuietPeriod() {
+        ReshardingDebouncer reshardingDebouncer = new ReshardingDebouncer("test_job", 0L, 0L, reshardingCount::incrementAndGet);
+        reshardingDebouncer.request();
+        reshardingDebouncer.request();
+        assertThat(reshardingCount.get(), is(2));
+    }
+    
+    @Test
+    void assertRequestCoalescedWithinQuietPeriod() {
+        ReshardingDebouncer reshardingDebouncer = new ReshardingDebouncer("test_job", 200L, 10000L, reshardingCount::incrementAndGet);
+        for (int i = 0; i < 5; i++) {
+            reshardingDebouncer.request();
+        }
+        assertThat(reshardingCount.get(), is(0));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> 1 == reshardingCount.get());
+        Awaitility.await().pollDelay(400L, TimeUnit.MILLISECONDS).until(() -> 1 == reshardingCount.get());
+    }
+    
+    @Test
+    void assertRequestBoundedByMaxDelay() throws InterruptedException {
+        ReshardingDebouncer reshardingDebouncer = new ReshardingDebouncer("test_job", 500L, 600L, reshardingCount::incrementAndGet);
+        for (int i = 0; i < 20; i++) {
+            reshardingDebouncer.request();
+            Thread.sleep(100L);
+        }
+        assertTrue(reshardingCount.get() > 0);
+    }
+    
+    @Test
+    void assertRequestRunsOnJobNotifyExecutor() {
+        AtomicReference<String> reshardingThreadName = new AtomicReference<>();
+        ReshardingDebouncer reshardingDebouncer = new ReshardingDebouncer("test_job", 50L, 10000L, () -> reshardingThreadName.set(Thread.currentThread().getName()));
+        reshardingDebouncer.request();
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> null != reshardingThreadName.get());
+        assertTrue(reshardingThreadName.get().startsWith("ListenerNotify-test_job"));
+    }
+    
+    @Test
+    void assertRequestSkippedAfterJobNotifyExecutorRemoved() {
+        ReshardingDebouncer reshardingDebouncer = new ReshardingDebouncer("test_job", 50L, 10000L, reshardingCount::incrementAndGet);
+        reshardingDebouncer.request();
+        ListenerNotifierManager.getInstance().removeJobNotifyExecutor("test_job");
+        Awaitility.await().pollDelay(300L, TimeUnit.MILLISECONDS).until(() -> 0 == reshardingCount.get());
+    }
+}
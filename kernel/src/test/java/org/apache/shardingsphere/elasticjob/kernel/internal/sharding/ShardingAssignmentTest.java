@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ShardingAssignmentTest {
+    
+    @Test
+    void assertEncode() {
+        Map<JobInstance, List<Integer>> shardingResults = new LinkedHashMap<>(2, 1);
+        shardingResults.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2, 3, 4, 9));
+        shardingResults.put(new JobInstance("host1@-@0"), Arrays.asList(5, 6, 7, 8));
+        assertThat(ShardingAssignment.encode(3L, shardingResults), is("3\nhost0@-@0,host1@-@0\n0-4:0,5-8:1,9:0"));
+    }
+    
+    @Test
+    void assertEncodeWithoutShardingItems() {
+        assertThat(ShardingAssignment.encode(1L, Collections.singletonMap(new JobInstance("host0@-@0"), Collections.emptyList())), is("1\nhost0@-@0\n"));
+    }
+    
+    @Test
+    void assertDecode() {
+        ShardingAssignment actual = ShardingAssignment.decode("3\nhost0@-@0,host1@-@0\n0-4:0,5-8:1,9:0");
+        assertThat(actual.getVersion(), is(3L));
+        assertThat(actual.getShardingInstances().size(), is(10));
+        assertThat(actual.getShardingInstances().get(0), is("host0@-@0"));
+        assertThat(actual.getShardingInstances().get(4), is("host0@-@0"));
+        assertThat(actual.getShardingInstances().get(5), is("host1@-@0"));
+        assertThat(actual.getShardingInstances().get(8), is("host1@-@0"));
+        assertThat(actual.getShardingInstances().get(9), is("host0@-@0"));
+    }
+    
+    @Test
+    void assertDecodeWithoutShardingItems() {
+        assertThat(ShardingAssignment.decode("1\nhost0@-@0\n").getShardingInstances().isEmpty(), is(true));
+    }
+    
+    @Test
+    void assertDecodeVersion() {
+        assertThat(ShardingAssignment.decodeVersion("3\nhost0@-@0\n0:0"), is(3L));
+    }
+}
@@ -36,6 +36,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -131,6 +132,19 @@ class ShardingListenerManagerTest {
         JobRegistry.getInstance().shutdown("test_job");
     }
     
+    @Test
+    void assertListenServersChangedJobListenerGoesThroughReshardingDebouncer() {
+        ReshardingDebouncer reshardingDebouncer = mock(ReshardingDebouncer.class);
+        ReflectionUtils.setFieldValue(shardingListenerManager, "reshardingDebouncer", reshardingDebouncer);
+        JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
+        JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 1).build());
+        shardingListenerManager.new ListenServersChangedJobListener().onChange(new DataChangedEvent(Type.ADDED, "/test_job/instances/xxx", ""));
+        verify(reshardingDebouncer).request();
+        verify(shardingService, times(0)).setReshardingFlag();
+        JobRegistry.getInstance().shutdown("test_job");
+    }
+    
     @Test
     void assertListenServersChangedJobListenerWhenIsServerChange() {
         JobRegistry.getInstance().registerRegistryCenter("test_job", regCenter);
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.elasticjob.kernel.internal.server.ServerService
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodeStorage;
 import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,14 +37,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
-import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -171,6 +174,48 @@ class ShardingServiceTest {
         verify(jobNodeStorage).executeInTransaction(any(List.class));
     }
     
+    @Test
+    void assertShardingNecessaryWithStickyJobShardingStrategy() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("127.0.0.1@-@0"), new JobInstance("127.0.0.1@-@1")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 2).cron("0/1 * * * * ?").jobShardingStrategyType("STICKY").build());
+        when(jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, "instance")).thenReturn(createShardingInstances("127.0.0.1@-@1", "127.0.0.1@-@0"));
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Arrays.asList("0", "1"));
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage).executeInTransaction(argThat((List<TransactionOperation> operations) -> operations.contains(TransactionOperation.opAdd("/test_job/sharding/0/instance", "127.0.0.1@-@1"))
+                && operations.contains(TransactionOperation.opAdd("/test_job/sharding/1/instance", "127.0.0.1@-@0"))));
+    }
+    
+    @Test
+    void assertShardingNecessaryWithCompactShardingAssignment() {
+        when(instanceService.getAvailableJobInstances()).thenReturn(Arrays.asList(new JobInstance("127.0.0.1@-@0"), new JobInstance("127.0.0.1@-@1")));
+        when(jobNodeStorage.isJobNodeExisted("leader/sharding/necessary")).thenReturn(true);
+        when(leaderService.isLeaderUntilBlock()).thenReturn(true);
+        when(configService.load(false)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").setProperty(ShardingAssignment.COMPACT_KEY, Boolean.TRUE.toString()).build());
+        when(jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, "instance")).thenReturn(createShardingInstances("127.0.0.1@-@0"));
+        when(jobNodeStorage.getJobNodeChildrenKeys(ShardingNode.ROOT)).thenReturn(Arrays.asList("0", "3"));
+        when(jobNodeStorage.getJobNodeDataDirectly("assignment")).thenReturn("5\n127.0.0.1@-@0\n0:0");
+        shardingService.shardingIfNecessary();
+        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/0/instance");
+        verify(jobNodeStorage, times(0)).createJobNodeIfNeeded("sharding/0");
+        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/1");
+        verify(jobNodeStorage).createJobNodeIfNeeded("sharding/2");
+        verify(jobNodeStorage).removeJobNodeIfExisted("sharding/3");
+        verify(jobNodeStorage).executeInTransaction(argThat((List<TransactionOperation> operations) -> 3 == operations.size()
+                && operations.contains(TransactionOperation.opUpdate("/test_job/assignment", "6\n127.0.0.1@-@0,127.0.0.1@-@1\n0:0,1:1,2:0"))));
+    }
+    
+    @Test
+    void assertGetShardingItemsWithCompactShardingAssignment() {
+        when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
+        when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
+        when(jobNodeStorage.getJobNodeData("assignment")).thenReturn("1\n127.0.0.1@-@0,127.0.0.1@-@1\n0:0,1:1,2:0");
+        when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
+        assertThat(shardingService.getShardingItems("127.0.0.1@-@0"), is(Arrays.asList(0, 2)));
+        assertThat(shardingService.getShardingItems("127.0.0.1@-@0"), is(Arrays.asList(0, 2)));
+    }
+    
     @Test
     void assertGetShardingItemsWithNotAvailableServer() {
         when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
@@ -183,9 +228,7 @@ class ShardingServiceTest {
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
-        when(jobNodeStorage.getJobNodeData("sharding/0/instance")).thenReturn("127.0.0.1@-@0");
-        when(jobNodeStorage.getJobNodeData("sharding/1/instance")).thenReturn("127.0.0.1@-@1");
-        when(jobNodeStorage.getJobNodeData("sharding/2/instance")).thenReturn("127.0.0.1@-@0");
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "instance")).thenReturn(createShardingInstances("127.0.0.1@-@0", "127.0.0.1@-@1", "127.0.0.1@-@0"));
         when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
         assertThat(shardingService.getShardingItems("127.0.0.1@-@0"), is(Arrays.asList(0, 2)));
         JobRegistry.getInstance().shutdown("test_job");
@@ -210,9 +253,7 @@ class ShardingServiceTest {
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         when(serverService.isAvailableServer("127.0.0.1")).thenReturn(true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
-        when(jobNodeStorage.getJobNodeData("sharding/0/instance")).thenReturn("127.0.0.1@-@0");
-        when(jobNodeStorage.getJobNodeData("sharding/1/instance")).thenReturn("127.0.0.1@-@1");
-        when(jobNodeStorage.getJobNodeData("sharding/2/instance")).thenReturn("127.0.0.1@-@0");
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "instance")).thenReturn(createShardingInstances("127.0.0.1@-@0", "127.0.0.1@-@1", "127.0.0.1@-@0"));
         when(jobNodeStorage.getJobNodeData("instances/127.0.0.1@-@0")).thenReturn("jobInstanceId: 127.0.0.1@-@0\nserverIp: 127.0.0.1\n");
         assertThat(shardingService.getLocalShardingItems(), is(Arrays.asList(0, 2)));
         JobRegistry.getInstance().shutdown("test_job");
@@ -222,9 +263,7 @@ class ShardingServiceTest {
     void assertHasShardingInfoInOfflineServers() {
         when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("host0@-@0", "host0@-@1"));
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
-        when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(0))).thenReturn("host0@-@0");
-        when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(1))).thenReturn("host0@-@1");
-        when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(2))).thenReturn("host0@-@2");
+        when(jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, "instance")).thenReturn(createShardingInstances("host0@-@0", "host0@-@1", "host0@-@2"));
         assertTrue(shardingService.hasShardingInfoInOfflineServers());
     }
     
@@ -232,9 +271,7 @@ class ShardingServiceTest {
     void assertHasNotShardingInfoInOfflineServers() {
         when(jobNodeStorage.getJobNodeChildrenKeys(InstanceNode.ROOT)).thenReturn(Arrays.asList("host0@-@0", "host0@-@1"));
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
-        when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(0))).thenReturn("host0@-@0");
-        when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(1))).thenReturn("host0@-@1");
-        when(jobNodeStorage.getJobNodeData(ShardingNode.getInstanceNode(2))).thenReturn("host0@-@0");
+        when(jobNodeStorage.getJobNodeChildrenData(ShardingNode.ROOT, "instance")).thenReturn(createShardingInstances("host0@-@0", "host0@-@1", "host0@-@0"));
         assertFalse(shardingService.hasShardingInfoInOfflineServers());
     }
     
@@ -249,11 +286,18 @@ class ShardingServiceTest {
         JobRegistry.getInstance().registerJob("test_job", jobScheduleController);
         when(serverService.isEnableServer("127.0.0.1")).thenReturn(true);
         when(configService.load(true)).thenReturn(JobConfiguration.newBuilder("test_job", 3).cron("0/1 * * * * ?").build());
-        when(jobNodeStorage.getJobNodeData("sharding/0/instance")).thenReturn("127.0.0.1@-@0");
+        when(jobNodeStorage.getJobNodeChildrenData("sharding", "instance")).thenReturn(createShardingInstances("127.0.0.1@-@0", "127.0.0.1@-@1", "127.0.0.1@-@0"));
         when(jobNodeStorage.isJobNodeExisted("sharding/0/running")).thenReturn(true);
-        when(jobNodeStorage.getJobNodeData("sharding/2/instance")).thenReturn("127.0.0.1@-@0");
-        lenient().when(jobNodeStorage.isJobNodeExisted("sharding/2/running")).thenReturn(true);
+        when(jobNodeStorage.isJobNodeExisted("sharding/2/running")).thenReturn(true);
         assertThat(shardingService.getCrashedShardingItems("127.0.0.1@-@0"), is(Arrays.asList(0, 2)));
         JobRegistry.getInstance().shutdown("test_job");
     }
+    
+    private Map<String, String> createShardingInstances(final String... jobInstanceIds) {
+        Map<String, String> result = new HashMap<>(jobInstanceIds.length, 1);
+        for (int i = 0; i < jobInstanceIds.length; i++) {
+            result.put(String.valueOf(i), jobInstanceIds[i]);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.type;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.StickyJobShardingStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class StickyAllocationJobShardingStrategyTest {
+    
+    private final StickyJobShardingStrategy jobShardingStrategy = new StickyAllocationJobShardingStrategy();
+    
+    @Test
+    void shardingForZeroServer() {
+        assertThat(jobShardingStrategy.sharding(Collections.emptyList(), "test_job", 3), is(Collections.<JobInstance, List<Integer>>emptyMap()));
+    }
+    
+    @Test
+    void shardingWithoutPreviousShardingResult() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(3, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(3, 4, 5));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(6, 7));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0")), "test_job", 8), is(expected));
+    }
+    
+    @Test
+    void shardingWhenServerJoined() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(4, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2));
+        expected.put(new JobInstance("host1@-@0"), Arrays.asList(3, 4));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(6, 7));
+        expected.put(new JobInstance("host3@-@0"), Arrays.asList(5, 8));
+        List<JobInstance> jobInstances = Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0"), new JobInstance("host2@-@0"), new JobInstance("host3@-@0"));
+        assertThat(jobShardingStrategy.sharding(jobInstances, "test_job", 9, createPreviousShardingResult("host0@-@0", "host0@-@0", "host0@-@0",
+                "host1@-@0", "host1@-@0", "host1@-@0", "host2@-@0", "host2@-@0", "host2@-@0")), is(expected));
+    }
+    
+    @Test
+    void shardingWhenServerLeft() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 1, 2, 3));
+        expected.put(new JobInstance("host2@-@0"), Arrays.asList(4, 5, 6, 7));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host2@-@0")), "test_job", 8,
+                createPreviousShardingResult("host0@-@0", "host0@-@0", "host0@-@0", "host1@-@0", "host2@-@0", "host2@-@0", "host1@-@0", "host2@-@0")), is(expected));
+    }
+    
+    @Test
+    void shardingWhenShardingTotalCountDecreased() {
+        Map<JobInstance, List<Integer>> expected = new LinkedHashMap<>(2, 1);
+        expected.put(new JobInstance("host0@-@0"), Arrays.asList(0, 2));
+        expected.put(new JobInstance("host1@-@0"), Collections.singletonList(1));
+        assertThat(jobShardingStrategy.sharding(Arrays.asList(new JobInstance("host0@-@0"), new JobInstance("host1@-@0")), "test_job", 3,
+                createPreviousShardingResult("host0@-@0", "host1@-@0", "host0@-@0", "host1@-@0")), is(expected));
+    }
+    
+    private Map<Integer, String> createPreviousShardingResult(final String... jobInstanceIds) {
+        Map<Integer, String> result = new HashMap<>(jobInstanceIds.length, 1);
+        for (int i = 0; i < jobInstanceIds.length; i++) {
+            result.put(i, jobInstanceIds[i]);
+        }
+        return result;
+    }
+}
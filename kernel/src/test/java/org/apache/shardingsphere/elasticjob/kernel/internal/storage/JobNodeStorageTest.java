@@ -22,6 +22,8 @@ import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
 import org.apache.shardingsphere.elasticjob.reg.exception.RegException;
 import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
 import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,9 +36,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -88,6 +94,12 @@ class JobNodeStorageTest {
         verify(regCenter).getChildrenKeys("/test_job/servers");
     }
     
+    @Test
+    void assertGetJobNodeChildrenData() {
+        when(regCenter.getChildrenData("/test_job/sharding", "instance")).thenReturn(Collections.singletonMap("0", "host0@-@0"));
+        assertThat(jobNodeStorage.getJobNodeChildrenData("sharding", "instance"), is(Collections.singletonMap("0", "host0@-@0")));
+    }
+    
     @Test
     void assertCreateJobNodeIfNeeded() {
         when(regCenter.isExisted("/test_job")).thenReturn(true);
@@ -151,6 +163,12 @@ class JobNodeStorageTest {
         verify(regCenter).update("/test_job/config/cron", "0/1 * * * * ?");
     }
     
+    @Test
+    void assertUpdateEphemeralJobNode() {
+        jobNodeStorage.updateEphemeralJobNode("instances/127.0.0.1@-@0", "jobInstanceId: 127.0.0.1@-@0");
+        verify(regCenter).updateEphemeral("/test_job/instances/127.0.0.1@-@0", "jobInstanceId: 127.0.0.1@-@0");
+    }
+    
     @Test
     void assertReplaceJobNode() {
         jobNodeStorage.replaceJobNode("config/cron", "0/1 * * * * ?");
@@ -171,6 +189,54 @@ class JobNodeStorageTest {
         });
     }
     
+    @Test
+    void assertCreateJobNodesIfNeededInTransaction() throws Exception {
+        jobNodeStorage.createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire"));
+        verify(regCenter).executeInTransaction(Arrays.asList(
+                TransactionOperation.opCheckExists("/test_job"), TransactionOperation.opAdd("/test_job/sharding/0/misfire", ""), TransactionOperation.opAdd("/test_job/sharding/1/misfire", "")));
+        verify(regCenter, times(0)).persist(any(), any());
+    }
+    
+    @Test
+    void assertCreateJobNodesIfNeededOneByOneWhenTransactionFailed() throws Exception {
+        doThrow(RuntimeException.class).when(regCenter).executeInTransaction(any(List.class));
+        when(regCenter.isExisted("/test_job")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/sharding/0/misfire")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/sharding/1/misfire")).thenReturn(false);
+        jobNodeStorage.createJobNodesIfNeeded(Arrays.asList("sharding/0/misfire", "sharding/1/misfire"));
+        verify(regCenter, times(0)).persist("/test_job/sharding/0/misfire", "");
+        verify(regCenter).persist("/test_job/sharding/1/misfire", "");
+    }
+    
+    @Test
+    void assertRemoveJobNodesIfExistedInTransaction() throws Exception {
+        jobNodeStorage.removeJobNodesIfExisted(Arrays.asList("sharding/0/running", "sharding/1/running"));
+        verify(regCenter).executeInTransaction(Arrays.asList(
+                TransactionOperation.opCheckExists("/test_job"), TransactionOperation.opDelete("/test_job/sharding/0/running"), TransactionOperation.opDelete("/test_job/sharding/1/running")));
+        verify(regCenter, times(0)).remove(any());
+    }
+    
+    @Test
+    void assertRemoveJobNodesIfExistedWithoutNodes() throws Exception {
+        jobNodeStorage.removeJobNodesIfExisted(Collections.emptyList());
+        verify(regCenter, times(0)).executeInTransaction(any(List.class));
+    }
+    
+    @Test
+    void assertFillJobNodesOneByOneWhenTransactionFailed() throws Exception {
+        doThrow(RuntimeException.class).when(regCenter).executeInTransaction(any(List.class));
+        jobNodeStorage.fillJobNodes(Arrays.asList("sharding/0/running", "sharding/1/running"), "host0");
+        verify(regCenter).persist("/test_job/sharding/0/running", "host0");
+        verify(regCenter).persist("/test_job/sharding/1/running", "host0");
+    }
+    
+    @Test
+    void assertFillEphemeralJobNodesInTransaction() throws Exception {
+        jobNodeStorage.fillEphemeralJobNodes(Collections.singletonList("sharding/0/running"), "host0");
+        verify(regCenter).executeInTransaction(Arrays.asList(TransactionOperation.opCheckExists("/test_job"), TransactionOperation.opAddEphemeral("/test_job/sharding/0/running", "host0")));
+        verify(regCenter, times(0)).persistEphemeral(any(), any());
+    }
+    
     @Test
     void assertAddConnectionStateListener() {
         ConnectionStateChangedEventListener listener = mock(ConnectionStateChangedEventListener.class);
@@ -188,6 +254,52 @@ class JobNodeStorageTest {
         verify(regCenter).watch("/test_job", listener, executor);
     }
     
+    @Test
+    void assertAddJobNodeChangedNotifier() {
+        jobNodeStorage.addJobNodeChangedNotifier();
+        verify(regCenter).watch("/test_job", JobNodeChangedNotifier.getInstance(regCenter, "test_job"), null);
+    }
+    
+    @Test
+    void assertWaitUntilConditionSatisfied() {
+        assertTrue(jobNodeStorage.waitUntil(() -> true, 0L));
+    }
+    
+    @Test
+    void assertWaitUntilTimeout() {
+        assertFalse(jobNodeStorage.waitUntil(() -> false, 10L));
+    }
+    
+    @Test
+    void assertWaitUntilJobNodeChanged() {
+        AtomicBoolean condition = new AtomicBoolean();
+        Thread changer = new Thread(() -> {
+            condition.set(true);
+            JobNodeChangedNotifier.getInstance(regCenter, "test_job").onChange(new DataChangedEvent(Type.UPDATED, "/test_job/leader", ""));
+        });
+        changer.start();
+        assertTrue(jobNodeStorage.waitUntil(condition::get, 60000L));
+    }
+    
+    @Test
+    void assertWaitUntilOrJobNodeRemoved() {
+        AtomicBoolean removed = new AtomicBoolean();
+        assertFalse(jobNodeStorage.waitUntilOrJobNodeRemoved(() -> {
+            if (!removed.getAndSet(true)) {
+                JobNodeChangedNotifier.getInstance(regCenter, "test_job").onChange(new DataChangedEvent(Type.DELETED, "/test_job/leader/election/instance", ""));
+            }
+            return false;
+        }, "leader/election/instance", 60000L));
+    }
+    
+    @Test
+    void assertRemoveJobNodeChangedNotifier() {
+        JobNodeChangedNotifier notifier = JobNodeChangedNotifier.getInstance(regCenter, "test_job");
+        jobNodeStorage.removeJobNodeChangedNotifier();
+        assertThat(JobNodeChangedNotifier.getInstance(regCenter, "test_job"), not(sameInstance(notifier)));
+        jobNodeStorage.removeJobNodeChangedNotifier();
+    }
+    
     @Test
     void assertGetRegistryCenterTime() {
         when(regCenter.getRegistryCenterTime("/test_job/systemTime/current")).thenReturn(0L);
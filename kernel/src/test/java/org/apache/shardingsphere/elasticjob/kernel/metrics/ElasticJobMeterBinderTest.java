@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.kernel.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.shardingsphere.elasticjob.kernel.executor.threadpool.ElasticJobExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ElasticJobMeterBinderTest {
+    
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    private final ElasticJobMeterBinder meterBinder = new ElasticJobMeterBinder();
+    
+    @BeforeEach
+    void setUp() {
+        meterBinder.bindTo(meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        meterBinder.close();
+    }
+    
+    @Test
+    void assertUnbind() {
+        assertTrue(JobMetrics.isEnabled());
+        meterBinder.close();
+        assertFalse(JobMetrics.isEnabled());
+        JobMetrics.recordMisfireCheck("test_job", 1L, true);
+        assertThat(meterRegistry.find(MicrometerJobMetricsRecorder.MISFIRE_CHECK_TIMER).timer(), nullValue());
+    }
+    
+    @Test
+    void assertRecordMisfireCheck() {
+        JobMetrics.recordMisfireCheck("test_job", 1000L, false);
+        JobMetrics.recordMisfireCheck("test_job", 1000L, true);
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.MISFIRE_CHECK_TIMER).tag("job", "test_job").timer().count(), is(2L));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.MISFIRE_COUNTER).tag("job", "test_job").counter().count(), is(1D));
+    }
+    
+    @Test
+    void assertRecordExecution() {
+        JobMetrics.recordJobExecution("test_job", "NORMAL_TRIGGER", TimeUnit.MILLISECONDS.toNanos(10L));
+        JobMetrics.recordItemExecution("test_job", 0, true, 1000L);
+        JobMetrics.recordItemExecution("test_job", 1, false, 1000L);
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.JOB_EXECUTION_TIMER).tag("source", "NORMAL_TRIGGER").timer().totalTime(TimeUnit.MILLISECONDS), is(10D));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.ITEM_EXECUTION_TIMER).tag("item", "0").tag("result", "success").timer().count(), is(1L));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.ITEM_EXECUTION_TIMER).tag("item", "1").tag("result", "failure").timer().count(), is(1L));
+    }
+    
+    @Test
+    void assertRecordCoordination() {
+        JobMetrics.recordSharding("test_job", true, 1000L);
+        JobMetrics.recordFailover("test_job", 1000L);
+        JobMetrics.recordCrashedItem("test_job", 2);
+        JobMetrics.recordFailoverTakeover("test_job", 2);
+        JobMetrics.recordTracingEvent("test_job", "JobExecutionEvent");
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.SHARDING_TIMER).tag("role", "leader").timer().count(), is(1L));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.FAILOVER_TIMER).tag("job", "test_job").timer().count(), is(1L));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.CRASHED_ITEM_COUNTER).tag("item", "2").counter().count(), is(1D));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.FAILOVER_TAKEOVER_COUNTER).tag("item", "2").counter().count(), is(1D));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.TRACING_EVENT_COUNTER).tag("type", "JobExecutionEvent").counter().count(), is(1D));
+    }
+    
+    @Test
+    void assertExecutorServiceGauges() {
+        ElasticJobExecutorService executorService = new ElasticJobExecutorService("metrics-test", 1);
+        JobMetrics.registerExecutorService("gauge_job", executorService);
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.EXECUTOR_ACTIVE_THREADS_GAUGE).tag("job", "gauge_job").gauge().value(), is(0D));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.EXECUTOR_QUEUE_SIZE_GAUGE).tag("job", "gauge_job").gauge().value(), is(0D));
+        JobMetrics.unregisterExecutorService("gauge_job", executorService);
+        assertThat(meterRegistry.find(MicrometerJobMetricsRecorder.EXECUTOR_QUEUE_SIZE_GAUGE).tag("job", "gauge_job").gauge(), nullValue());
+    }
+    
+    @Test
+    void assertBindRegistersExistingExecutorServices() {
+        meterBinder.close();
+        ElasticJobExecutorService executorService = new ElasticJobExecutorService("metrics-test", 1);
+        JobMetrics.registerExecutorService("late_bound_job", executorService);
+        meterBinder.bindTo(meterRegistry);
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.EXECUTOR_ACTIVE_THREADS_GAUGE).tag("job", "late_bound_job").gauge().value(), is(0D));
+        JobMetrics.unregisterExecutorService("late_bound_job", executorService);
+    }
+    
+    @Test
+    void assertTracingStorageWriterMeters() {
+        TracingStorageWriterStatistics statistics = mock(TracingStorageWriterStatistics.class);
+        when(statistics.getQueueDepth()).thenReturn(3);
+        when(statistics.getFlushedBatchCount()).thenReturn(2L);
+        when(statistics.getFlushedEventCount()).thenReturn(10L);
+        when(statistics.getDroppedCount()).thenReturn(1L);
+        JobMetrics.registerTracingStorageWriter("TEST", statistics);
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.TRACING_STORAGE_QUEUE_SIZE_GAUGE).tag("storage", "TEST").gauge().value(), is(3D));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.TRACING_STORAGE_BATCH_COUNTER).tag("storage", "TEST").functionCounter().count(), is(2D));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.TRACING_STORAGE_EVENT_COUNTER).tag("storage", "TEST").functionCounter().count(), is(10D));
+        assertThat(meterRegistry.get(MicrometerJobMetricsRecorder.TRACING_STORAGE_EVENT_DROPPED_COUNTER).tag("storage", "TEST").functionCounter().count(), is(1D));
+        JobMetrics.unregisterTracingStorageWriter("TEST", statistics);
+        assertThat(meterRegistry.find(MicrometerJobMetricsRecorder.TRACING_STORAGE_QUEUE_SIZE_GAUGE).tag("storage", "TEST").gauge(), nullValue());
+    }
+}
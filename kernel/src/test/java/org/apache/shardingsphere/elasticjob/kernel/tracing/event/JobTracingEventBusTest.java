@@ -17,12 +17,12 @@
 
 package org.apache.shardingsphere.elasticjob.kernel.tracing.event;
 
-import com.google.common.eventbus.EventBus;
 import org.apache.shardingsphere.elasticjob.kernel.tracing.config.TracingConfiguration;
 import org.apache.shardingsphere.elasticjob.kernel.tracing.fixture.config.TracingStorageFixture;
 import org.apache.shardingsphere.elasticjob.kernel.tracing.fixture.listener.TracingListenerFixture;
 import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobEvent;
 import org.apache.shardingsphere.elasticjob.spi.tracing.event.JobExecutionEvent;
+import org.apache.shardingsphere.elasticjob.spi.tracing.listener.TracingListener;
 import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
@@ -31,10 +31,16 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -45,7 +51,7 @@ class JobTracingEventBusTest {
     private TracingStorageFixture tracingStorage;
     
     @Mock
-    private EventBus eventBus;
+    private TracingListener tracingListener;
     
     private JobTracingEventBus jobTracingEventBus;
     
@@ -68,8 +74,70 @@ class JobTracingEventBusTest {
     void assertPostWithoutListener() {
         jobTracingEventBus = new JobTracingEventBus();
         assertFalse((Boolean) ReflectionUtils.getFieldValue(jobTracingEventBus, "isRegistered"));
-        ReflectionUtils.setFieldValue(jobTracingEventBus, "eventBus", eventBus);
+        ReflectionUtils.setFieldValue(jobTracingEventBus, "tracingListener", tracingListener);
         jobTracingEventBus.post(new JobExecutionEvent("localhost", "127.0.0.1", "fake_task_id", "test_event_bus_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0));
-        verify(eventBus, times(0)).post(ArgumentMatchers.<JobEvent>any());
+        verify(tracingListener, times(0)).listen(ArgumentMatchers.<List<JobEvent>>any());
+    }
+    
+    @Test
+    void assertPostInBatch() {
+        jobTracingEventBus = createJobTracingEventBus(10, TracingOverflowPolicy.DROP_NEWEST);
+        AtomicBoolean dispatching = (AtomicBoolean) ReflectionUtils.getFieldValue(jobTracingEventBus, "dispatching");
+        dispatching.set(true);
+        for (int i = 0; i < 3; i++) {
+            jobTracingEventBus.post(createJobEvent(i));
+        }
+        assertThat(jobTracingEventBus.getQueueDepth(), is(3));
+        dispatching.set(false);
+        jobTracingEventBus.post(createJobEvent(3));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).until(() -> 0 == jobTracingEventBus.getQueueDepth() && !dispatching.get());
+        verify(tracingListener).listen(argThat((List<JobEvent> events) -> 4 == events.size()));
+    }
+    
+    @Test
+    void assertPostWithDropNewest() {
+        jobTracingEventBus = createFullJobTracingEventBus(TracingOverflowPolicy.DROP_NEWEST);
+        jobTracingEventBus.post(createJobEvent(1));
+        assertThat(jobTracingEventBus.getDroppedCount(), is(1L));
+        assertThat(getQueuedTaskId(), is("0"));
+    }
+    
+    @Test
+    void assertPostWithDropOldest() {
+        jobTracingEventBus = createFullJobTracingEventBus(TracingOverflowPolicy.DROP_OLDEST);
+        jobTracingEventBus.post(createJobEvent(1));
+        assertThat(jobTracingEventBus.getDroppedCount(), is(1L));
+        assertThat(getQueuedTaskId(), is("1"));
+    }
+    
+    @Test
+    void assertPostWithSample() {
+        jobTracingEventBus = createFullJobTracingEventBus(TracingOverflowPolicy.SAMPLE);
+        jobTracingEventBus.post(createJobEvent(1));
+        assertThat(jobTracingEventBus.getDroppedCount(), is(1L));
+        assertThat(getQueuedTaskId(), is("0"));
+    }
+    
+    private JobTracingEventBus createJobTracingEventBus(final int capacity, final TracingOverflowPolicy overflowPolicy) {
+        JobTracingEventBus result = new JobTracingEventBus(new TracingConfiguration<>("TEST", tracingStorage), capacity, overflowPolicy, 10);
+        ReflectionUtils.setFieldValue(result, "tracingListener", tracingListener);
+        return result;
+    }
+    
+    private JobTracingEventBus createFullJobTracingEventBus(final TracingOverflowPolicy overflowPolicy) {
+        JobTracingEventBus result = createJobTracingEventBus(1, overflowPolicy);
+        ((AtomicBoolean) ReflectionUtils.getFieldValue(result, "dispatching")).set(true);
+        result.post(createJobEvent(0));
+        assertThat(result.getQueueDepth(), is(1));
+        return result;
+    }
+    
+    private JobExecutionEvent createJobEvent(final int taskId) {
+        return new JobExecutionEvent("localhost", "127.0.0.1", String.valueOf(taskId), "test_event_bus_job", JobExecutionEvent.ExecutionSource.NORMAL_TRIGGER, 0);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private String getQueuedTaskId() {
+        return ((JobExecutionEvent) ((Queue<JobEvent>) ReflectionUtils.getFieldValue(jobTracingEventBus, "queue")).peek()).getTaskId();
     }
 }
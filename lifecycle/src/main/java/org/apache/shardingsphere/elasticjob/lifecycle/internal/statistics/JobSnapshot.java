@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lifecycle.internal.statistics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.JobConfigurationPOJO;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingAssignment;
+import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Job snapshot, which holds nodes of a job read from registry center and parsed once.
+ */
+@RequiredArgsConstructor
+@Getter
+final class JobSnapshot {
+    
+    private final String jobName;
+    
+    private JobConfiguration jobConfig;
+    
+    private final Map<String, String> serverStatuses = new LinkedHashMap<>();
+    
+    private final Map<String, JobInstance> instances = new LinkedHashMap<>();
+    
+    private final Map<String, String> shardingInstanceIds = new LinkedHashMap<>();
+    
+    /**
+     * Read job snapshot from registry center.
+     * 
+     * @param regCenter registry center
+     * @param jobName job name
+     * @param nodes nodes to be read
+     * @return job snapshot, null if configuration is to be read but absent
+     */
+    static JobSnapshot read(final CoordinatorRegistryCenter regCenter, final String jobName, final Collection<Node> nodes) {
+        JobNodePath jobNodePath = new JobNodePath(jobName);
+        JobSnapshot result = new JobSnapshot(jobName);
+        if (nodes.contains(Node.CONFIG)) {
+            String jobConfigYaml = regCenter.get(jobNodePath.getConfigNodePath());
+            if (null == jobConfigYaml) {
+                return null;
+            }
+            result.jobConfig = YamlEngine.unmarshal(jobConfigYaml, JobConfigurationPOJO.class).toJobConfiguration();
+        }
+        if (nodes.contains(Node.SERVERS)) {
+            for (String each : regCenter.getChildrenKeys(jobNodePath.getServerNodePath())) {
+                result.serverStatuses.put(each, regCenter.get(jobNodePath.getServerNodePath(each)));
+            }
+        }
+        if (nodes.contains(Node.INSTANCES) || nodes.contains(Node.INSTANCE_CONTENTS)) {
+            for (String each : regCenter.getChildrenKeys(jobNodePath.getInstancesNodePath())) {
+                result.instances.put(each, nodes.contains(Node.INSTANCE_CONTENTS) ? readJobInstance(regCenter, jobNodePath.getInstanceNodePath(each)) : null);
+            }
+        }
+        if (nodes.contains(Node.SHARDING)) {
+            String shardingAssignment = regCenter.get(jobNodePath.getShardingAssignmentNodePath());
+            Map<Integer, String> assignedInstanceIds = null == shardingAssignment ? null : ShardingAssignment.decode(shardingAssignment).getShardingInstances();
+            for (String each : regCenter.getChildrenKeys(jobNodePath.getShardingNodePath())) {
+                result.shardingInstanceIds.put(each, null == assignedInstanceIds ? regCenter.get(jobNodePath.getShardingNodePath(each, "instance")) : assignedInstanceIds.get(Integer.parseInt(each)));
+            }
+        }
+        return result;
+    }
+    
+    private static JobInstance readJobInstance(final CoordinatorRegistryCenter regCenter, final String instanceNodePath) {
+        String jobInstanceYaml = regCenter.get(instanceNodePath);
+        return null == jobInstanceYaml ? null : YamlEngine.unmarshal(jobInstanceYaml, JobInstance.class);
+    }
+    
+    /**
+     * Job node to be read.
+     */
+    enum Node {
+        
+        /**
+         * Job configuration, job is skipped if absent.
+         */
+        CONFIG,
+        
+        /**
+         * Server IPs and statuses.
+         */
+        SERVERS,
+        
+        /**
+         * Instance IDs only.
+         */
+        INSTANCES,
+        
+        /**
+         * Instance IDs and parsed instances.
+         */
+        INSTANCE_CONTENTS,
+        
+        /**
+         * Instance IDs of sharding items.
+         */
+        SHARDING
+    }
+}
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.elasticjob.lifecycle.internal.statistics;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
-import org.apache.shardingsphere.elasticjob.kernel.internal.config.JobConfigurationPOJO;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lifecycle.api.JobStatisticsAPI;
 import org.apache.shardingsphere.elasticjob.lifecycle.domain.JobBriefInfo;
@@ -30,6 +29,7 @@ import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -40,6 +40,8 @@ import java.util.Set;
 @RequiredArgsConstructor
 public final class JobStatisticsAPIImpl implements JobStatisticsAPI {
     
+    private static final Collection<JobSnapshot.Node> BRIEF_INFO_NODES = EnumSet.of(JobSnapshot.Node.CONFIG, JobSnapshot.Node.SERVERS, JobSnapshot.Node.INSTANCES, JobSnapshot.Node.SHARDING);
+    
     private final CoordinatorRegistryCenter regCenter;
     
     @Override
@@ -49,13 +51,10 @@ public final class JobStatisticsAPIImpl implements JobStatisticsAPI {
     
     @Override
     public Collection<JobBriefInfo> getAllJobsBriefInfo() {
-        List<String> jobNames = regCenter.getChildrenKeys("/");
-        List<JobBriefInfo> result = new ArrayList<>(jobNames.size());
-        for (String each : jobNames) {
-            JobBriefInfo jobBriefInfo = getJobBriefInfo(each);
-            if (null != jobBriefInfo) {
-                result.add(jobBriefInfo);
-            }
+        List<JobSnapshot> jobSnapshots = NamespaceSnapshot.read(regCenter, BRIEF_INFO_NODES).getJobs();
+        List<JobBriefInfo> result = new ArrayList<>(jobSnapshots.size());
+        for (JobSnapshot each : jobSnapshots) {
+            result.add(getJobBriefInfo(each));
         }
         Collections.sort(result);
         return result;
@@ -63,61 +62,53 @@ public final class JobStatisticsAPIImpl implements JobStatisticsAPI {
     
     @Override
     public JobBriefInfo getJobBriefInfo(final String jobName) {
-        JobNodePath jobNodePath = new JobNodePath(jobName);
+        JobSnapshot jobSnapshot = JobSnapshot.read(regCenter, jobName, BRIEF_INFO_NODES);
+        return null == jobSnapshot ? null : getJobBriefInfo(jobSnapshot);
+    }
+    
+    private JobBriefInfo getJobBriefInfo(final JobSnapshot jobSnapshot) {
         JobBriefInfo result = new JobBriefInfo();
-        result.setJobName(jobName);
-        String jobConfigYaml = regCenter.get(jobNodePath.getConfigNodePath());
-        if (null == jobConfigYaml) {
-            return null;
-        }
-        JobConfiguration jobConfig = YamlEngine.unmarshal(jobConfigYaml, JobConfigurationPOJO.class).toJobConfiguration();
+        result.setJobName(jobSnapshot.getJobName());
+        JobConfiguration jobConfig = jobSnapshot.getJobConfig();
         result.setDescription(jobConfig.getDescription());
         result.setCron(jobConfig.getCron());
-        result.setInstanceCount(getJobInstanceCount(jobName));
+        result.setInstanceCount(jobSnapshot.getInstances().size());
         result.setShardingTotalCount(jobConfig.getShardingTotalCount());
-        result.setStatus(getJobStatus(jobName));
+        result.setStatus(getJobStatus(jobSnapshot));
         return result;
     }
     
-    private JobBriefInfo.JobStatus getJobStatus(final String jobName) {
-        JobNodePath jobNodePath = new JobNodePath(jobName);
-        List<String> instances = regCenter.getChildrenKeys(jobNodePath.getInstancesNodePath());
-        if (instances.isEmpty()) {
+    private JobBriefInfo.JobStatus getJobStatus(final JobSnapshot jobSnapshot) {
+        if (jobSnapshot.getInstances().isEmpty()) {
             return JobBriefInfo.JobStatus.CRASHED;
         }
-        if (isAllDisabled(jobNodePath)) {
+        if (isAllDisabled(jobSnapshot.getServerStatuses().values())) {
             return JobBriefInfo.JobStatus.DISABLED;
         }
-        if (isHasShardingFlag(jobNodePath, instances)) {
+        if (isHasShardingFlag(jobSnapshot)) {
             return JobBriefInfo.JobStatus.SHARDING_FLAG;
         }
         return JobBriefInfo.JobStatus.OK;
     }
     
-    private boolean isAllDisabled(final JobNodePath jobNodePath) {
-        List<String> serversPath = regCenter.getChildrenKeys(jobNodePath.getServerNodePath());
+    private boolean isAllDisabled(final Collection<String> serverStatuses) {
         int disabledServerCount = 0;
-        for (String each : serversPath) {
-            if (JobBriefInfo.JobStatus.DISABLED.name().equals(regCenter.get(jobNodePath.getServerNodePath(each)))) {
+        for (String each : serverStatuses) {
+            if (JobBriefInfo.JobStatus.DISABLED.name().equals(each)) {
                 disabledServerCount++;
             }
         }
-        return disabledServerCount == serversPath.size();
+        return disabledServerCount == serverStatuses.size();
     }
     
-    private boolean isHasShardingFlag(final JobNodePath jobNodePath, final List<String> instances) {
+    private boolean isHasShardingFlag(final JobSnapshot jobSnapshot) {
         Set<String> shardingInstances = new HashSet<>();
-        for (String each : regCenter.getChildrenKeys(jobNodePath.getShardingNodePath())) {
-            String instanceId = regCenter.get(jobNodePath.getShardingNodePath(each, "instance"));
-            if (null != instanceId && !instanceId.isEmpty()) {
-                shardingInstances.add(instanceId);
+        for (String each : jobSnapshot.getShardingInstanceIds().values()) {
+            if (null != each && !each.isEmpty()) {
+                shardingInstances.add(each);
             }
         }
-        return !new HashSet<>(instances).containsAll(shardingInstances) || shardingInstances.isEmpty();
-    }
-    
-    private int getJobInstanceCount(final String jobName) {
-        return regCenter.getChildrenKeys(new JobNodePath(jobName).getInstancesNodePath()).size();
+        return !jobSnapshot.getInstances().keySet().containsAll(shardingInstances) || shardingInstances.isEmpty();
     }
     
     @Override
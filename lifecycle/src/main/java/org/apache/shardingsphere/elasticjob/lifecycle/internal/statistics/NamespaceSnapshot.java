@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lifecycle.internal.statistics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.apache.shardingsphere.elasticjob.kernel.infra.exception.JobSystemException;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Namespace snapshot.
+ * 
+ * <p>
+ * Reads nodes of all jobs in namespace in one pass, instead of one round trip per node when building each view.
+ * Jobs are read in parallel, bounded by system variable {@value #PARALLELISM}.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+final class NamespaceSnapshot {
+    
+    static final String PARALLELISM = "elasticjob.lifecycle.snapshot.parallelism";
+    
+    private static final ExecutorService EXECUTOR_SERVICE = createExecutorService(Integer.getInteger(PARALLELISM, 16));
+    
+    private final List<JobSnapshot> jobs;
+    
+    private static ExecutorService createExecutorService(final int threadSize) {
+        ThreadPoolExecutor result = new ThreadPoolExecutor(threadSize, threadSize, 1L, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), new BasicThreadFactory.Builder().namingPattern("lifecycle-snapshot-%s").daemon(true).build());
+        result.allowCoreThreadTimeOut(true);
+        return result;
+    }
+    
+    /**
+     * Read namespace snapshot from registry center.
+     * 
+     * @param regCenter registry center
+     * @param nodes nodes of each job to be read
+     * @return namespace snapshot, jobs are in the order of registry center
+     */
+    static NamespaceSnapshot read(final CoordinatorRegistryCenter regCenter, final Collection<JobSnapshot.Node> nodes) {
+        List<String> jobNames = regCenter.getChildrenKeys("/");
+        List<Future<JobSnapshot>> futures = new ArrayList<>(jobNames.size());
+        for (String each : jobNames) {
+            futures.add(EXECUTOR_SERVICE.submit(() -> JobSnapshot.read(regCenter, each, nodes)));
+        }
+        List<JobSnapshot> result = new ArrayList<>(jobNames.size());
+        try {
+            for (Future<JobSnapshot> each : futures) {
+                JobSnapshot jobSnapshot = each.get();
+                if (null != jobSnapshot) {
+                    result.add(jobSnapshot);
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            futures.forEach(each -> each.cancel(true));
+            throw new JobSystemException(ex);
+        } catch (final ExecutionException ex) {
+            futures.forEach(each -> each.cancel(true));
+            throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new JobSystemException(ex.getCause());
+        }
+        return new NamespaceSnapshot(result);
+    }
+}
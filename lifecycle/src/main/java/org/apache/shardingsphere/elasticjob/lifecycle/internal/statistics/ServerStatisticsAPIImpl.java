@@ -19,7 +19,6 @@ package org.apache.shardingsphere.elasticjob.lifecycle.internal.statistics;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
-import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lifecycle.api.ServerStatisticsAPI;
 import org.apache.shardingsphere.elasticjob.lifecycle.domain.ServerBriefInfo;
@@ -28,10 +27,13 @@ import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Server statistics API implementation class.
@@ -53,25 +55,21 @@ public final class ServerStatisticsAPIImpl implements ServerStatisticsAPI {
     
     @Override
     public Collection<ServerBriefInfo> getAllServersBriefInfo() {
-        ConcurrentHashMap<String, ServerBriefInfo> servers = new ConcurrentHashMap<>();
-        for (String jobName : regCenter.getChildrenKeys("/")) {
-            JobNodePath jobNodePath = new JobNodePath(jobName);
-            for (String each : regCenter.getChildrenKeys(jobNodePath.getServerNodePath())) {
-                servers.putIfAbsent(each, new ServerBriefInfo(each));
-                ServerBriefInfo serverInfo = servers.get(each);
-                if ("DISABLED".equalsIgnoreCase(regCenter.get(jobNodePath.getServerNodePath(each)))) {
+        Map<String, ServerBriefInfo> servers = new HashMap<>();
+        for (JobSnapshot jobSnapshot : NamespaceSnapshot.read(regCenter, EnumSet.of(JobSnapshot.Node.SERVERS, JobSnapshot.Node.INSTANCE_CONTENTS)).getJobs()) {
+            for (Entry<String, String> entry : jobSnapshot.getServerStatuses().entrySet()) {
+                ServerBriefInfo serverInfo = servers.computeIfAbsent(entry.getKey(), ServerBriefInfo::new);
+                if ("DISABLED".equalsIgnoreCase(entry.getValue())) {
                     serverInfo.getDisabledJobsNum().incrementAndGet();
                 }
-                serverInfo.getJobNames().add(jobName);
+                serverInfo.getJobNames().add(jobSnapshot.getJobName());
                 serverInfo.setJobsNum(serverInfo.getJobNames().size());
             }
-            List<String> instances = regCenter.getChildrenKeys(jobNodePath.getInstancesNodePath());
-            for (String each : instances) {
-                JobInstance jobInstance = YamlEngine.unmarshal(regCenter.get(jobNodePath.getInstanceNodePath(each)), JobInstance.class);
-                if (null != jobInstance) {
-                    ServerBriefInfo serverInfo = servers.get(jobInstance.getServerIp());
+            for (Entry<String, JobInstance> entry : jobSnapshot.getInstances().entrySet()) {
+                if (null != entry.getValue()) {
+                    ServerBriefInfo serverInfo = servers.get(entry.getValue().getServerIp());
                     if (null != serverInfo) {
-                        serverInfo.getInstances().add(each);
+                        serverInfo.getInstances().add(entry.getKey());
                         serverInfo.setInstancesNum(serverInfo.getInstances().size());
                     }
                 }
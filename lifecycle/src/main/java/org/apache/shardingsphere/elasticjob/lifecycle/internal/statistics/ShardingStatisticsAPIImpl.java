@@ -19,6 +19,7 @@ package org.apache.shardingsphere.elasticjob.lifecycle.internal.statistics;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.ShardingAssignment;
 import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
 import org.apache.shardingsphere.elasticjob.kernel.internal.storage.JobNodePath;
 import org.apache.shardingsphere.elasticjob.lifecycle.api.ShardingStatisticsAPI;
@@ -29,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Sharding statistics API implementation class.
@@ -40,21 +42,22 @@ public final class ShardingStatisticsAPIImpl implements ShardingStatisticsAPI {
     
     @Override
     public Collection<ShardingInfo> getShardingInfo(final String jobName) {
-        String shardingRootPath = new JobNodePath(jobName).getShardingNodePath();
-        List<String> items = regCenter.getChildrenKeys(shardingRootPath);
+        JobNodePath jobNodePath = new JobNodePath(jobName);
+        List<String> items = regCenter.getChildrenKeys(jobNodePath.getShardingNodePath());
+        String shardingAssignment = regCenter.get(jobNodePath.getShardingAssignmentNodePath());
+        Map<Integer, String> assignedInstanceIds = null == shardingAssignment ? null : ShardingAssignment.decode(shardingAssignment).getShardingInstances();
         List<ShardingInfo> result = new ArrayList<>(items.size());
         for (String each : items) {
-            result.add(getShardingInfo(jobName, each));
+            String instanceId = null == assignedInstanceIds ? regCenter.get(jobNodePath.getShardingNodePath(each, "instance")) : assignedInstanceIds.get(Integer.parseInt(each));
+            result.add(getShardingInfo(jobNodePath, each, instanceId));
         }
         Collections.sort(result);
         return result;
     }
     
-    private ShardingInfo getShardingInfo(final String jobName, final String item) {
+    private ShardingInfo getShardingInfo(final JobNodePath jobNodePath, final String item, final String instanceId) {
         ShardingInfo result = new ShardingInfo();
         result.setItem(Integer.parseInt(item));
-        JobNodePath jobNodePath = new JobNodePath(jobName);
-        String instanceId = regCenter.get(jobNodePath.getShardingNodePath(item, "instance"));
         boolean disabled = regCenter.isExisted(jobNodePath.getShardingNodePath(item, "disabled"));
         boolean running = regCenter.isExisted(jobNodePath.getShardingNodePath(item, "running"));
         boolean shardingError = !regCenter.isExisted(jobNodePath.getInstanceNodePath(instanceId));
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.lifecycle.internal.statistics;
+
+import org.apache.shardingsphere.elasticjob.lifecycle.fixture.LifecycleYamlConstants;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NamespaceSnapshotTest {
+    
+    @Mock
+    private CoordinatorRegistryCenter regCenter;
+    
+    @Test
+    void assertReadWithConfig() {
+        when(regCenter.getChildrenKeys("/")).thenReturn(Arrays.asList("test_job_1", "test_job_2", "test_job_3"));
+        when(regCenter.get("/test_job_1/config")).thenReturn(LifecycleYamlConstants.getSimpleJobYaml("test_job_1", "desc1"));
+        when(regCenter.get("/test_job_2/config")).thenReturn(null);
+        when(regCenter.get("/test_job_3/config")).thenReturn(LifecycleYamlConstants.getSimpleJobYaml("test_job_3", "desc3"));
+        when(regCenter.get("/test_job_1/assignment")).thenReturn(null);
+        when(regCenter.getChildrenKeys("/test_job_1/sharding")).thenReturn(Arrays.asList("0", "1"));
+        when(regCenter.get("/test_job_1/sharding/0/instance")).thenReturn("ip1@-@defaultInstance");
+        when(regCenter.get("/test_job_1/sharding/1/instance")).thenReturn(null);
+        when(regCenter.get("/test_job_3/assignment")).thenReturn(null);
+        when(regCenter.getChildrenKeys("/test_job_3/sharding")).thenReturn(Collections.emptyList());
+        List<JobSnapshot> actual = NamespaceSnapshot.read(regCenter, EnumSet.of(JobSnapshot.Node.CONFIG, JobSnapshot.Node.SHARDING)).getJobs();
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getJobName(), is("test_job_1"));
+        assertThat(actual.get(0).getJobConfig().getDescription(), is("desc1"));
+        assertThat(actual.get(0).getShardingInstanceIds().get("0"), is("ip1@-@defaultInstance"));
+        assertThat(actual.get(0).getShardingInstanceIds().get("1"), nullValue());
+        assertThat(actual.get(1).getJobName(), is("test_job_3"));
+        verify(regCenter, never()).getChildrenKeys("/test_job_2/sharding");
+    }
+    
+    @Test
+    void assertReadWithCompactShardingAssignment() {
+        when(regCenter.getChildrenKeys("/")).thenReturn(Collections.singletonList("test_job"));
+        when(regCenter.get("/test_job/assignment")).thenReturn("1\nip1@-@defaultInstance\n0:0");
+        when(regCenter.getChildrenKeys("/test_job/sharding")).thenReturn(Arrays.asList("0", "1"));
+        List<JobSnapshot> actual = NamespaceSnapshot.read(regCenter, EnumSet.of(JobSnapshot.Node.SHARDING)).getJobs();
+        assertThat(actual.get(0).getShardingInstanceIds().get("0"), is("ip1@-@defaultInstance"));
+        assertThat(actual.get(0).getShardingInstanceIds().get("1"), nullValue());
+    }
+    
+    @Test
+    void assertReadWithInstances() {
+        when(regCenter.getChildrenKeys("/")).thenReturn(Collections.singletonList("test_job"));
+        when(regCenter.getChildrenKeys("/test_job/servers")).thenReturn(Collections.singletonList("ip1"));
+        when(regCenter.get("/test_job/servers/ip1")).thenReturn("DISABLED");
+        when(regCenter.getChildrenKeys("/test_job/instances")).thenReturn(Collections.singletonList("ip1@-@defaultInstance"));
+        when(regCenter.get("/test_job/instances/ip1@-@defaultInstance")).thenReturn("jobInstanceId: ip1@-@defaultInstance\nserverIp: ip1\n");
+        List<JobSnapshot> actual = NamespaceSnapshot.read(regCenter, EnumSet.of(JobSnapshot.Node.SERVERS, JobSnapshot.Node.INSTANCE_CONTENTS)).getJobs();
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get(0).getJobConfig(), nullValue());
+        assertThat(actual.get(0).getServerStatuses().get("ip1"), is("DISABLED"));
+        assertThat(actual.get(0).getInstances().get("ip1@-@defaultInstance").getServerIp(), is("ip1"));
+    }
+}
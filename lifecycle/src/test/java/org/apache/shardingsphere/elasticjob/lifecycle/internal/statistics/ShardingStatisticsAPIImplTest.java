@@ -26,7 +26,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,4 +99,20 @@ class ShardingStatisticsAPIImplTest {
             }
         }
     }
+    
+    @Test
+    void assertGetShardingInfoWithCompactShardingAssignment() {
+        when(regCenter.getChildrenKeys("/test_job/sharding")).thenReturn(Arrays.asList("0", "1"));
+        when(regCenter.get("/test_job/assignment")).thenReturn("1\nip1@-@1234,ip2@-@2341\n0:1,1:0");
+        when(regCenter.get("/test_job/instances/ip1@-@1234")).thenReturn("jobInstanceId: ip1@-@1234\nserverIp: ip1\n");
+        when(regCenter.get("/test_job/instances/ip2@-@2341")).thenReturn("jobInstanceId: ip2@-@2341\nserverIp: ip2\n");
+        when(regCenter.isExisted("/test_job/instances/ip1@-@1234")).thenReturn(true);
+        when(regCenter.isExisted("/test_job/instances/ip2@-@2341")).thenReturn(true);
+        List<ShardingInfo> actual = new ArrayList<>(shardingStatisticsAPI.getShardingInfo("test_job"));
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get(0).getInstanceId(), is("ip2@-@2341"));
+        assertThat(actual.get(0).getStatus(), is(ShardingInfo.ShardingStatus.PENDING));
+        assertThat(actual.get(1).getInstanceId(), is("ip1@-@1234"));
+        assertThat(actual.get(1).getServerIp(), is("ip1"));
+    }
 }
@@ -21,7 +21,9 @@ import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOper
 import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 
 /**
@@ -45,6 +47,27 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     List<String> getChildrenKeys(String key);
     
+    /**
+     * Get data of leaf node under each child.
+     * 
+     * <p>E.g. instance of each sharding item by key {@code /job/sharding} and leaf name {@code instance}.
+     * Reads leaf nodes one by one by default, implementations should override it to read all data in one pass.</p>
+     *
+     * @param key key
+     * @param leafName name of leaf node under each child
+     * @return data of leaf nodes keyed by child name, children without leaf node are excluded
+     */
+    default Map<String, String> getChildrenData(final String key, final String leafName) {
+        Map<String, String> result = new HashMap<>();
+        for (String each : getChildrenKeys(key)) {
+            String data = get(key + "/" + each + "/" + leafName);
+            if (null != data) {
+                result.put(each, data);
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get children number.
      *
@@ -61,6 +84,19 @@ public interface CoordinatorRegistryCenter extends RegistryCenter {
      */
     void persistEphemeral(String key, String value);
     
+    /**
+     * Update ephemeral data, which stays ephemeral after updated.
+     * 
+     * <p>Updates data by default, which keeps ephemeral data ephemeral,
+     * implementations binding ephemeral data to a session should override it to update data within the session.</p>
+     * 
+     * @param key key
+     * @param value value
+     */
+    default void updateEphemeral(final String key, final String value) {
+        update(key, value);
+    }
+    
     /**
      * Persist sequential data.
      *
@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.elasticjob.reg.base.transaction;
 
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
+@EqualsAndHashCode
 @ToString
 public final class TransactionOperation {
     
@@ -33,6 +35,8 @@ public final class TransactionOperation {
         
         ADD,
         
+        ADD_EPHEMERAL,
+        
         UPDATE,
         
         DELETE
@@ -55,6 +59,17 @@ public final class TransactionOperation {
         return new TransactionOperation(Type.ADD, key, value);
     }
     
+    /**
+     * Operation add ephemeral.
+     *
+     * @param key key
+     * @param value value
+     * @return TransactionOperation
+     */
+    public static TransactionOperation opAddEphemeral(final String key, final String value) {
+        return new TransactionOperation(Type.ADD_EPHEMERAL, key, value);
+    }
+    
     /**
      * Operation update.
      *
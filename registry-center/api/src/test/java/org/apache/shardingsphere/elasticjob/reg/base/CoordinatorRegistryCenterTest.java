@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.base;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+class CoordinatorRegistryCenterTest {
+    
+    @Test
+    void assertGetChildrenData() {
+        CoordinatorRegistryCenter regCenter = mock(CoordinatorRegistryCenter.class, CALLS_REAL_METHODS);
+        doReturn(Arrays.asList("0", "1", "2")).when(regCenter).getChildrenKeys("/test_job/sharding");
+        doReturn("host0").when(regCenter).get("/test_job/sharding/0/instance");
+        doReturn(null).when(regCenter).get("/test_job/sharding/1/instance");
+        doReturn("").when(regCenter).get("/test_job/sharding/2/instance");
+        assertThat(regCenter.getChildrenData("/test_job/sharding", "instance").size(), is(2));
+        assertThat(regCenter.getChildrenData("/test_job/sharding", "instance").get("0"), is("host0"));
+        assertThat(regCenter.getChildrenData("/test_job/sharding", "instance").get("2"), is(""));
+    }
+    
+    @Test
+    void assertGetChildrenDataWithoutChildren() {
+        CoordinatorRegistryCenter regCenter = mock(CoordinatorRegistryCenter.class, CALLS_REAL_METHODS);
+        doReturn(Collections.emptyList()).when(regCenter).getChildrenKeys("/test_job/sharding");
+        assertThat(regCenter.getChildrenData("/test_job/sharding", "instance").isEmpty(), is(true));
+    }
+}
@@ -33,6 +33,14 @@ class TransactionOperationTest {
         assertThat(actual.getValue(), is("value"));
     }
     
+    @Test
+    void assertOpAddEphemeral() {
+        TransactionOperation actual = TransactionOperation.opAddEphemeral("key", "value");
+        assertThat(actual.getType(), is(Type.ADD_EPHEMERAL));
+        assertThat(actual.getKey(), is("key"));
+        assertThat(actual.getValue(), is("value"));
+    }
+    
     @Test
     void assertOpUpdate() {
         TransactionOperation actual = TransactionOperation.opUpdate("key", "value");
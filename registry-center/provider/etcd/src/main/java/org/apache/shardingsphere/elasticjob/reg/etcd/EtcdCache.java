@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.etcd;
+
+import io.etcd.jetcd.ByteSequence;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Local mirror of etcd keys under a prefix.
+ *
+ * <p>
+ * The mirror is loaded at a revision and kept up to date by watch events and local writes.
+ * Every key remembers the revision of its last change, so changes older than it are ignored.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+@Getter(AccessLevel.PACKAGE)
+final class EtcdCache {
+    
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+    
+    private final String prefix;
+    
+    @Getter(AccessLevel.NONE)
+    private final NavigableMap<String, CachedValue> values = new ConcurrentSkipListMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Long> deletedRevisions = new ConcurrentHashMap<>();
+    
+    private volatile long revision;
+    
+    /**
+     * Judge whether the key is covered by this cache.
+     *
+     * @param key key
+     * @return covered or not
+     */
+    boolean covers(final String key) {
+        return key.startsWith(prefix);
+    }
+    
+    /**
+     * Replace all cached values with the values loaded at the revision.
+     *
+     * @param loadedValues loaded values
+     * @param revision revision of loading
+     */
+    synchronized void load(final Map<String, ByteSequence> loadedValues, final long revision) {
+        values.clear();
+        deletedRevisions.clear();
+        loadedValues.forEach((key, value) -> values.put(key, new CachedValue(value, revision)));
+        this.revision = revision;
+    }
+    
+    /**
+     * Put value.
+     *
+     * @param key key
+     * @param value value
+     * @param modRevision revision of the modification
+     */
+    synchronized void put(final String key, final ByteSequence value, final long modRevision) {
+        if (modRevision < getLastModRevision(key)) {
+            return;
+        }
+        deletedRevisions.remove(key);
+        values.put(key, new CachedValue(value, modRevision));
+    }
+    
+    /**
+     * Delete value.
+     *
+     * @param key key
+     * @param modRevision revision of the deletion
+     */
+    synchronized void delete(final String key, final long modRevision) {
+        if (modRevision < getLastModRevision(key)) {
+            return;
+        }
+        values.remove(key);
+        deletedRevisions.put(key, modRevision);
+    }
+    
+    /**
+     * Delete all values whose key starts with the key prefix.
+     *
+     * @param keyPrefix key prefix
+     * @param modRevision revision of the deletion
+     */
+    synchronized void deleteWithPrefix(final String keyPrefix, final long modRevision) {
+        delete(keyPrefix, modRevision);
+        for (String each : new ArrayList<>(values.subMap(keyPrefix, false, keyPrefix + MAX_CHAR, false).keySet())) {
+            delete(each, modRevision);
+        }
+    }
+    
+    /**
+     * Mark all watch events until the revision are applied.
+     *
+     * @param watchedRevision revision of the last applied watch event
+     */
+    synchronized void advance(final long watchedRevision) {
+        revision = Math.max(revision, watchedRevision);
+        deletedRevisions.values().removeIf(each -> each <= watchedRevision);
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param key key
+     * @return value, null if absent
+     */
+    ByteSequence get(final String key) {
+        CachedValue result = values.get(key);
+        return null == result ? null : result.value;
+    }
+    
+    /**
+     * Judge whether the key is existed.
+     *
+     * @param key key
+     * @return existed or not
+     */
+    boolean isExisted(final String key) {
+        return values.containsKey(key);
+    }
+    
+    /**
+     * Get children keys, sorted in descending order.
+     *
+     * @param key parent key
+     * @return children keys
+     */
+    List<String> getChildrenKeys(final String key) {
+        String childPrefix = key.endsWith("/") ? key : key + "/";
+        List<String> result = new ArrayList<>();
+        for (String each : values.subMap(childPrefix, false, childPrefix + MAX_CHAR, false).keySet()) {
+            String relativeKey = each.substring(childPrefix.length());
+            if (!relativeKey.contains("/")) {
+                result.add(relativeKey);
+            }
+        }
+        result.sort(Comparator.reverseOrder());
+        return result;
+    }
+    
+    /**
+     * Get data of the leaf node under every child.
+     *
+     * @param key parent key
+     * @param leafName leaf node name
+     * @return map of child name and leaf data
+     */
+    Map<String, String> getChildrenData(final String key, final String leafName) {
+        String childPrefix = key.endsWith("/") ? key : key + "/";
+        String suffix = "/" + leafName;
+        Map<String, String> result = new HashMap<>();
+        for (Entry<String, CachedValue> entry : values.subMap(childPrefix, false, childPrefix + MAX_CHAR, false).entrySet()) {
+            String relativeKey = entry.getKey().substring(childPrefix.length());
+            if (relativeKey.length() > suffix.length() && relativeKey.endsWith(suffix) && relativeKey.indexOf('/') == relativeKey.length() - suffix.length()) {
+                result.put(relativeKey.substring(0, relativeKey.length() - suffix.length()), entry.getValue().value.toString(StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
+    private long getLastModRevision(final String key) {
+        CachedValue cachedValue = values.get(key);
+        if (null != cachedValue) {
+            return cachedValue.modRevision;
+        }
+        Long deletedRevision = deletedRevisions.get(key);
+        return null == deletedRevision ? 0L : deletedRevision;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CachedValue {
+        
+        private final ByteSequence value;
+        
+        private final long modRevision;
+    }
+}
@@ -51,6 +51,15 @@ public final class EtcdConfiguration {
      */
     private long connectionTimeoutMilliseconds = 5000;
     
+    /**
+     * Session timeout milliseconds.
+     *
+     * <p>
+     * TTL of the session lease which all ephemeral keys are attached to.
+     * </p>
+     */
+    private long sessionTimeoutMilliseconds = 30000;
+    
     /**
      * Username for authentication.
      */
@@ -70,4 +79,14 @@ public final class EtcdConfiguration {
      * Authority header for HTTP/2.
      */
     private String authority;
+    
+    /**
+     * Max operations in one transaction.
+     *
+     * <p>
+     * Should not exceed the {@code --max-txn-ops} of etcd server,
+     * larger transactions are split into chunks of this size.
+     * </p>
+     */
+    private int maxTxnOperations = 128;
 }
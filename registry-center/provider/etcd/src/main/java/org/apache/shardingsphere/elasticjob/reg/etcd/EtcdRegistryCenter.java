@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.elasticjob.reg.etcd;
 
 import com.google.common.base.Strings;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.etcd.jetcd.ByteSequence;
 import io.etcd.jetcd.Client;
 import io.etcd.jetcd.ClientBuilder;
@@ -27,17 +28,28 @@ import io.etcd.jetcd.Lease;
 import io.etcd.jetcd.Lock;
 import io.etcd.jetcd.Watch;
 import io.etcd.jetcd.Watch.Watcher;
+import io.etcd.jetcd.common.exception.CompactedException;
+import io.etcd.jetcd.kv.DeleteResponse;
 import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.kv.PutResponse;
+import io.etcd.jetcd.kv.TxnResponse;
 import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.lease.LeaseKeepAliveResponse;
 import io.etcd.jetcd.lock.LockResponse;
+import io.etcd.jetcd.op.Cmp;
+import io.etcd.jetcd.op.CmpTarget;
+import io.etcd.jetcd.op.Op;
 import io.etcd.jetcd.options.DeleteOption;
 import io.etcd.jetcd.options.GetOption;
 import io.etcd.jetcd.options.PutOption;
 import io.etcd.jetcd.options.WatchOption;
+import io.etcd.jetcd.support.CloseableClient;
 import io.etcd.jetcd.watch.WatchEvent;
 import io.etcd.jetcd.watch.WatchResponse;
+import io.grpc.stub.StreamObserver;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
 import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
@@ -45,6 +57,7 @@ import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOper
 import org.apache.shardingsphere.elasticjob.reg.exception.RegException;
 import org.apache.shardingsphere.elasticjob.reg.exception.RegExceptionHandler;
 import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
+import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener.State;
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
@@ -54,10 +67,14 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -69,14 +86,18 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     @Getter(AccessLevel.PROTECTED)
     private final EtcdConfiguration etcdConfig;
     
-    private final Map<String, ByteSequence> cache = new ConcurrentHashMap<>();
+    private final Map<String, EtcdCache> caches = new ConcurrentHashMap<>();
+    
+    private final Map<String, Watcher> cacheWatchers = new ConcurrentHashMap<>();
+    
+    private final AtomicLong cacheHitCount = new AtomicLong();
+    
+    private final AtomicLong cacheMissCount = new AtomicLong();
     
     private final Map<String, List<Watcher>> watches = new ConcurrentHashMap<>();
     
     private final Map<String, List<ConnectionStateChangedEventListener>> connStateListeners = new ConcurrentHashMap<>();
     
-    private final Map<Long, Long> leaseIdMap = new ConcurrentHashMap<>();
-    
     private final AtomicLong sequenceCounter = new AtomicLong(0);
     
     @Getter
@@ -88,6 +109,14 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     
     private Lock lockClient;
     
+    private volatile long sessionLeaseId;
+    
+    private CloseableClient sessionKeepAlive;
+    
+    private ScheduledExecutorService sessionExecutor;
+    
+    private volatile boolean closed;
+    
     public EtcdRegistryCenter(final EtcdConfiguration etcdConfig) {
         this.etcdConfig = etcdConfig;
     }
@@ -110,6 +139,7 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
             kvClient = client.getKVClient();
             leaseClient = client.getLeaseClient();
             lockClient = client.getLockClient();
+            sessionExecutor = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("etcd-session-" + etcdConfig.getNamespace() + "-%d").build());
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -119,17 +149,10 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     
     @Override
     public void close() {
-        for (Long leaseId : leaseIdMap.values()) {
-            try {
-                leaseClient.revoke(leaseId).get();
-                // CHECKSTYLE:OFF
-            } catch (final Exception ex) {
-                // CHECKSTYLE:ON
-                log.warn("Failed to revoke lease: {}", leaseId, ex);
-            }
-        }
-        leaseIdMap.clear();
-        cache.clear();
+        closeSession();
+        cacheWatchers.values().forEach(Watcher::close);
+        cacheWatchers.clear();
+        caches.clear();
         for (List<Watcher> watchList : watches.values()) {
             watchList.forEach(Watcher::close);
         }
@@ -141,11 +164,12 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     
     @Override
     public String get(final String key) {
-        ByteSequence cachedValue = cache.get(key);
-        if (cachedValue != null) {
-            return cachedValue.toString(StandardCharsets.UTF_8);
+        EtcdCache cache = findCacheForRead(key);
+        if (null == cache) {
+            return getDirectly(key);
         }
-        return getDirectly(key);
+        ByteSequence cachedValue = cache.get(key);
+        return null == cachedValue ? null : cachedValue.toString(StandardCharsets.UTF_8);
     }
     
     @Override
@@ -166,8 +190,12 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     
     @Override
     public List<String> getChildrenKeys(final String key) {
+        String prefix = key.endsWith("/") ? key : key + "/";
+        EtcdCache cache = findCacheForRead(prefix);
+        if (null != cache) {
+            return cache.getChildrenKeys(prefix);
+        }
         try {
-            String prefix = key.endsWith("/") ? key : key + "/";
             GetOption option = GetOption.newBuilder()
                     .withPrefix(toByteSequence(prefix))
                     .withSortField(GetOption.SortTarget.KEY)
@@ -192,6 +220,32 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
         }
     }
     
+    @Override
+    public Map<String, String> getChildrenData(final String key, final String leafName) {
+        String prefix = key.endsWith("/") ? key : key + "/";
+        EtcdCache cache = findCacheForRead(prefix);
+        if (null != cache) {
+            return cache.getChildrenData(prefix, leafName);
+        }
+        try {
+            String suffix = "/" + leafName;
+            GetResponse response = kvClient.get(toByteSequence(prefix), GetOption.newBuilder().withPrefix(toByteSequence(prefix)).build()).get();
+            Map<String, String> result = new HashMap<>();
+            for (KeyValue kv : response.getKvs()) {
+                String relativeKey = kv.getKey().toString(StandardCharsets.UTF_8).substring(prefix.length());
+                if (relativeKey.length() > suffix.length() && relativeKey.endsWith(suffix) && relativeKey.indexOf('/') == relativeKey.length() - suffix.length()) {
+                    result.put(relativeKey.substring(0, relativeKey.length() - suffix.length()), kv.getValue().toString(StandardCharsets.UTF_8));
+                }
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+            return Collections.emptyMap();
+        }
+    }
+    
     @Override
     public int getNumChildren(final String key) {
         return getChildrenKeys(key).size();
@@ -199,6 +253,10 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     
     @Override
     public boolean isExisted(final String key) {
+        EtcdCache cache = findCacheForRead(key);
+        if (null != cache) {
+            return cache.isExisted(key);
+        }
         try {
             GetResponse response = kvClient.get(toByteSequence(key)).get();
             return !response.getKvs().isEmpty();
@@ -213,7 +271,7 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     @Override
     public void persist(final String key, final String value) {
         try {
-            kvClient.put(toByteSequence(key), toByteSequence(value)).get();
+            putAndCache(key, toByteSequence(value), PutOption.DEFAULT);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -224,7 +282,7 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     @Override
     public void update(final String key, final String value) {
         try {
-            kvClient.put(toByteSequence(key), toByteSequence(value)).get();
+            putAndCache(key, toByteSequence(value), PutOption.DEFAULT);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -235,8 +293,7 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     @Override
     public void persistEphemeral(final String key, final String value) {
         try {
-            long leaseId = createLease(30);
-            kvClient.put(toByteSequence(key), toByteSequence(value), PutOption.newBuilder().withLeaseId(leaseId).build()).get();
+            putAndCache(key, toByteSequence(value), PutOption.newBuilder().withLeaseId(getSessionLeaseId()).build());
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -244,12 +301,17 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
         }
     }
     
+    @Override
+    public void updateEphemeral(final String key, final String value) {
+        persistEphemeral(key, value);
+    }
+    
     @Override
     public String persistSequential(final String key, final String value) {
         try {
             long seq = sequenceCounter.incrementAndGet();
             String sequentialKey = key + String.format("%010d", seq);
-            kvClient.put(toByteSequence(sequentialKey), toByteSequence(value)).get();
+            putAndCache(sequentialKey, toByteSequence(value), PutOption.DEFAULT);
             return sequentialKey;
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -262,10 +324,9 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     @Override
     public void persistEphemeralSequential(final String key) {
         try {
-            long leaseId = createLease(30);
             long seq = sequenceCounter.incrementAndGet();
             String sequentialKey = key + String.format("%010d", seq);
-            kvClient.put(toByteSequence(sequentialKey), toByteSequence(""), PutOption.newBuilder().withLeaseId(leaseId).build()).get();
+            putAndCache(sequentialKey, toByteSequence(""), PutOption.newBuilder().withLeaseId(getSessionLeaseId()).build());
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -276,7 +337,11 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     @Override
     public void remove(final String key) {
         try {
-            kvClient.delete(toByteSequence(key), DeleteOption.newBuilder().withPrefix(toByteSequence(key)).build()).get();
+            DeleteResponse response = kvClient.delete(toByteSequence(key), DeleteOption.newBuilder().withPrefix(toByteSequence(key)).build()).get();
+            EtcdCache cache = findCache(key);
+            if (null != cache) {
+                cache.deleteWithPrefix(key, response.getHeader().getRevision());
+            }
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -309,7 +374,7 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     public void executeInLeader(final String key, final LeaderExecutionCallback callback) {
         try {
             ByteSequence lockKey = toByteSequence(key);
-            LockResponse lockResponse = lockClient.lock(lockKey, 30).get();
+            LockResponse lockResponse = lockClient.lock(lockKey, getSessionLeaseId()).get();
             try {
                 callback.execute();
             } finally {
@@ -324,39 +389,89 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
     
     @Override
     public void executeInTransaction(final List<TransactionOperation> transactionOperations) throws Exception {
-        for (TransactionOperation operation : transactionOperations) {
-            switch (operation.getType()) {
-                case CHECK_EXISTS:
-                    if (!isExisted(operation.getKey())) {
-                        throw new RegException(new IllegalStateException("Key does not exist: " + operation.getKey()));
-                    }
-                    break;
-                case ADD:
-                    persist(operation.getKey(), operation.getValue());
-                    break;
-                case UPDATE:
-                    update(operation.getKey(), operation.getValue());
-                    break;
-                case DELETE:
-                    remove(operation.getKey());
-                    break;
-                default:
-                    throw new UnsupportedOperationException(operation.toString());
+        List<Cmp> comparisons = new ArrayList<>();
+        List<TransactionOperation> writeOperations = new ArrayList<>(transactionOperations.size());
+        for (TransactionOperation each : transactionOperations) {
+            if (TransactionOperation.Type.CHECK_EXISTS == each.getType()) {
+                comparisons.add(new Cmp(toByteSequence(each.getKey()), Cmp.Op.GREATER, CmpTarget.createRevision(0L)));
+            } else {
+                writeOperations.add(each);
+            }
+        }
+        if (writeOperations.isEmpty()) {
+            commitTransaction(comparisons.toArray(new Cmp[0]), new Op[0]);
+            return;
+        }
+        int chunkSize = Math.max(1, etcdConfig.getMaxTxnOperations() - comparisons.size());
+        for (int i = 0; i < writeOperations.size(); i += chunkSize) {
+            List<TransactionOperation> chunk = writeOperations.subList(i, Math.min(i + chunkSize, writeOperations.size()));
+            List<Cmp> conditions = new ArrayList<>(comparisons);
+            List<Op> operations = new ArrayList<>(chunk.size());
+            for (TransactionOperation each : chunk) {
+                addCondition(each, conditions);
+                operations.add(toOp(each));
+            }
+            long revision = commitTransaction(conditions.toArray(new Cmp[0]), operations.toArray(new Op[0]));
+            applyToCache(chunk, revision);
+        }
+    }
+    
+    private void addCondition(final TransactionOperation operation, final List<Cmp> conditions) {
+        switch (operation.getType()) {
+            case ADD:
+            case ADD_EPHEMERAL:
+                conditions.add(new Cmp(toByteSequence(operation.getKey()), Cmp.Op.EQUAL, CmpTarget.createRevision(0L)));
+                break;
+            case UPDATE:
+                conditions.add(new Cmp(toByteSequence(operation.getKey()), Cmp.Op.GREATER, CmpTarget.createRevision(0L)));
+                break;
+            default:
+                break;
+        }
+    }
+    
+    private Op toOp(final TransactionOperation operation) {
+        switch (operation.getType()) {
+            case ADD:
+            case UPDATE:
+                return Op.put(toByteSequence(operation.getKey()), toByteSequence(operation.getValue()), PutOption.DEFAULT);
+            case ADD_EPHEMERAL:
+                return Op.put(toByteSequence(operation.getKey()), toByteSequence(operation.getValue()), PutOption.newBuilder().withLeaseId(getSessionLeaseId()).build());
+            case DELETE:
+                return Op.delete(toByteSequence(operation.getKey()), DeleteOption.newBuilder().withPrefix(toByteSequence(operation.getKey())).build());
+            default:
+                throw new UnsupportedOperationException(operation.toString());
+        }
+    }
+    
+    private long commitTransaction(final Cmp[] conditions, final Op[] operations) throws Exception {
+        TxnResponse response = kvClient.txn().If(conditions).Then(operations).commit().get();
+        if (!response.isSucceeded()) {
+            throw new RegException(new IllegalStateException("Transaction conditions are not satisfied."));
+        }
+        return response.getHeader().getRevision();
+    }
+    
+    private void applyToCache(final List<TransactionOperation> committedOperations, final long revision) {
+        for (TransactionOperation each : committedOperations) {
+            EtcdCache cache = findCache(each.getKey());
+            if (null == cache) {
+                continue;
+            }
+            if (TransactionOperation.Type.DELETE == each.getType()) {
+                cache.deleteWithPrefix(each.getKey(), revision);
+            } else {
+                cache.put(each.getKey(), toByteSequence(each.getValue()), revision);
             }
         }
     }
     
     @Override
     public void addCacheData(final String cachePath) {
+        EtcdCache cache = new EtcdCache(cachePath.endsWith("/") ? cachePath : cachePath + "/");
         try {
-            String prefix = cachePath.endsWith("/") ? cachePath : cachePath + "/";
-            GetOption option = GetOption.newBuilder()
-                    .withPrefix(toByteSequence(prefix))
-                    .build();
-            GetResponse response = kvClient.get(toByteSequence(prefix), option).get();
-            for (KeyValue kv : response.getKvs()) {
-                cache.put(kv.getKey().toString(StandardCharsets.UTF_8), kv.getValue());
-            }
+            loadCache(cachePath, cache);
+            caches.put(cachePath, cache);
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
             // CHECKSTYLE:ON
@@ -364,15 +479,51 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
         }
     }
     
+    private void loadCache(final String cachePath, final EtcdCache cache) throws Exception {
+        ByteSequence prefix = toByteSequence(cache.getPrefix());
+        GetResponse response = kvClient.get(prefix, GetOption.newBuilder().withPrefix(prefix).build()).get();
+        Map<String, ByteSequence> loadedValues = new HashMap<>(response.getKvs().size(), 1F);
+        for (KeyValue kv : response.getKvs()) {
+            loadedValues.put(kv.getKey().toString(StandardCharsets.UTF_8), kv.getValue());
+        }
+        cache.load(loadedValues, response.getHeader().getRevision());
+        WatchOption option = WatchOption.newBuilder().withPrefix(prefix).withRevision(cache.getRevision() + 1).build();
+        Watcher previousWatcher = cacheWatchers.put(cachePath, client.getWatchClient().watch(prefix, option, new EtcdCacheWatchListener(cachePath, cache)));
+        if (null != previousWatcher) {
+            previousWatcher.close();
+        }
+    }
+    
     @Override
     public void evictCacheData(final String cachePath) {
-        String prefix = cachePath.endsWith("/") ? cachePath : cachePath + "/";
-        cache.entrySet().removeIf(entry -> entry.getKey().startsWith(prefix));
+        caches.remove(cachePath);
+        Watcher watcher = cacheWatchers.remove(cachePath);
+        if (null != watcher) {
+            watcher.close();
+        }
     }
     
     @Override
     public Object getRawCache(final String cachePath) {
-        return cache;
+        return caches.get(cachePath);
+    }
+    
+    /**
+     * Get count of reads served by local cache.
+     *
+     * @return count of cache hits
+     */
+    public long getCacheHitCount() {
+        return cacheHitCount.get();
+    }
+    
+    /**
+     * Get count of reads sent to etcd server.
+     *
+     * @return count of cache misses
+     */
+    public long getCacheMissCount() {
+        return cacheMissCount.get();
     }
     
     @Override
@@ -404,11 +555,50 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
         connStateListeners.remove(key);
     }
     
-    private long createLease(final long ttlSeconds) {
+    private void putAndCache(final String key, final ByteSequence value, final PutOption option) throws Exception {
+        PutResponse response = kvClient.put(toByteSequence(key), value, option).get();
+        EtcdCache cache = findCache(key);
+        if (null != cache) {
+            cache.put(key, value, response.getHeader().getRevision());
+        }
+    }
+    
+    private EtcdCache findCache(final String key) {
+        for (EtcdCache each : caches.values()) {
+            if (each.covers(key)) {
+                return each;
+            }
+        }
+        return null;
+    }
+    
+    private EtcdCache findCacheForRead(final String key) {
+        EtcdCache result = findCache(key);
+        if (null == result) {
+            cacheMissCount.incrementAndGet();
+        } else {
+            cacheHitCount.incrementAndGet();
+        }
+        return result;
+    }
+    
+    private long getSessionLeaseId() {
+        long result = sessionLeaseId;
+        return 0L == result ? startSession() : result;
+    }
+    
+    private synchronized long startSession() {
+        if (0L != sessionLeaseId) {
+            return sessionLeaseId;
+        }
+        if (closed) {
+            throw new RegException(new IllegalStateException("Registry center is closed."));
+        }
         try {
-            LeaseGrantResponse response = leaseClient.grant(ttlSeconds).get();
+            LeaseGrantResponse response = leaseClient.grant(Math.max(1L, etcdConfig.getSessionTimeoutMilliseconds() / 1000L)).get();
             long leaseId = response.getID();
-            leaseIdMap.put(leaseId, leaseId);
+            sessionKeepAlive = leaseClient.keepAlive(leaseId, new SessionKeepAliveObserver(leaseId));
+            sessionLeaseId = leaseId;
             return leaseId;
             // CHECKSTYLE:OFF
         } catch (final Exception ex) {
@@ -417,6 +607,64 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
         }
     }
     
+    private synchronized void onSessionLost(final long leaseId) {
+        if (closed || leaseId != sessionLeaseId) {
+            return;
+        }
+        log.warn("Elastic job: etcd session lease {} is lost.", leaseId);
+        sessionLeaseId = 0L;
+        sessionKeepAlive.close();
+        sessionKeepAlive = null;
+        sessionExecutor.execute(() -> {
+            fireConnectionStateChanged(State.UNAVAILABLE);
+            reconnectSession();
+        });
+    }
+    
+    private void reconnectSession() {
+        if (closed) {
+            return;
+        }
+        try {
+            startSession();
+        } catch (final RegException ex) {
+            log.warn("Elastic job: failed to renew etcd session, retry later.", ex);
+            sessionExecutor.schedule(this::reconnectSession, 1L, TimeUnit.SECONDS);
+            return;
+        }
+        fireConnectionStateChanged(State.RECONNECTED);
+    }
+    
+    private void fireConnectionStateChanged(final State state) {
+        for (List<ConnectionStateChangedEventListener> each : connStateListeners.values()) {
+            for (ConnectionStateChangedEventListener listener : each) {
+                listener.onStateChanged(this, state);
+            }
+        }
+    }
+    
+    private synchronized void closeSession() {
+        closed = true;
+        if (null != sessionExecutor) {
+            sessionExecutor.shutdownNow();
+        }
+        if (null != sessionKeepAlive) {
+            sessionKeepAlive.close();
+            sessionKeepAlive = null;
+        }
+        if (0L == sessionLeaseId) {
+            return;
+        }
+        try {
+            leaseClient.revoke(sessionLeaseId).get();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            log.warn("Failed to revoke lease: {}", sessionLeaseId, ex);
+        }
+        sessionLeaseId = 0L;
+    }
+    
     private ByteSequence toByteSequence(final String value) {
         return ByteSequence.from(value, StandardCharsets.UTF_8);
     }
@@ -478,4 +726,78 @@ public final class EtcdRegistryCenter implements CoordinatorRegistryCenter {
             log.debug("Watch completed for key: {}", key);
         }
     }
+    
+    @RequiredArgsConstructor
+    private class SessionKeepAliveObserver implements StreamObserver<LeaseKeepAliveResponse> {
+        
+        private final long leaseId;
+        
+        @Override
+        public void onNext(final LeaseKeepAliveResponse response) {
+            if (response.getTTL() <= 0L) {
+                onSessionLost(leaseId);
+            }
+        }
+        
+        @Override
+        public void onError(final Throwable throwable) {
+            log.warn("Keep alive error for session lease: {}", leaseId, throwable);
+            onSessionLost(leaseId);
+        }
+        
+        @Override
+        public void onCompleted() {
+            onSessionLost(leaseId);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private class EtcdCacheWatchListener implements Watch.Listener {
+        
+        private final String cachePath;
+        
+        private final EtcdCache cache;
+        
+        @Override
+        public void onNext(final WatchResponse response) {
+            long watchedRevision = response.getHeader().getRevision();
+            for (WatchEvent event : response.getEvents()) {
+                String eventKey = event.getKeyValue().getKey().toString(StandardCharsets.UTF_8);
+                long modRevision = event.getKeyValue().getModRevision();
+                if (WatchEvent.EventType.PUT == event.getEventType()) {
+                    cache.put(eventKey, event.getKeyValue().getValue(), modRevision);
+                } else if (WatchEvent.EventType.DELETE == event.getEventType()) {
+                    cache.delete(eventKey, modRevision);
+                }
+                watchedRevision = Math.max(watchedRevision, modRevision);
+            }
+            cache.advance(watchedRevision);
+        }
+        
+        @Override
+        public void onError(final Throwable throwable) {
+            if (cache != caches.get(cachePath)) {
+                log.debug("Cache watch of path {} stopped after cache evicted.", cachePath, throwable);
+                return;
+            }
+            if (throwable instanceof CompactedException) {
+                log.warn("Cache watch revision of path {} is compacted, reload cache.", cachePath);
+            } else {
+                log.warn("Cache watch error for path: {}, reload cache.", cachePath, throwable);
+            }
+            try {
+                loadCache(cachePath, cache);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.error("Failed to reload cache for path: {}, evict cache and read from etcd directly.", cachePath, ex);
+                evictCacheData(cachePath);
+            }
+        }
+        
+        @Override
+        public void onCompleted() {
+            log.debug("Cache watch completed for path: {}", cachePath);
+        }
+    }
 }
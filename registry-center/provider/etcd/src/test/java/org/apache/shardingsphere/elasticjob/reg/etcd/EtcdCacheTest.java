@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.etcd;
+
+import io.etcd.jetcd.ByteSequence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EtcdCacheTest {
+    
+    private EtcdCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new EtcdCache("/test_job/");
+        Map<String, ByteSequence> loadedValues = new HashMap<>();
+        loadedValues.put("/test_job/config", toByteSequence("config"));
+        loadedValues.put("/test_job/sharding/0/instance", toByteSequence("host0@-@0"));
+        loadedValues.put("/test_job/sharding/1/instance", toByteSequence("host0@-@1"));
+        loadedValues.put("/test_job/sharding/1/running", toByteSequence(""));
+        cache.load(loadedValues, 10L);
+    }
+    
+    @Test
+    void assertCovers() {
+        assertTrue(cache.covers("/test_job/config"));
+        assertFalse(cache.covers("/test_job"));
+        assertFalse(cache.covers("/other_job/config"));
+    }
+    
+    @Test
+    void assertLoad() {
+        assertThat(cache.getRevision(), is(10L));
+        assertThat(cache.get("/test_job/config"), is(toByteSequence("config")));
+        assertTrue(cache.isExisted("/test_job/sharding/1/running"));
+        assertFalse(cache.isExisted("/test_job/sharding/0/running"));
+        assertThat(cache.get("/test_job/sharding/0/running"), is(nullValue()));
+    }
+    
+    @Test
+    void assertGetChildrenKeys() {
+        assertThat(cache.getChildrenKeys("/test_job"), is(Collections.singletonList("config")));
+        assertThat(cache.getChildrenKeys("/test_job/sharding/1"), is(Arrays.asList("running", "instance")));
+        assertThat(cache.getChildrenKeys("/test_job/sharding/0"), is(Collections.singletonList("instance")));
+        assertThat(cache.getChildrenKeys("/test_job/servers"), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertGetChildrenData() {
+        Map<String, String> expected = new HashMap<>(2, 1F);
+        expected.put("0", "host0@-@0");
+        expected.put("1", "host0@-@1");
+        assertThat(cache.getChildrenData("/test_job/sharding", "instance"), is(expected));
+        assertThat(cache.getChildrenData("/test_job/sharding", "running"), is(Collections.singletonMap("1", "")));
+    }
+    
+    @Test
+    void assertPut() {
+        cache.put("/test_job/sharding/0/running", toByteSequence(""), 11L);
+        assertTrue(cache.isExisted("/test_job/sharding/0/running"));
+    }
+    
+    @Test
+    void assertPutWithStaleRevision() {
+        cache.put("/test_job/config", toByteSequence("new_config"), 12L);
+        cache.put("/test_job/config", toByteSequence("old_config"), 11L);
+        assertThat(cache.get("/test_job/config"), is(toByteSequence("new_config")));
+    }
+    
+    @Test
+    void assertDelete() {
+        cache.delete("/test_job/sharding/1/running", 11L);
+        assertFalse(cache.isExisted("/test_job/sharding/1/running"));
+    }
+    
+    @Test
+    void assertPutAfterDeleteWithStaleRevision() {
+        cache.delete("/test_job/sharding/1/running", 12L);
+        cache.put("/test_job/sharding/1/running", toByteSequence(""), 11L);
+        assertFalse(cache.isExisted("/test_job/sharding/1/running"));
+    }
+    
+    @Test
+    void assertDeleteWithPrefix() {
+        cache.deleteWithPrefix("/test_job/sharding", 11L);
+        assertThat(cache.getChildrenData("/test_job/sharding", "instance"), is(Collections.emptyMap()));
+        assertTrue(cache.isExisted("/test_job/config"));
+    }
+    
+    @Test
+    void assertAdvance() {
+        cache.delete("/test_job/sharding/1/running", 12L);
+        cache.advance(12L);
+        assertThat(cache.getRevision(), is(12L));
+        cache.put("/test_job/sharding/1/running", toByteSequence(""), 11L);
+        assertTrue(cache.isExisted("/test_job/sharding/1/running"));
+    }
+    
+    private ByteSequence toByteSequence(final String value) {
+        return ByteSequence.from(value, StandardCharsets.UTF_8);
+    }
+}
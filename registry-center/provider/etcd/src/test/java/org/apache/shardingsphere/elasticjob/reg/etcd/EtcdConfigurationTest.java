@@ -33,9 +33,11 @@ class EtcdConfigurationTest {
         assertThat(etcdConfig.getServerLists(), is("http://localhost:" + randomPort));
         assertThat(etcdConfig.getNamespace(), is("myNamespace"));
         assertThat(etcdConfig.getConnectionTimeoutMilliseconds(), is(5000L));
+        assertThat(etcdConfig.getSessionTimeoutMilliseconds(), is(30000L));
         assertThat(etcdConfig.getUsername(), is(nullValue()));
         assertThat(etcdConfig.getPassword(), is(nullValue()));
         assertThat(etcdConfig.getAuthority(), is(nullValue()));
+        assertThat(etcdConfig.getMaxTxnOperations(), is(128));
     }
     
     @Test
@@ -60,4 +62,11 @@ class EtcdConfigurationTest {
         etcdConfig.setAuthority("localhost:2379");
         assertThat(etcdConfig.getAuthority(), is("localhost:2379"));
     }
+    
+    @Test
+    void assertSetMaxTxnOperations() {
+        EtcdConfiguration etcdConfig = new EtcdConfiguration("http://localhost:" + InstanceSpec.getRandomPort(), "myNamespace");
+        etcdConfig.setMaxTxnOperations(256);
+        assertThat(etcdConfig.getMaxTxnOperations(), is(256));
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.etcd;
+
+import io.etcd.jetcd.ByteSequence;
+import io.etcd.jetcd.Client;
+import io.etcd.jetcd.KV;
+import io.etcd.jetcd.Watch;
+import io.etcd.jetcd.Watch.Watcher;
+import io.etcd.jetcd.common.exception.ErrorCode;
+import io.etcd.jetcd.common.exception.EtcdExceptionFactory;
+import io.etcd.jetcd.kv.GetResponse;
+import io.etcd.jetcd.options.GetOption;
+import io.etcd.jetcd.options.WatchOption;
+import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EtcdRegistryCenterCacheTest {
+    
+    @Mock
+    private Client client;
+    
+    @Mock
+    private KV kvClient;
+    
+    @Mock
+    private Watch watchClient;
+    
+    @Mock
+    private Watcher watcher;
+    
+    private EtcdRegistryCenter etcdRegCenter;
+    
+    @BeforeEach
+    void setUp() {
+        etcdRegCenter = new EtcdRegistryCenter(new EtcdConfiguration("http://localhost:2379", "myNamespace"));
+        ReflectionUtils.setFieldValue(etcdRegCenter, "client", client);
+        ReflectionUtils.setFieldValue(etcdRegCenter, "kvClient", kvClient);
+        when(client.getWatchClient()).thenReturn(watchClient);
+        when(watchClient.watch(any(ByteSequence.class), any(WatchOption.class), any(Watch.Listener.class))).thenReturn(watcher);
+    }
+    
+    @Test
+    void assertReloadCacheWhenWatchFailed() {
+        CompletableFuture<GetResponse> loadedResponse = createGetResponse();
+        CompletableFuture<GetResponse> reloadedResponse = createGetResponse();
+        when(kvClient.get(any(ByteSequence.class), any(GetOption.class))).thenReturn(loadedResponse, reloadedResponse);
+        etcdRegCenter.addCacheData("/test_job");
+        captureWatchListener(1).onError(EtcdExceptionFactory.newEtcdException(ErrorCode.UNAVAILABLE, "watch stream broken"));
+        verify(kvClient, times(2)).get(any(ByteSequence.class), any(GetOption.class));
+        captureWatchListener(2);
+        verify(watcher).close();
+        assertNotNull(etcdRegCenter.getRawCache("/test_job"));
+    }
+    
+    @Test
+    void assertEvictCacheWhenReloadFailedAfterWatchFailed() {
+        CompletableFuture<GetResponse> loadedResponse = createGetResponse();
+        CompletableFuture<GetResponse> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(new IllegalStateException("etcd unavailable"));
+        when(kvClient.get(any(ByteSequence.class), any(GetOption.class))).thenReturn(loadedResponse, failedResponse);
+        etcdRegCenter.addCacheData("/test_job");
+        captureWatchListener(1).onError(new IllegalStateException("watch stream broken"));
+        assertNull(etcdRegCenter.getRawCache("/test_job"));
+        verify(watcher).close();
+    }
+    
+    private CompletableFuture<GetResponse> createGetResponse() {
+        GetResponse result = mock(GetResponse.class, RETURNS_DEEP_STUBS);
+        when(result.getKvs()).thenReturn(Collections.emptyList());
+        when(result.getHeader().getRevision()).thenReturn(10L);
+        return CompletableFuture.completedFuture(result);
+    }
+    
+    private Watch.Listener captureWatchListener(final int times) {
+        ArgumentCaptor<Watch.Listener> captor = ArgumentCaptor.forClass(Watch.Listener.class);
+        verify(watchClient, times(times)).watch(any(ByteSequence.class), any(WatchOption.class), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.etcd;
+
+import io.etcd.jetcd.ByteSequence;
+import io.etcd.jetcd.KV;
+import io.etcd.jetcd.Lease;
+import io.etcd.jetcd.kv.PutResponse;
+import io.etcd.jetcd.lease.LeaseGrantResponse;
+import io.etcd.jetcd.lease.LeaseKeepAliveResponse;
+import io.etcd.jetcd.lease.LeaseRevokeResponse;
+import io.etcd.jetcd.options.PutOption;
+import io.etcd.jetcd.support.CloseableClient;
+import io.grpc.stub.StreamObserver;
+import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
+import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener.State;
+import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EtcdRegistryCenterSessionTest {
+    
+    @Mock
+    private KV kvClient;
+    
+    @Mock
+    private Lease leaseClient;
+    
+    @Mock
+    private CloseableClient keepAlive;
+    
+    @Mock
+    private ConnectionStateChangedEventListener listener;
+    
+    private final ScheduledExecutorService sessionExecutor = Executors.newSingleThreadScheduledExecutor();
+    
+    private EtcdRegistryCenter etcdRegCenter;
+    
+    @BeforeEach
+    void setUp() {
+        etcdRegCenter = new EtcdRegistryCenter(new EtcdConfiguration("http://localhost:2379", "myNamespace"));
+        ReflectionUtils.setFieldValue(etcdRegCenter, "kvClient", kvClient);
+        ReflectionUtils.setFieldValue(etcdRegCenter, "leaseClient", leaseClient);
+        ReflectionUtils.setFieldValue(etcdRegCenter, "sessionExecutor", sessionExecutor);
+        LeaseGrantResponse grantResponse = mock(LeaseGrantResponse.class);
+        when(grantResponse.getID()).thenReturn(1L, 2L);
+        when(leaseClient.grant(30L)).thenReturn(CompletableFuture.completedFuture(grantResponse));
+        when(leaseClient.keepAlive(anyLong(), any())).thenReturn(keepAlive);
+        PutResponse putResponse = mock(PutResponse.class, RETURNS_DEEP_STUBS);
+        when(kvClient.put(any(ByteSequence.class), any(ByteSequence.class), any(PutOption.class))).thenReturn(CompletableFuture.completedFuture(putResponse));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        sessionExecutor.shutdownNow();
+    }
+    
+    @Test
+    void assertPersistEphemeralWithSharedSessionLease() {
+        etcdRegCenter.persistEphemeral("/test/ephemeral0", "value0");
+        etcdRegCenter.persistEphemeral("/test/ephemeral1", "value1");
+        verify(leaseClient).grant(30L);
+        verify(leaseClient).keepAlive(eq(1L), any());
+        verify(kvClient, times(2)).put(any(ByteSequence.class), any(ByteSequence.class), any(PutOption.class));
+    }
+    
+    @Test
+    void assertUpdateEphemeralWithSessionLease() {
+        when(leaseClient.revoke(1L)).thenReturn(CompletableFuture.completedFuture(mock(LeaseRevokeResponse.class)));
+        etcdRegCenter.updateEphemeral("/test/ephemeral", "value");
+        etcdRegCenter.update("/test/persist", "value");
+        ArgumentCaptor<PutOption> optionCaptor = ArgumentCaptor.forClass(PutOption.class);
+        verify(kvClient, times(2)).put(any(ByteSequence.class), any(ByteSequence.class), optionCaptor.capture());
+        assertThat(optionCaptor.getAllValues().get(0).getLeaseId(), is(1L));
+        assertThat(optionCaptor.getAllValues().get(1), is(PutOption.DEFAULT));
+        verify(kvClient, never()).get(any(ByteSequence.class));
+        etcdRegCenter.close();
+        verify(leaseClient).revoke(1L);
+    }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertSessionLost() {
+        etcdRegCenter.addConnectionStateChangedEventListener("/test", listener);
+        etcdRegCenter.persistEphemeral("/test/ephemeral", "value");
+        ArgumentCaptor<StreamObserver<LeaseKeepAliveResponse>> observerCaptor = ArgumentCaptor.forClass(StreamObserver.class);
+        verify(leaseClient).keepAlive(eq(1L), observerCaptor.capture());
+        observerCaptor.getValue().onError(new IllegalStateException("lease not found"));
+        Awaitility.await().atMost(5L, TimeUnit.SECONDS).untilAsserted(() -> {
+            verify(listener).onStateChanged(etcdRegCenter, State.UNAVAILABLE);
+            verify(listener).onStateChanged(etcdRegCenter, State.RECONNECTED);
+        });
+        verify(keepAlive).close();
+        verify(leaseClient).keepAlive(eq(2L), any());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.etcd;
+
+import com.google.protobuf.ByteString;
+import io.etcd.jetcd.KV;
+import io.etcd.jetcd.Txn;
+import io.etcd.jetcd.kv.TxnResponse;
+import io.etcd.jetcd.op.Cmp;
+import io.etcd.jetcd.op.CmpTarget;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.exception.RegException;
+import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EtcdRegistryCenterTransactionTest {
+    
+    @Mock
+    private KV kvClient;
+    
+    private final Txn txn = mock(Txn.class, RETURNS_SELF);
+    
+    private final TxnResponse txnResponse = mock(TxnResponse.class, RETURNS_DEEP_STUBS);
+    
+    private EtcdRegistryCenter etcdRegCenter;
+    
+    @BeforeEach
+    void setUp() {
+        etcdRegCenter = new EtcdRegistryCenter(new EtcdConfiguration("http://localhost:2379", "myNamespace"));
+        ReflectionUtils.setFieldValue(etcdRegCenter, "kvClient", kvClient);
+        when(kvClient.txn()).thenReturn(txn);
+        when(txn.commit()).thenReturn(CompletableFuture.completedFuture(txnResponse));
+    }
+    
+    @Test
+    void assertExecuteInTransactionWithAddRequiresAbsentKey() throws Exception {
+        when(txnResponse.isSucceeded()).thenReturn(true);
+        etcdRegCenter.executeInTransaction(Arrays.asList(TransactionOperation.opCheckExists("/test"), TransactionOperation.opAdd("/test/foo", "foo")));
+        List<Cmp> actual = captureConditions();
+        assertThat(actual.size(), is(2));
+        assertCondition(actual.get(0), "/test", Cmp.Op.GREATER);
+        assertCondition(actual.get(1), "/test/foo", Cmp.Op.EQUAL);
+    }
+    
+    @Test
+    void assertExecuteInTransactionWithUpdateRequiresExistedKey() throws Exception {
+        when(txnResponse.isSucceeded()).thenReturn(true);
+        etcdRegCenter.executeInTransaction(Collections.singletonList(TransactionOperation.opUpdate("/test/foo", "foo")));
+        List<Cmp> actual = captureConditions();
+        assertThat(actual.size(), is(1));
+        assertCondition(actual.get(0), "/test/foo", Cmp.Op.GREATER);
+    }
+    
+    @Test
+    void assertExecuteInTransactionFailureWhenConditionsNotSatisfied() {
+        when(txnResponse.isSucceeded()).thenReturn(false);
+        assertThrows(RegException.class, () -> etcdRegCenter.executeInTransaction(Collections.singletonList(TransactionOperation.opAdd("/test/foo", "foo"))));
+    }
+    
+    private List<Cmp> captureConditions() {
+        ArgumentCaptor<Cmp> captor = ArgumentCaptor.forClass(Cmp.class);
+        verify(txn).If(captor.capture());
+        return captor.getAllValues();
+    }
+    
+    private void assertCondition(final Cmp actual, final String expectedKey, final Cmp.Op expectedOp) {
+        assertThat(((ByteString) ReflectionUtils.getFieldValue(actual, "key")).toStringUtf8(), is(expectedKey));
+        assertThat(ReflectionUtils.getFieldValue(actual, "op"), is(expectedOp));
+        CmpTarget<?> target = (CmpTarget<?>) ReflectionUtils.getFieldValue(actual, "target");
+        assertThat(target.getTargetValue(), is(0L));
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.listener.ConnectionStateChangedEventListener;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
+import org.apache.shardingsphere.elasticjob.reg.memory.MemoryStore.MemoryWatcher;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Memory registry center.
+ *
+ * <p>
+ * Nodes are kept in the memory of current JVM, for single node deployments and tests without registry center ensemble.
+ * Ephemeral nodes are removed when the registry center is closed, and data changed events are delivered on the supplied executor,
+ * or on the event thread of the registry center if no executor supplied.
+ * </p>
+ */
+public final class MemoryRegistryCenter implements CoordinatorRegistryCenter {
+    
+    static final String CONNECT_STRING_PREFIX = "memory://";
+    
+    @Getter
+    private final MemoryConfiguration memoryConfig;
+    
+    private final String rootPath;
+    
+    private final Map<String, List<MemoryWatcher>> dataListeners = new ConcurrentHashMap<>();
+    
+    private MemoryStore store;
+    
+    private ExecutorService eventExecutor;
+    
+    public MemoryRegistryCenter(final MemoryConfiguration memoryConfig) {
+        this.memoryConfig = memoryConfig;
+        rootPath = "/" + memoryConfig.getNamespace();
+    }
+    
+    @Override
+    public void init() {
+        store = MemoryStore.getInstance(memoryConfig.getName());
+        eventExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setDaemon(true).setNameFormat("memory-registry-center-" + memoryConfig.getNamespace() + "-%d").build());
+        if (!store.isExisted(rootPath)) {
+            store.put(rootPath, "", null);
+        }
+    }
+    
+    @Override
+    public void close() {
+        dataListeners.values().forEach(store::removeWatchers);
+        dataListeners.clear();
+        store.removeEphemerals(this);
+        eventExecutor.shutdown();
+    }
+    
+    @Override
+    public String get(final String key) {
+        return getDirectly(key);
+    }
+    
+    @Override
+    public String getDirectly(final String key) {
+        return store.get(getFullPath(key));
+    }
+    
+    @Override
+    public List<String> getChildrenKeys(final String key) {
+        return store.getChildren(getFullPath(key));
+    }
+    
+    @Override
+    public Map<String, String> getChildrenData(final String key, final String leafName) {
+        Map<String, String> result = new HashMap<>();
+        for (String each : getChildrenKeys(key)) {
+            String data = getDirectly(key + "/" + each + "/" + leafName);
+            if (null != data) {
+                result.put(each, data);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public int getNumChildren(final String key) {
+        return getChildrenKeys(key).size();
+    }
+    
+    @Override
+    public boolean isExisted(final String key) {
+        return store.isExisted(getFullPath(key));
+    }
+    
+    @Override
+    public void persist(final String key, final String value) {
+        store.put(getFullPath(key), value, null);
+    }
+    
+    @Override
+    public void update(final String key, final String value) {
+        store.update(getFullPath(key), value);
+    }
+    
+    @Override
+    public void persistEphemeral(final String key, final String value) {
+        store.putEphemeral(getFullPath(key), value, this);
+    }
+    
+    @Override
+    public String persistSequential(final String key, final String value) {
+        return store.putSequential(getFullPath(key), value, null).substring(rootPath.length());
+    }
+    
+    @Override
+    public void persistEphemeralSequential(final String key) {
+        store.putSequential(getFullPath(key), "", this);
+    }
+    
+    @Override
+    public void remove(final String key) {
+        store.remove(getFullPath(key));
+    }
+    
+    @Override
+    public long getRegistryCenterTime(final String key) {
+        persist(key, "");
+        return System.currentTimeMillis();
+    }
+    
+    @Override
+    public Object getRawClient() {
+        return store;
+    }
+    
+    @Override
+    public void addCacheData(final String cachePath) {
+    }
+    
+    @Override
+    public void evictCacheData(final String cachePath) {
+    }
+    
+    @Override
+    public Object getRawCache(final String cachePath) {
+        return null;
+    }
+    
+    @Override
+    public void executeInLeader(final String key, final LeaderExecutionCallback callback) {
+        store.executeInLeader(getFullPath(key), callback);
+    }
+    
+    @Override
+    public void watch(final String key, final DataChangedEventListener listener, final Executor executor) {
+        MemoryWatcher watcher = new MemoryWatcher(getFullPath(key), rootPath, listener, null == executor ? eventExecutor : executor);
+        dataListeners.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(watcher);
+        store.addWatcher(watcher);
+    }
+    
+    @Override
+    public void addConnectionStateChangedEventListener(final String key, final ConnectionStateChangedEventListener listener) {
+        // Memory registry center is always connected, connection state never changes.
+    }
+    
+    @Override
+    public void executeInTransaction(final List<TransactionOperation> transactionOperations) {
+        store.executeInTransaction(transactionOperations, this::getFullPath, this);
+    }
+    
+    @Override
+    public void removeDataListeners(final String key) {
+        List<MemoryWatcher> watchers = dataListeners.remove(key);
+        if (null != watchers) {
+            store.removeWatchers(watchers);
+        }
+    }
+    
+    @Override
+    public void removeConnStateListener(final String key) {
+    }
+    
+    private String getFullPath(final String key) {
+        return "/".equals(key) ? rootPath : rootPath + key;
+    }
+}
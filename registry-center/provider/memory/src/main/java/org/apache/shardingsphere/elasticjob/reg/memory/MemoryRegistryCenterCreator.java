@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.spi.RegistryCenterCreator;
+
+/**
+ * Memory registry center creator.
+ */
+public final class MemoryRegistryCenterCreator implements RegistryCenterCreator {
+    
+    @Override
+    public boolean supports(final String connectString) {
+        return connectString.startsWith(MemoryRegistryCenter.CONNECT_STRING_PREFIX);
+    }
+    
+    @Override
+    public CoordinatorRegistryCenter create(final String connectString, final String namespace, final String digest) {
+        return new MemoryRegistryCenter(new MemoryConfiguration(connectString.substring(MemoryRegistryCenter.CONNECT_STRING_PREFIX.length()), namespace));
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.elasticjob.reg.base.LeaderExecutionCallback;
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEventListener;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryNodeException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Memory store, holds nodes shared by memory registry centers with the same name.
+ *
+ * <p>
+ * Nodes are kept in a tree map of full paths. All changes are made under the lock of the store,
+ * and the data changed events are handed over to the executors of matched watchers in the order of changes.
+ * Watchers whose executors reject events are dropped, so changes already made never fail because of listeners.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
+final class MemoryStore {
+    
+    private static final Map<String, MemoryStore> STORES = new ConcurrentHashMap<>();
+    
+    private final NavigableMap<String, MemoryNode> nodes = new TreeMap<>();
+    
+    private final Map<String, Integer> sequences = new HashMap<>();
+    
+    private final Collection<MemoryWatcher> watchers = new CopyOnWriteArrayList<>();
+    
+    private final Map<String, ReentrantLock> leaderLocks = new ConcurrentHashMap<>();
+    
+    /**
+     * Get memory store.
+     *
+     * @param name name of memory store
+     * @return memory store with the name
+     */
+    static MemoryStore getInstance(final String name) {
+        return STORES.computeIfAbsent(name, key -> new MemoryStore());
+    }
+    
+    synchronized String get(final String path) {
+        MemoryNode node = nodes.get(path);
+        return null == node ? null : node.getValue();
+    }
+    
+    synchronized boolean isExisted(final String path) {
+        return isExistedWithoutLock(path);
+    }
+    
+    private boolean isExistedWithoutLock(final String path) {
+        return "/".equals(path) || nodes.containsKey(path);
+    }
+    
+    synchronized List<String> getChildren(final String path) {
+        List<String> result = new ArrayList<>();
+        for (String each : getDescendants(path).keySet()) {
+            String child = each.substring(path.length() + 1);
+            if (child.indexOf('/') < 0) {
+                result.add(child);
+            }
+        }
+        result.sort(Collections.reverseOrder());
+        return result;
+    }
+    
+    private NavigableMap<String, MemoryNode> getDescendants(final String path) {
+        return nodes.subMap(path + "/", true, path + (char) ('/' + 1), false);
+    }
+    
+    synchronized void put(final String path, final String value, final Object ephemeralOwner) {
+        Changes changes = new Changes();
+        createParents(path, changes);
+        MemoryNode node = nodes.get(path);
+        setNode(path, null == node ? new MemoryNode(value, ephemeralOwner) : new MemoryNode(value, node.getEphemeralOwner()), changes);
+        fire(changes);
+    }
+    
+    synchronized void update(final String path, final String value) {
+        MemoryNode node = nodes.get(path);
+        if (null == node) {
+            return;
+        }
+        Changes changes = new Changes();
+        setNode(path, new MemoryNode(value, node.getEphemeralOwner()), changes);
+        fire(changes);
+    }
+    
+    synchronized void putEphemeral(final String path, final String value, final Object ephemeralOwner) {
+        Changes changes = new Changes();
+        removeNodes(path, changes);
+        createParents(path, changes);
+        setNode(path, new MemoryNode(value, ephemeralOwner), changes);
+        fire(changes);
+    }
+    
+    synchronized String putSequential(final String path, final String value, final Object ephemeralOwner) {
+        String parent = path.substring(0, path.lastIndexOf('/'));
+        String result = path + String.format("%010d", sequences.merge(parent, 1, Integer::sum) - 1);
+        Changes changes = new Changes();
+        createParents(result, changes);
+        setNode(result, new MemoryNode(value, ephemeralOwner), changes);
+        fire(changes);
+        return result;
+    }
+    
+    synchronized void remove(final String path) {
+        Changes changes = new Changes();
+        removeNodes(path, changes);
+        fire(changes);
+    }
+    
+    synchronized void removeEphemerals(final Object ephemeralOwner) {
+        Changes changes = new Changes();
+        List<String> paths = new ArrayList<>();
+        for (Entry<String, MemoryNode> entry : nodes.entrySet()) {
+            if (ephemeralOwner == entry.getValue().getEphemeralOwner()) {
+                paths.add(entry.getKey());
+            }
+        }
+        paths.forEach(each -> removeNodes(each, changes));
+        fire(changes);
+    }
+    
+    /**
+     * Execute operations in transaction.
+     *
+     * <p>
+     * Like ZooKeeper, nothing is changed if any operation fails:
+     * check and update require an existing node, add requires an absent node with existing parent, delete requires an existing node without children.
+     * </p>
+     *
+     * @param transactionOperations transaction operations
+     * @param pathResolver resolve full path of key
+     * @param ephemeralOwner owner of ephemeral nodes to be added
+     * @throws MemoryNodeException node conflicts with operation
+     */
+    synchronized void executeInTransaction(final List<TransactionOperation> transactionOperations, final UnaryOperator<String> pathResolver, final Object ephemeralOwner) {
+        Changes changes = new Changes();
+        try {
+            for (TransactionOperation each : transactionOperations) {
+                execute(each, pathResolver.apply(each.getKey()), ephemeralOwner, changes);
+            }
+        } catch (final MemoryNodeException ex) {
+            rollback(changes);
+            throw ex;
+        }
+        fire(changes);
+    }
+    
+    private void execute(final TransactionOperation operation, final String path, final Object ephemeralOwner, final Changes changes) {
+        switch (operation.getType()) {
+            case CHECK_EXISTS:
+                checkExisted(path);
+                break;
+            case ADD:
+            case ADD_EPHEMERAL:
+                if (isExistedWithoutLock(path)) {
+                    throw new MemoryNodeException("Node '%s' already exists.", path);
+                }
+                checkExisted(path.substring(0, path.lastIndexOf('/')));
+                setNode(path, new MemoryNode(operation.getValue(), TransactionOperation.Type.ADD_EPHEMERAL == operation.getType() ? ephemeralOwner : null), changes);
+                break;
+            case UPDATE:
+                checkExisted(path);
+                setNode(path, new MemoryNode(operation.getValue(), nodes.get(path).getEphemeralOwner()), changes);
+                break;
+            case DELETE:
+                checkExisted(path);
+                if (!getDescendants(path).isEmpty()) {
+                    throw new MemoryNodeException("Node '%s' is not empty.", path);
+                }
+                removeNodes(path, changes);
+                break;
+            default:
+                throw new UnsupportedOperationException(operation.toString());
+        }
+    }
+    
+    private void checkExisted(final String path) {
+        if (!path.isEmpty() && !isExistedWithoutLock(path)) {
+            throw new MemoryNodeException("Node '%s' does not exist.", path);
+        }
+    }
+    
+    private void rollback(final Changes changes) {
+        for (Entry<String, MemoryNode> entry : changes.getOriginalNodes().entrySet()) {
+            if (null == entry.getValue()) {
+                nodes.remove(entry.getKey());
+            } else {
+                nodes.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+    
+    private void createParents(final String path, final Changes changes) {
+        int index = path.indexOf('/', 1);
+        while (index > 0) {
+            String parent = path.substring(0, index);
+            if (!nodes.containsKey(parent)) {
+                setNode(parent, new MemoryNode("", null), changes);
+            }
+            index = path.indexOf('/', index + 1);
+        }
+    }
+    
+    private void setNode(final String path, final MemoryNode node, final Changes changes) {
+        MemoryNode original = nodes.put(path, node);
+        changes.getOriginalNodes().putIfAbsent(path, original);
+        changes.getEvents().add(new DataChangedEvent(null == original ? Type.ADDED : Type.UPDATED, path, node.getValue()));
+    }
+    
+    private void removeNodes(final String path, final Changes changes) {
+        List<String> paths = new ArrayList<>(getDescendants(path).descendingKeySet());
+        if (nodes.containsKey(path)) {
+            paths.add(path);
+        }
+        for (String each : paths) {
+            MemoryNode original = nodes.remove(each);
+            changes.getOriginalNodes().putIfAbsent(each, original);
+            changes.getEvents().add(new DataChangedEvent(Type.DELETED, each, original.getValue()));
+        }
+    }
+    
+    private void fire(final Changes changes) {
+        for (DataChangedEvent event : changes.getEvents()) {
+            for (MemoryWatcher each : watchers) {
+                if (each.isWatched(event.getKey())) {
+                    fire(each, event);
+                }
+            }
+        }
+    }
+    
+    private void fire(final MemoryWatcher watcher, final DataChangedEvent event) {
+        try {
+            watcher.getExecutor().execute(() -> watcher.getListener().onChange(
+                    new DataChangedEvent(event.getType(), event.getKey().substring(watcher.getRootPath().length()), event.getValue())));
+        } catch (final RejectedExecutionException ex) {
+            log.warn("Elastic job: executor of watcher on '{}' rejected data changed event, drop the watcher.", watcher.getPath(), ex);
+            watchers.remove(watcher);
+        }
+    }
+    
+    void addWatcher(final MemoryWatcher watcher) {
+        watchers.add(watcher);
+    }
+    
+    void removeWatchers(final Collection<MemoryWatcher> watchers) {
+        this.watchers.removeAll(watchers);
+    }
+    
+    /**
+     * Execute callback exclusively among registry centers of this store.
+     *
+     * @param path full path of leader key
+     * @param callback callback of leader
+     */
+    void executeInLeader(final String path, final LeaderExecutionCallback callback) {
+        ReentrantLock lock = leaderLocks.computeIfAbsent(path, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            callback.execute();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class MemoryNode {
+        
+        private final String value;
+        
+        private final Object ephemeralOwner;
+    }
+    
+    @Getter
+    private static final class Changes {
+        
+        private final Map<String, MemoryNode> originalNodes = new LinkedHashMap<>();
+        
+        private final List<DataChangedEvent> events = new ArrayList<>();
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class MemoryWatcher {
+        
+        private final String path;
+        
+        private final String rootPath;
+        
+        private final DataChangedEventListener listener;
+        
+        private final Executor executor;
+        
+        boolean isWatched(final String eventPath) {
+            return eventPath.equals(path) || eventPath.startsWith(path + "/");
+        }
+    }
+}
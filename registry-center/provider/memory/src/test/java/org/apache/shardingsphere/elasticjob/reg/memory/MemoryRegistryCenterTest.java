@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.memory;
+
+import org.apache.shardingsphere.elasticjob.reg.base.transaction.TransactionOperation;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent.Type;
+import org.apache.shardingsphere.elasticjob.reg.memory.exception.MemoryNodeException;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MemoryRegistryCenterTest {
+    
+    private MemoryRegistryCenter regCenter;
+    
+    private MemoryRegistryCenter otherRegCenter;
+    
+    @BeforeEach
+    void setUp() {
+        String name = MemoryRegistryCenterTest.class.getName() + System.nanoTime();
+        regCenter = new MemoryRegistryCenter(new MemoryConfiguration(name, "namespace"));
+        regCenter.init();
+        otherRegCenter = new MemoryRegistryCenter(new MemoryConfiguration(name, "namespace"));
+        otherRegCenter.init();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        regCenter.close();
+        otherRegCenter.close();
+    }
+    
+    @Test
+    void assertPersistAndGet() {
+        regCenter.persist("/test/deep/nested", "deepNested");
+        assertThat(regCenter.get("/test/deep/nested"), is("deepNested"));
+        assertThat(otherRegCenter.getDirectly("/test/deep/nested"), is("deepNested"));
+        assertThat(regCenter.get("/test/deep"), is(""));
+        assertThat(regCenter.get("/test/notExisted"), nullValue());
+        assertTrue(regCenter.isExisted("/test"));
+        assertFalse(regCenter.isExisted("/test/notExisted"));
+    }
+    
+    @Test
+    void assertIsolateNamespace() {
+        MemoryRegistryCenter otherNamespaceRegCenter = new MemoryRegistryCenter(new MemoryConfiguration(regCenter.getMemoryConfig().getName(), "otherNamespace"));
+        otherNamespaceRegCenter.init();
+        regCenter.persist("/test", "test");
+        assertFalse(otherNamespaceRegCenter.isExisted("/test"));
+        otherNamespaceRegCenter.close();
+    }
+    
+    @Test
+    void assertGetChildren() {
+        regCenter.persist("/test/child1/leaf", "leaf1");
+        regCenter.persist("/test/child2", "");
+        regCenter.persist("/test/child3/leaf", "leaf3");
+        regCenter.persist("/test/child3/leaf/deep", "deep");
+        assertThat(regCenter.getChildrenKeys("/test"), is(Arrays.asList("child3", "child2", "child1")));
+        assertThat(regCenter.getNumChildren("/test"), is(3));
+        assertThat(regCenter.getChildrenData("/test", "leaf").size(), is(2));
+        assertThat(regCenter.getChildrenData("/test", "leaf").get("child3"), is("leaf3"));
+        assertTrue(regCenter.getChildrenKeys("/notExisted").isEmpty());
+    }
+    
+    @Test
+    void assertUpdate() {
+        regCenter.persist("/test", "test");
+        regCenter.update("/test", "updated");
+        regCenter.update("/notExisted", "updated");
+        assertThat(regCenter.get("/test"), is("updated"));
+        assertFalse(regCenter.isExisted("/notExisted"));
+    }
+    
+    @Test
+    void assertRemove() {
+        regCenter.persist("/test/child/leaf", "leaf");
+        regCenter.persist("/test_sibling", "sibling");
+        regCenter.remove("/test");
+        assertFalse(regCenter.isExisted("/test"));
+        assertFalse(regCenter.isExisted("/test/child/leaf"));
+        assertTrue(regCenter.isExisted("/test_sibling"));
+    }
+    
+    @Test
+    void assertRemoveEphemeralWhenClose() {
+        otherRegCenter.persistEphemeral("/test/ephemeral", "ephemeral");
+        otherRegCenter.persistEphemeralSequential("/test/sequential");
+        regCenter.persist("/test/persisted", "persisted");
+        assertThat(regCenter.getNumChildren("/test"), is(3));
+        otherRegCenter.close();
+        assertThat(regCenter.getChildrenKeys("/test"), is(Collections.singletonList("persisted")));
+    }
+    
+    @Test
+    void assertPersistSequential() {
+        assertThat(regCenter.persistSequential("/test/sequential", "first"), is("/test/sequential0000000000"));
+        assertThat(regCenter.persistSequential("/test/sequential", "second"), is("/test/sequential0000000001"));
+        assertThat(regCenter.get("/test/sequential0000000001"), is("second"));
+    }
+    
+    @Test
+    void assertExecuteInTransactionSucceeded() {
+        regCenter.persist("/test/deleted", "");
+        regCenter.persist("/test/updated", "");
+        regCenter.executeInTransaction(Arrays.asList(TransactionOperation.opCheckExists("/"), TransactionOperation.opAdd("/test/added", "added"),
+                TransactionOperation.opAddEphemeral("/test/ephemeral", "ephemeral"), TransactionOperation.opUpdate("/test/updated", "updated"), TransactionOperation.opDelete("/test/deleted")));
+        assertThat(otherRegCenter.get("/test/added"), is("added"));
+        assertThat(otherRegCenter.get("/test/updated"), is("updated"));
+        assertFalse(otherRegCenter.isExisted("/test/deleted"));
+        regCenter.close();
+        assertFalse(otherRegCenter.isExisted("/test/ephemeral"));
+        assertTrue(otherRegCenter.isExisted("/test/added"));
+    }
+    
+    @Test
+    void assertExecuteInTransactionFailed() {
+        regCenter.persist("/test/updated", "");
+        List<TransactionOperation> operations = Arrays.asList(TransactionOperation.opUpdate("/test/updated", "updated"), TransactionOperation.opAdd("/test/added", "added"),
+                TransactionOperation.opCheckExists("/test/notExisted"));
+        assertThrows(MemoryNodeException.class, () -> regCenter.executeInTransaction(operations));
+        assertThat(regCenter.get("/test/updated"), is(""));
+        assertFalse(regCenter.isExisted("/test/added"));
+    }
+    
+    @Test
+    void assertExecuteInTransactionFailedWhenAddWithoutParent() {
+        assertThrows(MemoryNodeException.class, () -> regCenter.executeInTransaction(Collections.singletonList(TransactionOperation.opAdd("/test/added", "added"))));
+    }
+    
+    @Test
+    void assertWatch() {
+        List<DataChangedEvent> events = new CopyOnWriteArrayList<>();
+        otherRegCenter.watch("/test", events::add, null);
+        regCenter.persist("/test/child", "added");
+        regCenter.update("/test/child", "updated");
+        regCenter.remove("/test");
+        regCenter.persist("/test_sibling", "sibling");
+        Awaitility.await().atMost(Duration.ofSeconds(5L)).until(() -> 5 == events.size());
+        assertThat(events.get(1).getKey(), is("/test/child"));
+        assertThat(events.get(1).getType(), is(Type.ADDED));
+        assertThat(events.get(2).getType(), is(Type.UPDATED));
+        assertThat(events.get(2).getValue(), is("updated"));
+        assertThat(events.get(3).getType(), is(Type.DELETED));
+        assertThat(events.get(4).getKey(), is("/test"));
+    }
+    
+    @Test
+    void assertWatchOnExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "watch-executor"));
+        List<String> threadNames = new CopyOnWriteArrayList<>();
+        regCenter.watch("/test", event -> threadNames.add(Thread.currentThread().getName()), executor);
+        regCenter.persist("/test", "");
+        Awaitility.await().atMost(Duration.ofSeconds(5L)).until(() -> !threadNames.isEmpty());
+        assertThat(threadNames.get(0), is("watch-executor"));
+        executor.shutdown();
+    }
+    
+    @Test
+    void assertWatchOnShutdownExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        AtomicInteger count = new AtomicInteger();
+        regCenter.watch("/test", event -> count.incrementAndGet(), executor);
+        regCenter.watch("/test", event -> count.incrementAndGet(), Runnable::run);
+        regCenter.persist("/test", "");
+        regCenter.persist("/test", "changed");
+        assertThat(regCenter.get("/test"), is("changed"));
+        assertThat(count.get(), is(2));
+    }
+    
+    @Test
+    void assertRemoveDataListeners() {
+        AtomicInteger count = new AtomicInteger();
+        regCenter.watch("/test", event -> count.incrementAndGet(), Runnable::run);
+        regCenter.removeDataListeners("/test");
+        regCenter.persist("/test", "");
+        assertThat(count.get(), is(0));
+    }
+    
+    @Test
+    void assertExecuteInLeader() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger concurrent = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        for (MemoryRegistryCenter each : Arrays.asList(regCenter, otherRegCenter)) {
+            executor.execute(() -> each.executeInLeader("/leader", () -> {
+                maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                sleep();
+                concurrent.decrementAndGet();
+            }));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5L, TimeUnit.SECONDS));
+        assertThat(maxConcurrent.get(), is(1));
+    }
+    
+    private static void sleep() {
+        try {
+            Thread.sleep(100L);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.zookeeper;
+
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.CuratorCacheStorage;
+
+import java.util.Collection;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Storage of the namespace-wide shared cache.
+ *
+ * <p>
+ * Only nodes of jobs whose name starts with one of the job name prefixes are stored, all nodes are stored if no prefix configured.
+ * Nodes are sorted by path, so that nodes under a path can be found without scanning the whole namespace.
+ * </p>
+ */
+final class SharedCacheStorage implements CuratorCacheStorage {
+    
+    private final NavigableMap<String, ChildData> dataMap = new ConcurrentSkipListMap<>();
+    
+    private final Collection<String> jobNamePrefixes;
+    
+    SharedCacheStorage(final Collection<String> jobNamePrefixes) {
+        this.jobNamePrefixes = jobNamePrefixes;
+    }
+    
+    /**
+     * Judge whether the path is stored.
+     *
+     * @param path path
+     * @return stored or not
+     */
+    boolean isStored(final String path) {
+        if (jobNamePrefixes.isEmpty()) {
+            return true;
+        }
+        String jobName = path.substring(1, path.indexOf('/', 1) < 0 ? path.length() : path.indexOf('/', 1));
+        return jobNamePrefixes.stream().anyMatch(jobName::startsWith);
+    }
+    
+    /**
+     * Stream nodes whose path starts with the prefix.
+     *
+     * @param prefix path prefix
+     * @return stream of nodes
+     */
+    Stream<ChildData> streamWithPrefix(final String prefix) {
+        return dataMap.subMap(prefix, prefix + Character.MAX_VALUE).values().stream();
+    }
+    
+    @Override
+    public Optional<ChildData> put(final ChildData data) {
+        return isStored(data.getPath()) ? Optional.ofNullable(dataMap.put(data.getPath(), data)) : Optional.empty();
+    }
+    
+    @Override
+    public Optional<ChildData> remove(final String path) {
+        return Optional.ofNullable(dataMap.remove(path));
+    }
+    
+    @Override
+    public void clear() {
+        dataMap.clear();
+    }
+    
+    @Override
+    public Optional<ChildData> get(final String path) {
+        return Optional.ofNullable(dataMap.get(path));
+    }
+    
+    @Override
+    public int size() {
+        return dataMap.size();
+    }
+    
+    @Override
+    public Stream<ChildData> stream() {
+        return dataMap.values().stream();
+    }
+}
@@ -85,4 +85,20 @@ public final class ZookeeperConfiguration {
      * @see org.apache.curator.framework.CuratorFrameworkFactory.Builder#ensembleTracker(boolean)
      */
     private boolean ensembleTracker = true;
+    
+    /**
+     * Whether to share one cache of the namespace among all jobs instead of one cache per job.
+     * It reduces watches and heap usage when one process hosts many jobs.
+     */
+    private boolean sharedCache;
+    
+    /**
+     * Job name prefixes of the shared cache.
+     *
+     * <p>
+     * Multiple prefixes split by comma.
+     * Only jobs whose name starts with one of the prefixes use the shared cache, all jobs use it if absent.
+     * </p>
+     */
+    private String sharedCacheJobNamePrefixes;
 }
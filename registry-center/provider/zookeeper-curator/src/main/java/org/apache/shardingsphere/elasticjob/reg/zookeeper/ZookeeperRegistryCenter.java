@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.elasticjob.reg.zookeeper;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
@@ -54,6 +56,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -61,6 +64,7 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
@@ -75,6 +79,15 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     
     private final Map<String, CuratorCache> caches = new ConcurrentHashMap<>();
     
+    /**
+     * Data listeners of shared cache, dispatched by the top level path of changed node.
+     */
+    private final Map<String, List<SharedCacheListener>> sharedCacheListeners = new ConcurrentHashMap<>();
+    
+    private SharedCacheStorage sharedCacheStorage;
+    
+    private volatile CuratorCache sharedCache;
+    
     /**
      * Data listener list.
      */
@@ -121,6 +134,11 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
                         }
                     });
         }
+        if (zkConfig.isSharedCache()) {
+            sharedCacheStorage = new SharedCacheStorage(Strings.isNullOrEmpty(zkConfig.getSharedCacheJobNamePrefixes())
+                    ? Collections.emptyList()
+                    : Splitter.on(',').trimResults().omitEmptyStrings().splitToList(zkConfig.getSharedCacheJobNamePrefixes()));
+        }
         client = builder.build();
         client.start();
         try {
@@ -140,6 +158,9 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         for (Entry<String, CuratorCache> each : caches.entrySet()) {
             each.getValue().close();
         }
+        if (null != sharedCache) {
+            sharedCache.close();
+        }
         waitForCacheClose();
         CloseableUtils.closeQuietly(client);
     }
@@ -166,9 +187,10 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     }
     
     private CuratorCache findCuratorCache(final String key) {
-        for (Entry<String, CuratorCache> entry : caches.entrySet()) {
-            if (key.startsWith(entry.getKey())) {
-                return entry.getValue();
+        for (int i = key.lastIndexOf('/'); i >= 0; i = key.lastIndexOf('/', i - 1)) {
+            CuratorCache result = caches.get(key.substring(0, i + 1));
+            if (null != result) {
+                return result;
             }
         }
         return null;
@@ -200,6 +222,36 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
         }
     }
     
+    @Override
+    public Map<String, String> getChildrenData(final String key, final String leafName) {
+        CuratorCache cache = findCuratorCache(key + "/");
+        if (null == cache) {
+            return getChildrenDataDirectly(key, leafName);
+        }
+        String prefix = key + "/";
+        String suffix = "/" + leafName;
+        Map<String, String> result = new HashMap<>();
+        (cache == sharedCache ? sharedCacheStorage.streamWithPrefix(prefix) : cache.stream()).filter(each -> isLeafOfChild(each.getPath(), prefix, suffix))
+                .forEach(each -> result.put(each.getPath().substring(prefix.length(), each.getPath().length() - suffix.length()),
+                        null == each.getData() ? "" : new String(each.getData(), StandardCharsets.UTF_8)));
+        return result;
+    }
+    
+    private boolean isLeafOfChild(final String path, final String prefix, final String suffix) {
+        return path.length() > prefix.length() + suffix.length() && path.startsWith(prefix) && path.endsWith(suffix) && path.indexOf('/', prefix.length()) == path.length() - suffix.length();
+    }
+    
+    private Map<String, String> getChildrenDataDirectly(final String key, final String leafName) {
+        Map<String, String> result = new HashMap<>();
+        for (String each : getChildrenKeys(key)) {
+            String data = getDirectly(key + "/" + each + "/" + leafName);
+            if (null != data) {
+                result.put(each, data);
+            }
+        }
+        return result;
+    }
+    
     @Override
     public int getNumChildren(final String key) {
         try {
@@ -370,6 +422,8 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
                     return transactionOp.check().forPath(each.getKey());
                 case ADD:
                     return transactionOp.create().forPath(each.getKey(), each.getValue().getBytes(StandardCharsets.UTF_8));
+                case ADD_EPHEMERAL:
+                    return transactionOp.create().withMode(CreateMode.EPHEMERAL).forPath(each.getKey(), each.getValue().getBytes(StandardCharsets.UTF_8));
                 case UPDATE:
                     return transactionOp.setData().forPath(each.getKey(), each.getValue().getBytes(StandardCharsets.UTF_8));
                 case DELETE:
@@ -386,6 +440,10 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     
     @Override
     public void addCacheData(final String cachePath) {
+        if (isSharedCacheable(cachePath)) {
+            caches.put(cachePath + "/", getOrCreateSharedCache());
+            return;
+        }
         CuratorCache cache = CuratorCache.build(client, cachePath);
         try {
             cache.start();
@@ -400,11 +458,51 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     @Override
     public void evictCacheData(final String cachePath) {
         CuratorCache cache = caches.remove(cachePath + "/");
-        if (null != cache) {
+        if (null != cache && cache != sharedCache) {
             cache.close();
         }
     }
     
+    private boolean isSharedCacheable(final String cachePath) {
+        return null != sharedCacheStorage && cachePath.lastIndexOf('/') == 0 && cachePath.length() > 1 && sharedCacheStorage.isStored(cachePath);
+    }
+    
+    private synchronized CuratorCache getOrCreateSharedCache() {
+        if (null != sharedCache) {
+            return sharedCache;
+        }
+        CuratorCache result = CuratorCache.builder(client, "/").withStorage(sharedCacheStorage).build();
+        result.listenable().addListener(this::dispatchSharedCacheEvent);
+        try {
+            result.start();
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            RegExceptionHandler.handleException(ex);
+        }
+        sharedCache = result;
+        return result;
+    }
+    
+    private void dispatchSharedCacheEvent(final CuratorCacheListener.Type type, final ChildData oldData, final ChildData newData) {
+        ChildData data = null == newData ? oldData : newData;
+        if (null == data || data.getPath().length() < 2) {
+            return;
+        }
+        int topLevelEnd = data.getPath().indexOf('/', 1);
+        List<SharedCacheListener> listeners = sharedCacheListeners.get(topLevelEnd < 0 ? data.getPath() : data.getPath().substring(0, topLevelEnd));
+        if (null == listeners) {
+            return;
+        }
+        for (SharedCacheListener each : listeners) {
+            if (null == each.getExecutor()) {
+                each.getListener().event(type, oldData, newData);
+            } else {
+                each.getExecutor().execute(() -> each.getListener().event(type, oldData, newData));
+            }
+        }
+    }
+    
     @Override
     public Object getRawCache(final String cachePath) {
         return caches.get(cachePath + "/");
@@ -438,7 +536,9 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
             byte[] data = Type.DELETED == type ? oldData.getData() : newData.getData();
             listener.onChange(new DataChangedEvent(type, path, null == data ? "" : new String(data, StandardCharsets.UTF_8)));
         };
-        if (executor != null) {
+        if (cache == sharedCache) {
+            sharedCacheListeners.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(new SharedCacheListener(cacheListener, executor));
+        } else if (executor != null) {
             cache.listenable().addListener(cacheListener, executor);
         } else {
             cache.listenable().addListener(cacheListener);
@@ -449,7 +549,8 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
     @Override
     public void removeDataListeners(final String key) {
         final CuratorCache cache = caches.get(key + "/");
-        if (Objects.isNull(cache)) {
+        if (Objects.isNull(cache) || cache == sharedCache) {
+            sharedCacheListeners.remove(key);
             dataListeners.remove(key);
             return;
         }
@@ -489,4 +590,13 @@ public final class ZookeeperRegistryCenter implements CoordinatorRegistryCenter
             throw new RegException(ex);
         }
     }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class SharedCacheListener {
+        
+        private final CuratorCacheListener listener;
+        
+        private final Executor executor;
+    }
 }
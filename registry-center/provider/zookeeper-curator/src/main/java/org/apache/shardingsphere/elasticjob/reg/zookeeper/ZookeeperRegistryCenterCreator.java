@@ -28,7 +28,7 @@ public final class ZookeeperRegistryCenterCreator implements RegistryCenterCreat
     
     @Override
     public boolean supports(final String connectString) {
-        return !connectString.startsWith("http://") && !connectString.startsWith("https://");
+        return !connectString.startsWith("http://") && !connectString.startsWith("https://") && !connectString.startsWith("memory://");
     }
     
     @Override
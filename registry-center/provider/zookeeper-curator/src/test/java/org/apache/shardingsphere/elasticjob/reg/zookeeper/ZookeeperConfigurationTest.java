@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 class ZookeeperConfigurationTest {
     
@@ -34,5 +35,6 @@ class ZookeeperConfigurationTest {
         assertThat(zkConfig.getBaseSleepTimeMilliseconds(), is(1000));
         assertThat(zkConfig.getMaxSleepTimeMilliseconds(), is(3000));
         assertThat(zkConfig.getMaxRetries(), is(3));
+        assertFalse(zkConfig.isSharedCache());
     }
 }
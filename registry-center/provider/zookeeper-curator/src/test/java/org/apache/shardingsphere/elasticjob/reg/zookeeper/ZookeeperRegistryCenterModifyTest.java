@@ -86,6 +86,20 @@ class ZookeeperRegistryCenterModifyTest {
         zkRegCenter.init();
     }
     
+    @Test
+    void assertUpdateEphemeral() throws Exception {
+        zkRegCenter.persistEphemeral("/ephemeral_update", "before_update");
+        zkRegCenter.updateEphemeral("/ephemeral_update", "after_update");
+        assertThat(zkRegCenter.getDirectly("/ephemeral_update"), is("after_update"));
+        zkRegCenter.close();
+        try (CuratorFramework client = CuratorFrameworkFactory.newClient(EMBED_TESTING_SERVER.getConnectionString(), new RetryOneTime(2000))) {
+            client.start();
+            client.blockUntilConnected();
+            assertNull(client.checkExists().forPath("/" + ZookeeperRegistryCenterModifyTest.class.getName() + "/ephemeral_update"));
+        }
+        zkRegCenter.init();
+    }
+    
     @Test
     void assertPersistSequential() throws Exception {
         assertThat(zkRegCenter.persistSequential("/sequential/test_sequential", "test_value"), startsWith("/sequential/test_sequential"));
@@ -17,15 +17,25 @@
 
 package org.apache.shardingsphere.elasticjob.reg.zookeeper;
 
+import org.apache.curator.framework.recipes.cache.ChildData;
+import org.apache.curator.framework.recipes.cache.CuratorCache;
 import org.apache.shardingsphere.elasticjob.reg.zookeeper.env.RegistryCenterEnvironmentPreparer;
 import org.apache.shardingsphere.elasticjob.test.util.EmbedTestingServer;
+import org.apache.shardingsphere.elasticjob.test.util.ReflectionUtils;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ZookeeperRegistryCenterQueryWithCacheTest {
     
@@ -59,4 +69,25 @@ class ZookeeperRegistryCenterQueryWithCacheTest {
         assertThat(zkRegCenter.get("/test"), is("test"));
         assertThat(zkRegCenter.get("/test/deep/nested"), is("deepNested"));
     }
+    
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertGetFromMostSpecificCache() {
+        CuratorCache deepCache = mock(CuratorCache.class);
+        when(deepCache.get("/test/deep/nested")).thenReturn(Optional.of(new ChildData("/test/deep/nested", null, "fromDeepCache".getBytes(StandardCharsets.UTF_8))));
+        Map<String, CuratorCache> caches = (Map<String, CuratorCache>) ReflectionUtils.getFieldValue(zkRegCenter, "caches");
+        caches.put("/test/deep/", deepCache);
+        try {
+            assertThat(zkRegCenter.get("/test/deep/nested"), is("fromDeepCache"));
+            assertThat(zkRegCenter.get("/test/child"), is("child"));
+        } finally {
+            caches.remove("/test/deep/");
+        }
+    }
+    
+    @Test
+    void assertGetChildrenDataFromCache() {
+        assertThat(zkRegCenter.getChildrenData("/test", "nested"), is(Collections.singletonMap("deep", "deepNested")));
+        assertThat(zkRegCenter.getChildrenData("/test", "notExisted"), is(Collections.<String, String>emptyMap()));
+    }
 }
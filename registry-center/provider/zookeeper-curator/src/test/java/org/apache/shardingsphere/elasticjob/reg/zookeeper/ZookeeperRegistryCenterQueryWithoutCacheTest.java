@@ -68,6 +68,13 @@ class ZookeeperRegistryCenterQueryWithoutCacheTest {
         assertThat(zkRegCenter.getChildrenKeys("/test/notExisted"), is(Collections.<String>emptyList()));
     }
     
+    @Test
+    void assertGetChildrenData() {
+        assertThat(zkRegCenter.getChildrenData("/test", "nested"), is(Collections.singletonMap("deep", "deepNested")));
+        assertThat(zkRegCenter.getChildrenData("/test", "notExisted"), is(Collections.<String, String>emptyMap()));
+        assertThat(zkRegCenter.getChildrenData("/test/notExisted", "nested"), is(Collections.<String, String>emptyMap()));
+    }
+    
     @Test
     void assertGetNumChildren() {
         assertThat(zkRegCenter.getNumChildren("/test"), is(2));
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.reg.zookeeper;
+
+import org.apache.curator.framework.recipes.cache.CuratorCache;
+import org.apache.shardingsphere.elasticjob.reg.listener.DataChangedEvent;
+import org.apache.shardingsphere.elasticjob.test.util.EmbedTestingServer;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ZookeeperRegistryCenterSharedCacheTest {
+    
+    private static final EmbedTestingServer EMBED_TESTING_SERVER = new EmbedTestingServer();
+    
+    private static ZookeeperRegistryCenter zkRegCenter;
+    
+    @BeforeAll
+    static void setUp() {
+        EMBED_TESTING_SERVER.start();
+        ZookeeperConfiguration zookeeperConfiguration = new ZookeeperConfiguration(EMBED_TESTING_SERVER.getConnectionString(), ZookeeperRegistryCenterSharedCacheTest.class.getName());
+        zookeeperConfiguration.setConnectionTimeoutMilliseconds(30000);
+        zookeeperConfiguration.setSharedCache(true);
+        zookeeperConfiguration.setSharedCacheJobNamePrefixes("shared_, cached_");
+        zkRegCenter = new ZookeeperRegistryCenter(zookeeperConfiguration);
+        zkRegCenter.init();
+        zkRegCenter.persist("/shared_job_0/sharding/0/instance", "host0@-@0");
+        zkRegCenter.persist("/shared_job_0/sharding/1/instance", "host0@-@1");
+        zkRegCenter.persist("/shared_job_1/sharding/0/instance", "host1@-@0");
+        zkRegCenter.persist("/shared_job_0/config", "config");
+        zkRegCenter.persist("/shared_job_1/config", "config");
+        zkRegCenter.persist("/cached_job/config", "config");
+        zkRegCenter.persist("/other_job/config", "config");
+        zkRegCenter.addCacheData("/shared_job_0");
+        zkRegCenter.addCacheData("/shared_job_1");
+        zkRegCenter.addCacheData("/cached_job");
+        zkRegCenter.addCacheData("/other_job");
+        CuratorCache sharedCache = (CuratorCache) zkRegCenter.getRawCache("/shared_job_0");
+        Awaitility.await().atMost(10L, TimeUnit.SECONDS).until(() -> sharedCache.get("/shared_job_1/config").isPresent() && sharedCache.get("/shared_job_0/config").isPresent());
+    }
+    
+    @AfterAll
+    static void tearDown() {
+        zkRegCenter.close();
+    }
+    
+    @Test
+    void assertShareCacheByJobNamePrefixes() {
+        assertThat(zkRegCenter.getRawCache("/shared_job_0"), sameInstance(zkRegCenter.getRawCache("/shared_job_1")));
+        assertThat(zkRegCenter.getRawCache("/shared_job_0"), sameInstance(zkRegCenter.getRawCache("/cached_job")));
+        assertThat(zkRegCenter.getRawCache("/shared_job_0"), not(sameInstance(zkRegCenter.getRawCache("/other_job"))));
+    }
+    
+    @Test
+    void assertGetFromSharedCache() {
+        assertThat(zkRegCenter.getChildrenData("/shared_job_0/sharding", "instance").size(), is(2));
+        assertThat(zkRegCenter.get("/shared_job_0/sharding/1/instance"), is("host0@-@1"));
+        assertThat(zkRegCenter.getChildrenData("/shared_job_1/sharding", "instance"), is(Collections.singletonMap("0", "host1@-@0")));
+    }
+    
+    @Test
+    @Timeout(value = 10000L, unit = TimeUnit.MILLISECONDS)
+    void assertWatchDispatchedByJob() throws InterruptedException {
+        List<DataChangedEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch waitingForCountDownValue = new CountDownLatch(1);
+        zkRegCenter.watch("/shared_job_1", event -> {
+            events.add(event);
+            if (DataChangedEvent.Type.UPDATED == event.getType() && "countDown".equals(event.getValue())) {
+                waitingForCountDownValue.countDown();
+            }
+        }, null);
+        zkRegCenter.update("/shared_job_0/config", "ignored");
+        zkRegCenter.update("/shared_job_1/config", "countDown");
+        waitingForCountDownValue.await();
+        assertTrue(events.stream().allMatch(each -> each.getKey().startsWith("/shared_job_1")));
+        zkRegCenter.removeDataListeners("/shared_job_1");
+    }
+}
@@ -29,6 +29,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -63,6 +64,16 @@ class ZookeeperRegistryCenterTransactionTest {
         assertThat(zkRegCenter.getDirectly("/test/transaction"), is("transaction"));
     }
     
+    @Test
+    void assertExecuteInTransactionWithEphemeralNode() throws Exception {
+        List<TransactionOperation> operations = new ArrayList<>(2);
+        operations.add(TransactionOperation.opCheckExists("/test"));
+        operations.add(TransactionOperation.opAddEphemeral("/test/ephemeral_transaction", "transaction"));
+        zkRegCenter.executeInTransaction(operations);
+        assertThat(zkRegCenter.getDirectly("/test/ephemeral_transaction"), is("transaction"));
+        assertThat(zkRegCenter.getClient().checkExists().forPath("/test/ephemeral_transaction").getEphemeralOwner(), not(0L));
+    }
+    
     @Test
     void assertExecuteInTransactionFailed() throws Exception {
         List<TransactionOperation> operations = new ArrayList<>(3);
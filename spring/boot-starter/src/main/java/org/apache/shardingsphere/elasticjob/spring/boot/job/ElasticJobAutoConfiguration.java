@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.elasticjob.spring.boot.job;
 
+import org.apache.shardingsphere.elasticjob.spring.boot.metrics.ElasticJobMetricsConfiguration;
 import org.apache.shardingsphere.elasticjob.spring.boot.reg.ElasticJobRegistryCenterConfiguration;
 import org.apache.shardingsphere.elasticjob.spring.boot.reg.snapshot.ElasticJobSnapshotServiceConfiguration;
 import org.apache.shardingsphere.elasticjob.spring.boot.tracing.ElasticJobTracingConfiguration;
@@ -33,7 +34,7 @@ import org.springframework.context.annotation.Import;
 @Configuration(proxyBeanMethods = false)
 @AutoConfigureAfter(DataSourceAutoConfiguration.class)
 @ConditionalOnProperty(name = "elasticjob.enabled", havingValue = "true", matchIfMissing = true)
-@Import({ElasticJobRegistryCenterConfiguration.class, ElasticJobTracingConfiguration.class, ElasticJobSnapshotServiceConfiguration.class})
+@Import({ElasticJobRegistryCenterConfiguration.class, ElasticJobTracingConfiguration.class, ElasticJobSnapshotServiceConfiguration.class, ElasticJobMetricsConfiguration.class})
 @EnableConfigurationProperties(ElasticJobProperties.class)
 public class ElasticJobAutoConfiguration {
     
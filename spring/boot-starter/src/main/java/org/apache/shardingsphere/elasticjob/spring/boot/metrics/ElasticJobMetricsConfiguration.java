@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.spring.boot.metrics;
+
+import org.apache.shardingsphere.elasticjob.kernel.metrics.ElasticJobMeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Metrics configuration.
+ */
+@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+@ConditionalOnProperty(name = "elasticjob.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ElasticJobMetricsConfiguration {
+    
+    /**
+     * Create a meter binder bean, which is bound to the meter registry by spring boot actuator.
+     *
+     * @return a bean of meter binder
+     */
+    @Bean(destroyMethod = "close")
+    public ElasticJobMeterBinder elasticJobMeterBinder() {
+        return new ElasticJobMeterBinder();
+    }
+}
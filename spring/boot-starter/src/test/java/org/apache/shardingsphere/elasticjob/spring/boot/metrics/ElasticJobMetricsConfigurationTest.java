@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.spring.boot.metrics;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.shardingsphere.elasticjob.kernel.metrics.ElasticJobMeterBinder;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.FilteredClassLoader;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class ElasticJobMetricsConfigurationTest {
+    
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner().withUserConfiguration(ElasticJobMetricsConfiguration.class);
+    
+    @Test
+    void assertMeterBinderCreated() {
+        contextRunner.run(context -> assertNotNull(context.getBean(ElasticJobMeterBinder.class)));
+    }
+    
+    @Test
+    void assertMeterBinderNotCreatedWhenDisabled() {
+        contextRunner.withPropertyValues("elasticjob.metrics.enabled=false").run(context -> assertThat(context.getBeansOfType(ElasticJobMeterBinder.class).isEmpty(), is(true)));
+    }
+    
+    @Test
+    void assertMeterBinderNotCreatedWithoutMicrometer() {
+        contextRunner.withClassLoader(new FilteredClassLoader(MeterBinder.class)).run(context -> assertThat(context.getBeansOfType(ElasticJobMeterBinder.class).isEmpty(), is(true)));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.test.benchmark;
+
+import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.kernel.infra.yaml.YamlEngine;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.ConfigurationService;
+import org.apache.shardingsphere.elasticjob.kernel.internal.config.JobConfigurationPOJO;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.test.benchmark.fixture.BenchmarkRegistryCenterType;
+import org.apache.shardingsphere.elasticjob.test.benchmark.fixture.NoopSimpleJob;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for job configuration loading and YAML parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationBenchmark {
+    
+    private static final String JOB_NAME = "benchmark_configuration";
+    
+    @Param({"MEMORY", "ZOOKEEPER"})
+    private BenchmarkRegistryCenterType registryCenterType;
+    
+    private CoordinatorRegistryCenter regCenter;
+    
+    private ConfigurationService configService;
+    
+    private JobConfigurationPOJO jobConfigPOJO;
+    
+    private String jobConfigYaml;
+    
+    /**
+     * Persist job configuration.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        regCenter = registryCenterType.createRegistryCenter("elasticjob_benchmark_" + System.nanoTime());
+        regCenter.addCacheData("/" + JOB_NAME);
+        configService = new ConfigurationService(regCenter, JOB_NAME);
+        JobConfiguration jobConfig = JobConfiguration.newBuilder(JOB_NAME, 10).cron("0/5 * * * * ?").shardingItemParameters("0=a,1=b,2=c,3=d,4=e,5=f,6=g,7=h,8=i,9=j")
+                .jobParameter("benchmark").failover(true).misfire(true).setProperty("key", "value").overwrite(true).build();
+        configService.setUpJobConfiguration(NoopSimpleJob.class.getName(), jobConfig);
+        jobConfigPOJO = JobConfigurationPOJO.fromJobConfiguration(jobConfig);
+        jobConfigYaml = YamlEngine.marshal(jobConfigPOJO);
+    }
+    
+    /**
+     * Close registry center.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        regCenter.close();
+    }
+    
+    /**
+     * Load job configuration from registry center cache.
+     *
+     * @return job configuration
+     */
+    @Benchmark
+    public JobConfiguration loadFromCache() {
+        return configService.load(true);
+    }
+    
+    /**
+     * Load job configuration from registry center directly.
+     *
+     * @return job configuration
+     */
+    @Benchmark
+    public JobConfiguration loadDirectly() {
+        return configService.load(false);
+    }
+    
+    /**
+     * Marshal job configuration to YAML.
+     *
+     * @return YAML content
+     */
+    @Benchmark
+    public String marshal() {
+        return YamlEngine.marshal(jobConfigPOJO);
+    }
+    
+    /**
+     * Unmarshal job configuration from YAML.
+     *
+     * @return job configuration
+     */
+    @Benchmark
+    public JobConfigurationPOJO unmarshal() {
+        return YamlEngine.unmarshal(jobConfigYaml, JobConfigurationPOJO.class);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.test.benchmark;
+
+import org.apache.shardingsphere.elasticjob.api.JobConfiguration;
+import org.apache.shardingsphere.elasticjob.kernel.executor.ElasticJobExecutor;
+import org.apache.shardingsphere.elasticjob.kernel.executor.facade.ShardingJobFacade;
+import org.apache.shardingsphere.elasticjob.kernel.internal.schedule.JobScheduler;
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.test.benchmark.fixture.BenchmarkRegistryCenterType;
+import org.apache.shardingsphere.elasticjob.test.benchmark.fixture.NoopSimpleJob;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for trigger to completion overhead of one job execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobExecutionBenchmark {
+    
+    private static final String JOB_NAME = "benchmark_job_execution";
+    
+    @Param({"MEMORY", "ZOOKEEPER"})
+    private BenchmarkRegistryCenterType registryCenterType;
+    
+    @Param({"1", "10", "100"})
+    private int shardingTotalCount;
+    
+    private CoordinatorRegistryCenter regCenter;
+    
+    private JobScheduler jobScheduler;
+    
+    private ElasticJobExecutor jobExecutor;
+    
+    /**
+     * Register job and create executor.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        regCenter = registryCenterType.createRegistryCenter("elasticjob_benchmark_" + System.nanoTime());
+        JobConfiguration jobConfig = JobConfiguration.newBuilder(JOB_NAME, shardingTotalCount).overwrite(true).build();
+        jobScheduler = new JobScheduler(regCenter, new NoopSimpleJob(), jobConfig);
+        jobExecutor = new ElasticJobExecutor(new NoopSimpleJob(), jobConfig, new ShardingJobFacade(regCenter, JOB_NAME, Collections.emptyList(), null));
+    }
+    
+    /**
+     * Shutdown job and registry center.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jobExecutor.shutdown();
+        jobScheduler.shutdown();
+        regCenter.close();
+    }
+    
+    /**
+     * Execute job once, including sharding, execution registration and completion.
+     */
+    @Benchmark
+    public void execute() {
+        jobExecutor.execute();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.test.benchmark;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.JobInstance;
+import org.apache.shardingsphere.elasticjob.kernel.internal.sharding.strategy.JobShardingStrategy;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for job sharding strategies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JobShardingStrategyBenchmark {
+    
+    private static final String JOB_NAME = "benchmark_sharding_strategy";
+    
+    @Param({"AVG_ALLOCATION", "ODEVITY", "ROUND_ROBIN", "SINGLE_SHARDING_BALANCE"})
+    private String jobShardingStrategyType;
+    
+    @Param({"10", "100", "1000", "10000"})
+    private int shardingTotalCount;
+    
+    @Param({"1", "10", "100", "500"})
+    private int instanceCount;
+    
+    private JobShardingStrategy jobShardingStrategy;
+    
+    private List<JobInstance> jobInstances;
+    
+    /**
+     * Create strategy and job instances.
+     */
+    @Setup
+    public void setUp() {
+        jobShardingStrategy = TypedSPILoader.getService(JobShardingStrategy.class, jobShardingStrategyType);
+        jobInstances = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            jobInstances.add(new JobInstance(String.format("192.168.%d.%d%s%d", i / 256, i % 256, JobInstance.DELIMITER, 1000 + i), null, String.format("192.168.%d.%d", i / 256, i % 256)));
+        }
+    }
+    
+    /**
+     * Assign all sharding items to job instances.
+     *
+     * @return sharding result
+     */
+    @Benchmark
+    public Map<JobInstance, List<Integer>> sharding() {
+        return jobShardingStrategy.sharding(jobInstances, JOB_NAME, shardingTotalCount);
+    }
+}
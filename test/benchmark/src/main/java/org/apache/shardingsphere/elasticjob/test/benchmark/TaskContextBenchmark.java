@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.test.benchmark;
+
+import org.apache.shardingsphere.elasticjob.kernel.internal.context.TaskContext;
+import org.apache.shardingsphere.elasticjob.kernel.internal.context.TaskContext.MetaInfo;
+import org.apache.shardingsphere.elasticjob.spi.executor.ExecutionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmark for task context ID building and parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskContextBenchmark {
+    
+    private static final String JOB_NAME = "benchmark_task_context";
+    
+    @Param({"1", "10", "100"})
+    private int shardingItemCount;
+    
+    private List<Integer> shardingItems;
+    
+    private String taskId;
+    
+    private String metaInfo;
+    
+    /**
+     * Prepare sharding items and task ID.
+     */
+    @Setup
+    public void setUp() {
+        shardingItems = IntStream.range(0, shardingItemCount).boxed().collect(Collectors.toList());
+        TaskContext taskContext = new TaskContext(JOB_NAME, shardingItems, ExecutionType.READY);
+        taskId = taskContext.getId();
+        metaInfo = taskContext.getMetaInfo().toString();
+    }
+    
+    /**
+     * Build task ID.
+     *
+     * @return task ID
+     */
+    @Benchmark
+    public String buildId() {
+        return new TaskContext(JOB_NAME, shardingItems, ExecutionType.READY).getId();
+    }
+    
+    /**
+     * Parse task ID.
+     *
+     * @return task context
+     */
+    @Benchmark
+    public TaskContext parseId() {
+        return TaskContext.from(taskId);
+    }
+    
+    /**
+     * Parse task meta info.
+     *
+     * @return task meta info
+     */
+    @Benchmark
+    public MetaInfo parseMetaInfo() {
+        return MetaInfo.from(metaInfo);
+    }
+}
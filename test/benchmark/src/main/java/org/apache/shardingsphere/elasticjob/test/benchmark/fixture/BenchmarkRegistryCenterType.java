@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.elasticjob.test.benchmark.fixture;
+
+import org.apache.shardingsphere.elasticjob.reg.base.CoordinatorRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.memory.MemoryConfiguration;
+import org.apache.shardingsphere.elasticjob.reg.memory.MemoryRegistryCenter;
+import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperConfiguration;
+import org.apache.shardingsphere.elasticjob.reg.zookeeper.ZookeeperRegistryCenter;
+import org.apache.shardingsphere.elasticjob.test.util.EmbedTestingServer;
+
+/**
+ * Registry center type for benchmarks.
+ */
+public enum BenchmarkRegistryCenterType {
+    
+    ZOOKEEPER {
+        
+        @Override
+        public CoordinatorRegistryCenter createRegistryCenter(final String namespace) {
+            EMBED_TESTING_SERVER.start();
+            CoordinatorRegistryCenter result = new ZookeeperRegistryCenter(new ZookeeperConfiguration(EMBED_TESTING_SERVER.getConnectionString(), namespace));
+            result.init();
+            return result;
+        }
+    },
+    
+    MEMORY {
+        
+        @Override
+        public CoordinatorRegistryCenter createRegistryCenter(final String namespace) {
+            CoordinatorRegistryCenter result = new MemoryRegistryCenter(new MemoryConfiguration("benchmark", namespace));
+            result.init();
+            return result;
+        }
+    };
+    
+    private static final EmbedTestingServer EMBED_TESTING_SERVER = new EmbedTestingServer();
+    
+    /**
+     * Create and initialize registry center.
+     *
+     * @param namespace namespace
+     * @return registry center
+     */
+    public abstract CoordinatorRegistryCenter createRegistryCenter(String namespace);
+}